@@ -0,0 +1,21 @@
+package com.mantimetrics.git;
+
+/**
+ * Source of the per-release commit history (flag --git-backend).
+ */
+public enum GitBackend {
+    /** Commit ranges and details fetched from the GitHub REST API. */
+    API,
+    /** Commit ranges and diffs computed from a local bare mirror of the repository. */
+    LOCAL;
+
+    /**
+     * Parses a CLI token into a backend (defaults to API).
+     *
+     * @param raw raw value provided by the user
+     * @return matching backend
+     */
+    public static GitBackend fromCli(String raw) {
+        return raw != null && raw.trim().equalsIgnoreCase("local") ? LOCAL : API;
+    }
+}
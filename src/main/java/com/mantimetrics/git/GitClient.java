@@ -1,7 +1,9 @@
 package com.mantimetrics.git;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -15,14 +17,21 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Low-level GitHub API client with retry and rate-limit handling.
+ * Every request goes through a {@link GitRateGovernor} shared with the other GitHub clients, so the
+ * rate-limit budget reported by any response paces all threads and a pause observed by one thread is
+ * honoured by all the others instead of each worker burning its own retries.
+ * With a {@link GitResponseCache}, JSON-tree requests are sent as conditional requests and a
+ * {@code 304 Not Modified} answer is served from the cached body.
  */
 class GitClient {
     private static final int MAX_R = 5;
     private static final Logger LOG = LoggerFactory.getLogger(GitClient.class);
 
     final OkHttpClient http;
+    final GitRateGovernor rateGovernor;
     private final ObjectMapper json = new ObjectMapper();
     private final String token;
+    private final GitResponseCache responseCache;
 
     /**
      * Creates a GitHub API client configured with the provided personal access token.
@@ -30,7 +39,30 @@ class GitClient {
      * @param token GitHub personal access token
      */
     GitClient(String token) {
+        this(token, null);
+    }
+
+    /**
+     * Creates a GitHub API client that revalidates cached responses with {@code If-None-Match}.
+     *
+     * @param token GitHub personal access token
+     * @param responseCache cache of {@code ETag}-tagged responses, or {@code null} to disable conditional requests
+     */
+    GitClient(String token, GitResponseCache responseCache) {
+        this(token, responseCache, new GitRateGovernor());
+    }
+
+    /**
+     * Creates a GitHub API client pacing its requests through a shared rate-limit governor.
+     *
+     * @param token GitHub personal access token
+     * @param responseCache cache of {@code ETag}-tagged responses, or {@code null} to disable conditional requests
+     * @param rateGovernor rate-limit governor shared by every client using the same token
+     */
+    GitClient(String token, GitResponseCache responseCache, GitRateGovernor rateGovernor) {
         this.token = token;
+        this.responseCache = responseCache;
+        this.rateGovernor = rateGovernor;
         this.http = new OkHttpClient.Builder()
                 .connectTimeout(Duration.ofSeconds(30))
                 .readTimeout(Duration.ofSeconds(60))
@@ -41,7 +73,8 @@ class GitClient {
     }
 
     /**
-     * Performs a GitHub API GET request and parses the JSON response.
+     * Performs a GitHub API GET request and parses the JSON response. When a response cache is configured
+     * the request carries the cached {@code ETag}, and an unchanged resource is served from the cache.
      *
      * @param path fully qualified GitHub API URL
      * @return parsed JSON response
@@ -49,18 +82,78 @@ class GitClient {
      * @throws InterruptedException when the thread is interrupted while waiting to retry
      */
     JsonNode getApi(String path) throws IOException, InterruptedException {
+        JsonNode node = execute(path, parser -> json.readTree(parser), responseCache != null);
+        return node != null ? node : MissingNode.getInstance();
+    }
+
+    /**
+     * Performs a GitHub API GET request and decodes the response while its body is streamed, without
+     * buffering it as a string or a JSON tree.
+     *
+     * @param path fully qualified GitHub API URL
+     * @param reader decoder of the response body
+     * @param <T> decoded value type
+     * @return decoded response
+     * @throws IOException when the request fails permanently, returns a non-retriable error or cannot be decoded
+     * @throws InterruptedException when the thread is interrupted while waiting to retry
+     */
+    <T> T getApi(String path, JsonBodyReader<T> reader) throws IOException, InterruptedException {
+        return execute(path, reader, false);
+    }
+
+    /**
+     * Number of requests answered with {@code 304 Not Modified} and served from the response cache.
+     *
+     * @return requests that did not consume primary rate limit
+     */
+    long revalidatedRequests() {
+        return responseCache == null ? 0 : responseCache.revalidatedRequests();
+    }
+
+    /**
+     * Executes a GET request with retries and decodes the successful response.
+     *
+     * @param path fully qualified GitHub API URL
+     * @param reader decoder of the response body
+     * @param conditional whether the response goes through the {@code ETag} cache
+     * @param <T> decoded value type
+     * @return decoded response
+     * @throws IOException when the request fails permanently, returns a non-retriable error or cannot be decoded
+     * @throws InterruptedException when the thread is interrupted while waiting to retry
+     */
+    <T> T execute(String path, JsonBodyReader<T> reader, boolean conditional)
+            throws IOException, InterruptedException {
         for (int attempt = 0; attempt < MAX_R; attempt++) {
-            Request request = new Request.Builder()
+            rateGovernor.acquire();
+            GitResponseCache.Entry cached = conditional ? responseCache.get(path) : null;
+            Request.Builder builder = new Request.Builder()
                     .url(path)
                     .header("Authorization", "token " + token)
-                    .header("Accept", "application/vnd.github.v3+json")
-                    .build();
-            try (Response response = http.newCall(request).execute()) {
+                    .header("Accept", "application/vnd.github.v3+json");
+            if (cached != null) {
+                builder.header("If-None-Match", cached.etag());
+            }
+            try (Response response = http.newCall(builder.build()).execute()) {
+                rateGovernor.observe(response);
+                if (response.code() == 304 && cached != null) {
+                    responseCache.recordRevalidation();
+                    return decode(cached.body(), reader);
+                }
+                String etag = response.header("ETag");
+                if (response.isSuccessful() && response.body() != null && conditional && etag != null) {
+                    byte[] body = response.body().bytes();
+                    responseCache.put(path, etag, body);
+                    return decode(body, reader);
+                }
                 if (response.isSuccessful() && response.body() != null) {
-                    return json.readTree(response.body().string());
+                    try (JsonParser parser = json.getFactory().createParser(response.body().byteStream())) {
+                        return reader.read(parser);
+                    }
                 }
                 if (isRetriable(response.code())) {
-                    long wait = backoff(response, attempt);
+                    long wait = isRateLimited(response.code())
+                            ? rateGovernor.pause(response, attempt)
+                            : backoff(response, attempt);
                     LOG.warn("Rate-limit {}, retry {}/{} in {} - {}",
                             response.code(), attempt + 1, MAX_R,
                             com.mantimetrics.utility.PathUtility.humanDuration(wait), path);
@@ -79,6 +172,12 @@ class GitClient {
         throw new IOException("Retries exhausted for " + path);
     }
 
+    private <T> T decode(byte[] body, JsonBodyReader<T> reader) throws IOException {
+        try (JsonParser parser = json.getFactory().createParser(body)) {
+            return reader.read(parser);
+        }
+    }
+
     /**
      * Reports whether an HTTP status code should trigger a retry.
      *
@@ -90,6 +189,16 @@ class GitClient {
                 || statusCode == 502 || statusCode == 503 || statusCode == 504;
     }
 
+    /**
+     * Reports whether an HTTP status code signals an exhausted GitHub rate-limit budget.
+     *
+     * @param statusCode HTTP status code returned by GitHub
+     * @return {@code true} when every concurrent caller should pause
+     */
+    private boolean isRateLimited(int statusCode) {
+        return statusCode == 403 || statusCode == 429;
+    }
+
     /**
      * Computes the next retry delay using the GitHub rate-limit reset header when available.
      *
@@ -98,12 +207,19 @@ class GitClient {
      * @return backoff delay in milliseconds
      */
     private static long backoff(Response response, int attempt) {
-        if (response != null) {
-            String reset = response.header("X-RateLimit-Reset");
-            if (reset != null) {
-                return Math.max(Long.parseLong(reset) * 1_000 - System.currentTimeMillis(), 5_000);
-            }
-        }
-        return (long) (3_000 * Math.pow(2, attempt));
+        return GitRateGovernor.backoff(response.header("X-RateLimit-Reset"), attempt, System.currentTimeMillis());
+    }
+
+    /** Decodes a successful response body from a streaming parser. */
+    @FunctionalInterface
+    interface JsonBodyReader<T> {
+        /**
+         * Decodes the response body.
+         *
+         * @param parser parser positioned before the first token of the body
+         * @return decoded value
+         * @throws IOException when the body cannot be decoded
+         */
+        T read(JsonParser parser) throws IOException;
     }
 }
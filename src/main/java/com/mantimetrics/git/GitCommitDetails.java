@@ -1,9 +1,9 @@
 package com.mantimetrics.git;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashSet;
@@ -13,11 +13,16 @@ import java.util.concurrent.ConcurrentMap;
 
 /**
  * Fetches and caches per-commit metadata needed to build release commit aggregates.
+ * Lookups go through the in-memory cache first, then the optional persistent snapshot store, and only
+ * then to GitHub; freshly fetched commits are written through to the store. GitHub pages are decoded
+ * while they stream in by {@link GitCommitPageParser}.
  */
 final class GitCommitDetails {
+    private static final Logger LOG = LoggerFactory.getLogger(GitCommitDetails.class);
     private static final String API = "https://api.github.com/repos/";
 
     private final GitClient apiClient;
+    private final GitCommitSnapshotStore store;
     private final ConcurrentMap<String, GitPrevReleaseBuilder.ReleaseCommitSnapshot> snapshotCache =
             new ConcurrentHashMap<>();
 
@@ -27,7 +32,18 @@ final class GitCommitDetails {
      * @param apiClient low-level GitHub API client
      */
     GitCommitDetails(GitClient apiClient) {
+        this(apiClient, null);
+    }
+
+    /**
+     * Creates a commit-details client backed by the shared GitHub API client and a persistent store.
+     *
+     * @param apiClient low-level GitHub API client
+     * @param store persistent commit snapshot store, or {@code null} to keep the cache in memory only
+     */
+    GitCommitDetails(GitClient apiClient, GitCommitSnapshotStore store) {
         this.apiClient = apiClient;
+        this.store = store;
     }
 
     /**
@@ -48,11 +64,50 @@ final class GitCommitDetails {
             return cached;
         }
 
-        GitPrevReleaseBuilder.ReleaseCommitSnapshot snapshot = fetchUncached(owner, repo, sha);
+        GitPrevReleaseBuilder.ReleaseCommitSnapshot snapshot = readStored(key);
+        if (snapshot == null) {
+            snapshot = fetchUncached(owner, repo, sha);
+            writeStored(key, snapshot);
+        }
         GitPrevReleaseBuilder.ReleaseCommitSnapshot previous = snapshotCache.putIfAbsent(key, snapshot);
         return previous != null ? previous : snapshot;
     }
 
+    /**
+     * Reads a commit from the persistent store, treating an unreadable record as a cache miss.
+     *
+     * @param key commit key in the {@code owner/repo@sha} form
+     * @return stored snapshot, or {@code null} when absent or unreadable
+     */
+    private GitPrevReleaseBuilder.ReleaseCommitSnapshot readStored(String key) {
+        if (store == null) {
+            return null;
+        }
+        try {
+            return store.get(key);
+        } catch (IOException exception) {
+            LOG.warn("Commit snapshot store read failed for {}: {}", key, exception.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes a freshly fetched commit through to the persistent store; failures only cost a future refetch.
+     *
+     * @param key commit key in the {@code owner/repo@sha} form
+     * @param snapshot fetched commit snapshot
+     */
+    private void writeStored(String key, GitPrevReleaseBuilder.ReleaseCommitSnapshot snapshot) {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.put(key, snapshot);
+        } catch (IOException exception) {
+            LOG.warn("Commit snapshot store write failed for {}: {}", key, exception.getMessage());
+        }
+    }
+
     /**
      * Fetches the commit details from GitHub without consulting the local cache.
      *
@@ -74,21 +129,19 @@ final class GitCommitDetails {
         int page = 1;
         boolean hasMore = true;
         while (hasMore) {
-            JsonNode response = apiClient.getApi(String.format(template, page));
+            GitCommitPageParser.CommitPage response =
+                    apiClient.getApi(String.format(template, page), GitCommitPageParser::read);
             if (message == null) {
-                message = response.path("commit").path("message").asText("");
-                author = response.path("commit").path("author").path("name").asText("");
+                message = response.message();
+                author = response.author();
             }
 
-            JsonNode fileNodes = response.path("files");
-            if (!fileNodes.isArray() || fileNodes.isEmpty() || fileNodes.size() < 100) {
+            if (response.files().size() < 100) {
                 hasMore = false;
             } else {
                 page++;
             }
-            if (fileNodes.isArray()) {
-                fileNodes.forEach(file -> addFilename(file, files));
-            }
+            files.addAll(response.files());
         }
 
         return new GitPrevReleaseBuilder.ReleaseCommitSnapshot(
@@ -98,22 +151,4 @@ final class GitCommitDetails {
                 files
         );
     }
-
-    /**
-     * Extracts one changed-file entry from the GitHub response.
-     *
-     * @param fileNode JSON node describing a changed file
-     * @param files output set receiving the normalized file snapshot
-     */
-    private static void addFilename(JsonNode fileNode, Set<GitPrevReleaseBuilder.ReleaseCommitFile> files) {
-        String filename = fileNode.path("filename").asText(null);
-        if (filename == null || filename.isBlank()) {
-            throw new UncheckedIOException(new IOException("Missing filename in GitHub commit response"));
-        }
-        files.add(new GitPrevReleaseBuilder.ReleaseCommitFile(
-                filename,
-                fileNode.path("additions").asInt(0),
-                fileNode.path("deletions").asInt(0)
-        ));
-    }
 }
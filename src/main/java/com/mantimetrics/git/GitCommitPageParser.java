@@ -0,0 +1,133 @@
+package com.mantimetrics.git;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming decoder of one page of a GitHub {@code /commits/{sha}} response. Only the commit message, the
+ * author name and the path and line counts of each changed file are decoded; everything else, notably the
+ * per-file {@code patch} text that dominates the payload, is skipped without being materialized.
+ */
+final class GitCommitPageParser {
+
+    private GitCommitPageParser() {
+    }
+
+    /**
+     * Reads one commit-details page.
+     *
+     * @param parser parser positioned before the commit object
+     * @return decoded page
+     * @throws IOException when the response is not a commit object or a file has no name
+     */
+    static CommitPage read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Unexpected GitHub commit response");
+        }
+        String message = "";
+        String author = "";
+        List<GitPrevReleaseBuilder.ReleaseCommitFile> files = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("commit".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                String[] commit = readCommit(parser);
+                message = commit[0];
+                author = commit[1];
+            } else if ("files".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                readFiles(parser, files);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new CommitPage(message, author, files);
+    }
+
+    /**
+     * Reads the nested {@code commit} object.
+     *
+     * @return message and author name, empty when absent
+     */
+    private static String[] readCommit(JsonParser parser) throws IOException {
+        String message = "";
+        String author = "";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("message".equals(field)) {
+                message = text(parser, "");
+            } else if ("author".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                author = readAuthorName(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new String[] { message, author };
+    }
+
+    private static String readAuthorName(JsonParser parser) throws IOException {
+        String name = "";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = text(parser, "");
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    private static void readFiles(JsonParser parser, List<GitPrevReleaseBuilder.ReleaseCommitFile> files)
+            throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String filename = null;
+            int additions = 0;
+            int deletions = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "filename" -> filename = text(parser, null);
+                    case "additions" -> additions = parser.getValueAsInt(0);
+                    case "deletions" -> deletions = parser.getValueAsInt(0);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (filename == null || filename.isBlank()) {
+                throw new IOException("Missing filename in GitHub commit response");
+            }
+            files.add(new GitPrevReleaseBuilder.ReleaseCommitFile(filename, additions, deletions));
+        }
+    }
+
+    /**
+     * Returns the current scalar as text, or the fallback for JSON {@code null} and structured values.
+     */
+    private static String text(JsonParser parser, String fallback) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return fallback;
+        }
+        return parser.currentToken() == JsonToken.VALUE_NULL ? fallback : parser.getValueAsString(fallback);
+    }
+
+    /**
+     * Decoded page of a commit-details response.
+     *
+     * @param message commit message, empty when absent
+     * @param author commit author name, empty when absent
+     * @param files changed files listed on this page, in response order
+     */
+    record CommitPage(String message, String author, List<GitPrevReleaseBuilder.ReleaseCommitFile> files) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.mantimetrics.git;
+
+import com.mantimetrics.utility.AppendOnlySegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Persistent, append-only store of commit snapshots keyed by {@code owner/repo@sha}.
+ *
+ * <p>Commits are immutable, so a snapshot fetched once never needs to be downloaded again. Snapshots are
+ * appended to an {@link AppendOnlySegment} in a compact binary form; a record left truncated by an
+ * interrupted run is cut off on open.
+ */
+final class GitCommitSnapshotStore implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(GitCommitSnapshotStore.class);
+    private static final int MAGIC = 0x4D4D4353; // "MMCS"
+    private static final int VERSION = 1;
+
+    private final AppendOnlySegment segment;
+
+    private GitCommitSnapshotStore(AppendOnlySegment segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * Opens (or creates) the segment file and indexes the records already stored in it.
+     *
+     * @param segment segment file path
+     * @return opened store
+     * @throws IOException when the segment cannot be created, read or has an incompatible header
+     */
+    static GitCommitSnapshotStore open(Path segment) throws IOException {
+        GitCommitSnapshotStore store = new GitCommitSnapshotStore(AppendOnlySegment.open(segment, MAGIC, VERSION));
+        LOG.info("Commit snapshot store {} - {} cached commits", segment, store.size());
+        return store;
+    }
+
+    /**
+     * Returns the number of commits currently stored.
+     *
+     * @return stored commit count
+     */
+    int size() {
+        return segment.size();
+    }
+
+    /**
+     * Reads the stored snapshot for a commit key.
+     *
+     * @param key commit key in the {@code owner/repo@sha} form
+     * @return stored snapshot, or {@code null} when the commit was never stored
+     * @throws IOException when the segment cannot be read
+     */
+    GitPrevReleaseBuilder.ReleaseCommitSnapshot get(String key) throws IOException {
+        byte[] payload = segment.get(key);
+        return payload == null ? null : decode(payload);
+    }
+
+    /**
+     * Appends a snapshot to the segment unless the commit is already stored.
+     *
+     * @param key commit key in the {@code owner/repo@sha} form
+     * @param snapshot commit snapshot to persist
+     * @throws IOException when the segment cannot be written
+     */
+    void put(String key, GitPrevReleaseBuilder.ReleaseCommitSnapshot snapshot) throws IOException {
+        segment.put(key, encode(snapshot));
+    }
+
+    /**
+     * Closes the segment file.
+     *
+     * @throws IOException when the segment cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        segment.close();
+    }
+
+    /**
+     * Serializes a snapshot into its compact binary payload.
+     *
+     * @param snapshot commit snapshot
+     * @return binary payload
+     * @throws IOException when the payload cannot be written
+     */
+    static byte[] encode(GitPrevReleaseBuilder.ReleaseCommitSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, snapshot.sha());
+            writeString(out, snapshot.message());
+            writeString(out, snapshot.author());
+            out.writeInt(snapshot.files().size());
+            for (GitPrevReleaseBuilder.ReleaseCommitFile file : snapshot.files()) {
+                writeString(out, file.path());
+                out.writeInt(file.additions());
+                out.writeInt(file.deletions());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes a snapshot from its compact binary payload.
+     *
+     * @param payload binary payload
+     * @return commit snapshot
+     * @throws IOException when the payload is malformed
+     */
+    static GitPrevReleaseBuilder.ReleaseCommitSnapshot decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            String sha = readString(in);
+            String message = readString(in);
+            String author = readString(in);
+            int fileCount = in.readInt();
+            Set<GitPrevReleaseBuilder.ReleaseCommitFile> files = new LinkedHashSet<>();
+            for (int index = 0; index < fileCount; index++) {
+                files.add(new GitPrevReleaseBuilder.ReleaseCommitFile(readString(in), in.readInt(), in.readInt()));
+            }
+            return new GitPrevReleaseBuilder.ReleaseCommitSnapshot(sha, message, author, files);
+        }
+    }
+
+    // DataOutputStream#writeUTF is limited to 64 KB, which long commit messages can exceed.
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
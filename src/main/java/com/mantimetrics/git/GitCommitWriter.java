@@ -1,15 +1,23 @@
 package com.mantimetrics.git;
 
+import com.mantimetrics.utility.DaemonThreads;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Builds release-level commit aggregates by combining commit ranges with per-commit details.
+ * Commit details can be fetched through a shared pool that keeps a bounded number of requests in
+ * flight across every release range; the snapshots are always reassembled in range order.
  */
-final class GitCommitWriter {
+final class GitCommitWriter implements ReleaseCommitSource, AutoCloseable {
     private final GitCommitRangeTaker rangeClient;
     private final GitCommitDetails detailsClient;
+    private final ExecutorService detailsPool;
 
     /**
      * Creates a release-commit-data client backed by the shared GitHub API client.
@@ -17,8 +25,21 @@ final class GitCommitWriter {
      * @param apiClient low-level GitHub API client
      */
     GitCommitWriter(GitClient apiClient) {
+        this(apiClient, 1, null);
+    }
+
+    /**
+     * Creates a release-commit-data client that keeps up to {@code inFlight} commit-detail requests running.
+     *
+     * @param apiClient low-level GitHub API client
+     * @param inFlight maximum number of concurrent commit-detail requests; {@code 1} fetches sequentially
+     * @param store persistent commit snapshot store, or {@code null} to keep the cache in memory only
+     */
+    GitCommitWriter(GitClient apiClient, int inFlight, GitCommitSnapshotStore store) {
         this.rangeClient = new GitCommitRangeTaker(apiClient);
-        this.detailsClient = new GitCommitDetails(apiClient);
+        this.detailsClient = new GitCommitDetails(apiClient, store);
+        this.detailsPool = inFlight > 1
+                ? Executors.newFixedThreadPool(inFlight, DaemonThreads.factory("commit-details")) : null;
     }
 
     /**
@@ -54,14 +75,70 @@ final class GitCommitWriter {
      * @throws IOException when GitHub data cannot be fetched
      * @throws InterruptedException when the thread is interrupted while waiting for the API
      */
-    RawReleaseCommits fetchRaw(String owner, String repo, String prevTag, String tag)
+    @Override
+    public RawReleaseCommits fetchRaw(String owner, String repo, String prevTag, String tag)
             throws IOException, InterruptedException {
         List<String> shas = rangeClient.listCommitShas(owner, repo, prevTag, tag);
-        List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> snapshots = new ArrayList<>(shas.size());
+        if (detailsPool == null || shas.size() < 2) {
+            List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> snapshots = new ArrayList<>(shas.size());
+            for (String sha : shas) {
+                snapshots.add(detailsClient.fetch(owner, repo, sha));
+            }
+            return new RawReleaseCommits(snapshots);
+        }
+        return new RawReleaseCommits(fetchPipelined(owner, repo, shas));
+    }
+
+    /**
+     * Submits every commit of the range to the shared details pool and collects the snapshots in SHA order.
+     * Rate-limit pauses are honoured by {@link GitClient}, so the pool slows down together with the API budget.
+     *
+     * @param owner repository owner
+     * @param repo repository name
+     * @param shas ordered commit SHAs of the release range
+     * @return commit snapshots in the same order as {@code shas}
+     * @throws IOException when GitHub data cannot be fetched
+     * @throws InterruptedException when the thread is interrupted while waiting for the API
+     */
+    private List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> fetchPipelined(String owner, String repo, List<String> shas)
+            throws IOException, InterruptedException {
+        List<Future<GitPrevReleaseBuilder.ReleaseCommitSnapshot>> futures = new ArrayList<>(shas.size());
         for (String sha : shas) {
-            snapshots.add(detailsClient.fetch(owner, repo, sha));
+            futures.add(detailsPool.submit(() -> detailsClient.fetch(owner, repo, sha)));
+        }
+        List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> snapshots = new ArrayList<>(shas.size());
+        try {
+            for (Future<GitPrevReleaseBuilder.ReleaseCommitSnapshot> future : futures) {
+                snapshots.add(await(future));
+            }
+            return snapshots;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
         }
-        return new RawReleaseCommits(snapshots);
+    }
+
+    /**
+     * Waits for one commit-detail request, rethrowing its original failure.
+     *
+     * @param future pending commit-detail request
+     * @return fetched commit snapshot
+     * @throws IOException when GitHub data cannot be fetched
+     * @throws InterruptedException when the request or the wait is interrupted
+     */
+    private static GitPrevReleaseBuilder.ReleaseCommitSnapshot await(
+            Future<GitPrevReleaseBuilder.ReleaseCommitSnapshot> future) throws IOException, InterruptedException {
+        return DaemonThreads.await(future, "fetching commit details", InterruptedException.class,
+                GitCommitWriter::interrupted);
+    }
+
+    /**
+     * Builds the interruption reported by {@link #await(Future)}; commit-detail requests throw no checked
+     * failure other than I/O errors and interruptions.
+     */
+    private static InterruptedException interrupted(String message, Throwable cause) {
+        InterruptedException exception = new InterruptedException(message);
+        exception.initCause(cause);
+        return exception;
     }
 
     /**
@@ -72,6 +149,16 @@ final class GitCommitWriter {
      * @return aggregated release commit data
      */
     static GitReleaseSnapshot aggregate(RawReleaseCommits raw, boolean includeGithub) {
-        return GitPrevReleaseBuilder.aggregate(raw.commits, includeGithub);
+        return GitPrevReleaseBuilder.aggregate(raw.commits, includeGithub, raw.dictionary);
+    }
+
+    /**
+     * Stops the commit-details pool, if any.
+     */
+    @Override
+    public void close() {
+        if (detailsPool != null) {
+            detailsPool.shutdownNow();
+        }
     }
 }
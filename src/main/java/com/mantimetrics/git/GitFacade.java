@@ -1,19 +1,37 @@
 package com.mantimetrics.git;
 
 import com.mantimetrics.javaparsing.ScanResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.List;
 
 /**
  * Small facade over the GitHub-specific clients used by the pipeline.
+ * Release commit history and release sources come either from GitHub (API and codeload archives) or from a
+ * local bare mirror, depending on the selected {@link GitBackend}; repository metadata always comes from GitHub.
  */
-public final class GitFacade {
+public final class GitFacade implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(GitFacade.class);
+    private static final Path COMMIT_STORE = Paths.get("cache", "github-commits.seg");
+    private static final Path MIRRORS = Paths.get("cache", "repos");
+    private static final Path RESPONSE_CACHE = Paths.get("cache", "github-responses.bin");
+    private static final long RESPONSE_CACHE_BYTES = 64L * 1024 * 1024;
+
     private final GitRepoClient repositoryClient;
-    private final GitCommitWriter releaseCommitDataClient;
+    private final ReleaseCommitSource releaseCommitDataClient;
+    private final ReleaseSourceProvider releaseSourceProvider;
     private final GitZipDownloader zipDownloader;
+    private final GitResponseCache responseCache;
+    private final GitClient apiClient;
+    private final GitLocalMirror localMirror;
+    private final GitCommitSnapshotStore commitStore;
+    private final GitCommitWriter commitWriter;
+    private volatile ProjectDictionary projectDictionary = new ProjectDictionary("", new StringDictionary());
 
     /**
      * Creates the Git service and all GitHub-backed collaborators sharing the same token.
@@ -21,10 +39,71 @@ public final class GitFacade {
      * @param token GitHub personal access token
      */
     public GitFacade(String token) {
-        GitClient apiClient = new GitClient(token);
+        this(token, 1);
+    }
+
+    /**
+     * Creates the Git service with a bounded number of concurrent commit-detail requests.
+     *
+     * @param token GitHub personal access token
+     * @param commitFetchParallelism maximum number of commit-detail requests kept in flight
+     */
+    public GitFacade(String token, int commitFetchParallelism) {
+        this(token, commitFetchParallelism, GitBackend.API);
+    }
+
+    /**
+     * Creates the Git service reading the release commit history from the requested backend.
+     *
+     * @param token GitHub personal access token
+     * @param commitFetchParallelism maximum number of commit-detail requests kept in flight (API backend only)
+     * @param backend source of the release commit history and release sources
+     */
+    public GitFacade(String token, int commitFetchParallelism, GitBackend backend) {
+        this(token, commitFetchParallelism, backend, SourceIngestion.MEMORY);
+    }
+
+    /**
+     * Creates the Git service with the requested commit-history backend and release-archive ingestion mode.
+     *
+     * @param token GitHub personal access token
+     * @param commitFetchParallelism maximum number of commit-detail requests kept in flight (API backend only)
+     * @param backend source of the release commit history and release sources
+     * @param ingestion how codeload archives are turned into release sources (API backend only)
+     */
+    public GitFacade(String token, int commitFetchParallelism, GitBackend backend, SourceIngestion ingestion) {
+        this.responseCache = GitResponseCache.open(RESPONSE_CACHE, RESPONSE_CACHE_BYTES);
+        this.apiClient = new GitClient(token, responseCache, new GitRateGovernor());
         this.repositoryClient = new GitRepoClient(apiClient);
-        this.releaseCommitDataClient = new GitCommitWriter(apiClient);
-        this.zipDownloader = new GitZipDownloader(apiClient);
+        this.zipDownloader = new GitZipDownloader(apiClient, ingestion);
+        if (backend == GitBackend.LOCAL) {
+            this.localMirror = new GitLocalMirror(MIRRORS, token);
+            this.commitStore = null;
+            this.commitWriter = null;
+            this.releaseCommitDataClient = new GitLocalCommitReader(localMirror);
+            this.releaseSourceProvider = new GitLocalSourceReader(localMirror);
+        } else {
+            this.localMirror = null;
+            this.commitStore = openCommitStore();
+            this.commitWriter = new GitCommitWriter(apiClient, commitFetchParallelism, commitStore);
+            this.releaseCommitDataClient = commitWriter;
+            this.releaseSourceProvider = zipDownloader;
+        }
+    }
+
+    /**
+     * Opens the persistent commit snapshot store, falling back to the in-memory cache when it is unusable.
+     *
+     * @return opened store, or {@code null} when commits must be fetched from GitHub on every run
+     */
+    private static GitCommitSnapshotStore openCommitStore() {
+        try {
+            return GitCommitSnapshotStore.open(COMMIT_STORE);
+        } catch (IOException exception) {
+            LOG.warn("Commit snapshot store {} unavailable, using in-memory cache only: {}",
+                    COMMIT_STORE, exception.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -63,7 +142,7 @@ public final class GitFacade {
     }
 
     /**
-     * Downloads and extracts the Java production sources for a release reference.
+     * Loads the Java production sources for a release reference, from the codeload archive or the local mirror.
      *
      * @param owner repository owner
      * @param repo repository name
@@ -74,7 +153,7 @@ public final class GitFacade {
      */
     public ScanResult downloadReleaseSources(String owner, String repo, String ref)
             throws IOException, InterruptedException {
-        return zipDownloader.downloadSources(owner, repo, ref);
+        return releaseSourceProvider.downloadSources(owner, repo, ref);
     }
 
     /**
@@ -94,6 +173,45 @@ public final class GitFacade {
         zipDownloader.extractFullRelease(owner, repo, ref, targetDir);
     }
 
+    /**
+     * Returns the rate-limit governor pacing every GitHub request made with this facade's token, so other
+     * GitHub clients can share the same budget.
+     *
+     * @return shared rate-limit governor
+     */
+    public GitRateGovernor rateGovernor() {
+        return apiClient.rateGovernor;
+    }
+
+    /**
+     * Persists the GitHub response cache for the next run, reports how many API requests were answered
+     * with {@code 304 Not Modified} instead of consuming primary rate limit, then stops the commit-details
+     * pool and closes the commit snapshot store and the repositories opened in the local mirror, if any.
+     */
+    @Override
+    public void close() {
+        LOG.info("GitHub conditional requests: {} answered 304 Not Modified and served from cache",
+                apiClient.revalidatedRequests());
+        try {
+            responseCache.save();
+        } catch (IOException exception) {
+            LOG.warn("GitHub response cache {} could not be saved: {}", RESPONSE_CACHE, exception.getMessage());
+        }
+        if (commitWriter != null) {
+            commitWriter.close();
+        }
+        if (commitStore != null) {
+            try {
+                commitStore.close();
+            } catch (IOException exception) {
+                LOG.warn("Commit snapshot store {} could not be closed: {}", COMMIT_STORE, exception.getMessage());
+            }
+        }
+        if (localMirror != null) {
+            localMirror.close();
+        }
+    }
+
     /**
      * Returns temporary directories created by the download layer.
      *
@@ -155,7 +273,9 @@ public final class GitFacade {
             String tag,
             boolean includeGithub
     ) throws IOException, InterruptedException {
-        return releaseCommitDataClient.build(owner, repo, prevTag, tag, includeGithub);
+        return GitPrevReleaseBuilder.aggregate(
+                releaseCommitDataClient.fetchRaw(owner, repo, prevTag, tag).commits, includeGithub,
+                dictionaryFor(owner, repo));
     }
 
     /**
@@ -167,12 +287,13 @@ public final class GitFacade {
      * @param prevTag previous release tag, or {@code null} for the first release
      * @param tag current release tag
      * @return opaque holder of the raw commit snapshots
-     * @throws IOException when GitHub data cannot be fetched
+     * @throws IOException when the commit history cannot be fetched
      * @throws InterruptedException when the thread is interrupted while waiting for the API
      */
     public RawReleaseCommits fetchRawReleaseCommits(String owner, String repo, String prevTag, String tag)
             throws IOException, InterruptedException {
-        return releaseCommitDataClient.fetchRaw(owner, repo, prevTag, tag);
+        RawReleaseCommits raw = releaseCommitDataClient.fetchRaw(owner, repo, prevTag, tag);
+        return new RawReleaseCommits(raw.commits, dictionaryFor(owner, repo));
     }
 
     /**
@@ -185,4 +306,26 @@ public final class GitFacade {
     public GitReleaseSnapshot aggregate(RawReleaseCommits raw, boolean includeGithub) {
         return GitCommitWriter.aggregate(raw, includeGithub);
     }
+
+    /**
+     * Returns the string dictionary shared by the release aggregates of a project. Projects are analysed one
+     * after another, so only the dictionary of the current project is kept.
+     */
+    private StringDictionary dictionaryFor(String owner, String repo) {
+        String project = owner + "/" + repo;
+        ProjectDictionary current = projectDictionary;
+        if (current.project().equals(project)) {
+            return current.dictionary();
+        }
+        synchronized (this) {
+            if (!projectDictionary.project().equals(project)) {
+                projectDictionary = new ProjectDictionary(project, new StringDictionary());
+            }
+            return projectDictionary.dictionary();
+        }
+    }
+
+    /** Dictionary of the project currently being analysed. */
+    private record ProjectDictionary(String project, StringDictionary dictionary) {
+    }
 }
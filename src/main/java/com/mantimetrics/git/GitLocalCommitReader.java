@@ -0,0 +1,120 @@
+package com.mantimetrics.git;
+
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes release commit ranges, authors, messages and per-file line counts from a local bare mirror.
+ * It mirrors what {@link GitCommitWriter} obtains from the GitHub API: a range contains the commits reachable
+ * from the current tag but not from the previous one, oldest first, and each commit is diffed against its
+ * first parent (or the empty tree for a root commit). No API call is made, so there is no rate limit.
+ */
+final class GitLocalCommitReader implements ReleaseCommitSource {
+    private final GitLocalMirror mirror;
+
+    /**
+     * Creates a reader over the provided mirror manager.
+     *
+     * @param mirror local mirror manager
+     */
+    GitLocalCommitReader(GitLocalMirror mirror) {
+        this.mirror = mirror;
+    }
+
+    /**
+     * Reads the commits of a release range from the local mirror.
+     *
+     * @param owner repository owner
+     * @param repo repository name
+     * @param prevTag previous release tag, or {@code null} for the first release
+     * @param tag current release tag
+     * @return opaque holder of the raw commit snapshots
+     * @throws IOException when the mirror cannot be read or a tag is missing
+     */
+    @Override
+    public RawReleaseCommits fetchRaw(String owner, String repo, String prevTag, String tag) throws IOException {
+        Repository repository = mirror.open(owner, repo);
+        try (RevWalk walk = new RevWalk(repository);
+             DiffFormatter diff = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+            diff.setRepository(repository);
+            diff.setDiffComparator(RawTextComparator.DEFAULT);
+            diff.setDetectRenames(true);
+
+            walk.sort(RevSort.TOPO);
+            walk.sort(RevSort.REVERSE, true);
+            walk.markStart(walk.parseCommit(resolveTag(repository, tag)));
+            if (prevTag != null && !prevTag.isBlank()) {
+                walk.markUninteresting(walk.parseCommit(resolveTag(repository, prevTag)));
+            }
+
+            List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> snapshots = new ArrayList<>();
+            for (RevCommit commit : walk) {
+                snapshots.add(toSnapshot(diff, commit));
+            }
+            return new RawReleaseCommits(snapshots);
+        }
+    }
+
+    /**
+     * Builds the snapshot of one commit by diffing it against its first parent.
+     *
+     * @param diff configured diff formatter bound to the repository
+     * @param commit commit to describe
+     * @return commit snapshot equivalent to the GitHub commit-details payload
+     * @throws IOException when the commit trees cannot be read
+     */
+    private static GitPrevReleaseBuilder.ReleaseCommitSnapshot toSnapshot(DiffFormatter diff, RevCommit commit)
+            throws IOException {
+        ObjectId parent = commit.getParentCount() > 0 ? commit.getParent(0) : null;
+        Set<GitPrevReleaseBuilder.ReleaseCommitFile> files = new LinkedHashSet<>();
+        for (DiffEntry entry : diff.scan(parent, commit)) {
+            int additions = 0;
+            int deletions = 0;
+            for (Edit edit : diff.toFileHeader(entry).toEditList()) {
+                additions += edit.getLengthB();
+                deletions += edit.getLengthA();
+            }
+            String path = entry.getChangeType() == DiffEntry.ChangeType.DELETE
+                    ? entry.getOldPath()
+                    : entry.getNewPath();
+            files.add(new GitPrevReleaseBuilder.ReleaseCommitFile(path, additions, deletions));
+        }
+        return new GitPrevReleaseBuilder.ReleaseCommitSnapshot(
+                commit.getName(),
+                commit.getFullMessage(),
+                commit.getAuthorIdent().getName(),
+                files
+        );
+    }
+
+    /**
+     * Resolves a tag name to the commit it points to, peeling annotated tags.
+     *
+     * @param repository local mirror
+     * @param tag tag name
+     * @return commit id of the tag
+     * @throws IOException when the tag does not exist in the mirror
+     */
+    static ObjectId resolveTag(Repository repository, String tag) throws IOException {
+        ObjectId id = repository.resolve(Constants.R_TAGS + tag + "^{commit}");
+        if (id == null) {
+            throw new IOException("Tag " + tag + " not found in local mirror " + repository.getDirectory());
+        }
+        return id;
+    }
+}
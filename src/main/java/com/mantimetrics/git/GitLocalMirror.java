@@ -0,0 +1,115 @@
+package com.mantimetrics.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.TagOpt;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maintains one bare mirror per GitHub repository under a local cache directory.
+ * The mirror is cloned on first use and refreshed with a single fetch the first time it is opened in a run;
+ * later calls reuse the already opened {@link Repository}, which is safe for concurrent readers.
+ */
+final class GitLocalMirror implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(GitLocalMirror.class);
+
+    private final Path root;
+    private final String remoteBase;
+    private final CredentialsProvider credentials;
+    private final Map<String, Repository> repositories = new HashMap<>();
+
+    /**
+     * Creates a mirror manager for GitHub-hosted repositories.
+     *
+     * @param root directory holding the bare mirrors
+     * @param token GitHub personal access token, used for authenticated clones
+     */
+    GitLocalMirror(Path root, String token) {
+        this(root, token, "https://github.com/");
+    }
+
+    /**
+     * Creates a mirror manager resolving repositories against an arbitrary remote base URI.
+     *
+     * @param root directory holding the bare mirrors
+     * @param token personal access token, or blank for anonymous access
+     * @param remoteBase remote base URI ending with a slash; {@code owner/repo.git} is appended to it
+     */
+    GitLocalMirror(Path root, String token, String remoteBase) {
+        this.root = root;
+        this.remoteBase = remoteBase;
+        this.credentials = token == null || token.isBlank()
+                ? null
+                : new UsernamePasswordCredentialsProvider("x-access-token", token);
+    }
+
+    /**
+     * Returns the up-to-date local mirror of a repository, cloning or fetching it on first access.
+     *
+     * @param owner repository owner
+     * @param repo repository name
+     * @return opened bare repository
+     * @throws IOException when the mirror cannot be cloned, fetched or opened
+     */
+    synchronized Repository open(String owner, String repo) throws IOException {
+        String key = owner + '/' + repo;
+        Repository repository = repositories.get(key);
+        if (repository == null) {
+            repository = sync(owner, repo);
+            repositories.put(key, repository);
+        }
+        return repository;
+    }
+
+    /**
+     * Closes every mirror opened by this manager.
+     */
+    @Override
+    public synchronized void close() {
+        repositories.values().forEach(Repository::close);
+        repositories.clear();
+    }
+
+    /**
+     * Clones the mirror when missing, otherwise fetches the new branches and tags into it.
+     */
+    private Repository sync(String owner, String repo) throws IOException {
+        Path directory = root.resolve(owner).resolve(repo + ".git");
+        String uri = remoteBase + owner + "/" + repo + ".git";
+        try {
+            if (Files.isDirectory(directory.resolve("objects"))) {
+                LOG.info("Fetching local mirror {} from {}", directory, uri);
+                Git git = Git.open(directory.toFile());
+                git.fetch()
+                        .setRemote(uri)
+                        .setRefSpecs("+refs/heads/*:refs/heads/*", "+refs/tags/*:refs/tags/*")
+                        .setTagOpt(TagOpt.FETCH_TAGS)
+                        .setCredentialsProvider(credentials)
+                        .call();
+                return git.getRepository();
+            }
+            LOG.info("Cloning local mirror {} from {}", directory, uri);
+            Files.createDirectories(directory);
+            return Git.cloneRepository()
+                    .setURI(uri)
+                    .setDirectory(directory.toFile())
+                    .setMirror(true)
+                    .setCredentialsProvider(credentials)
+                    .call()
+                    .getRepository();
+        } catch (GitAPIException exception) {
+            throw new IOException("Cannot synchronize local mirror of " + owner + "/" + repo, exception);
+        }
+    }
+}
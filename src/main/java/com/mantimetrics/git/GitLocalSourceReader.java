@@ -0,0 +1,110 @@
+package com.mantimetrics.git;
+
+import com.mantimetrics.javaparsing.ParsedFileRappresentation;
+import com.mantimetrics.javaparsing.ScanResult;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the production Java sources of a release straight from the tree object of a local bare mirror,
+ * instead of downloading and inflating the codeload ZIP archive.
+ *
+ * <p>Only blobs accepted by {@link GitZipExtractor#shouldMaterialize(String, boolean)} are loaded. Consecutive
+ * releases share most of their files, so the decoded source of every blob read for the previous release is
+ * kept and reused when the same blob id appears again: an unchanged file is neither re-read nor re-decoded,
+ * and both releases reference the same {@link String} instance.
+ */
+final class GitLocalSourceReader implements ReleaseSourceProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(GitLocalSourceReader.class);
+
+    private final GitLocalMirror mirror;
+    private Map<ObjectId, String> previousRelease = Map.of();
+
+    /**
+     * Creates a reader over the provided mirror manager.
+     *
+     * @param mirror local mirror manager
+     */
+    GitLocalSourceReader(GitLocalMirror mirror) {
+        this.mirror = mirror;
+    }
+
+    /**
+     * Walks the tree of a release reference and materializes its production Java sources.
+     * Calls are serialized because they share the blob cache of the previous release.
+     *
+     * @param owner repository owner
+     * @param repo repository name
+     * @param ref tag or branch reference to read
+     * @return production source files of the release
+     * @throws IOException when the mirror cannot be read or the reference is missing
+     */
+    @Override
+    public synchronized ScanResult downloadSources(String owner, String repo, String ref) throws IOException {
+        Repository repository = mirror.open(owner, repo);
+        Map<ObjectId, String> currentRelease = new HashMap<>();
+        List<ParsedFileRappresentation> sources = new ArrayList<>();
+        int reused = 0;
+        try (ObjectReader reader = repository.newObjectReader();
+             TreeWalk walk = new TreeWalk(reader)) {
+            walk.addTree(resolveTree(repository, ref));
+            walk.setRecursive(true);
+            while (walk.next()) {
+                String path = walk.getPathString();
+                // Tree paths carry no archive folder: prefix a slash so the ZIP filtering rules apply unchanged.
+                if (walk.getFileMode(0) == FileMode.GITLINK
+                        || !GitZipExtractor.shouldMaterialize('/' + path, false)) {
+                    continue;
+                }
+                ObjectId blob = walk.getObjectId(0);
+                String source = currentRelease.get(blob);
+                if (source == null) {
+                    source = previousRelease.get(blob);
+                    if (source == null) {
+                        source = new String(reader.open(blob, Constants.OBJ_BLOB).getBytes(), StandardCharsets.UTF_8);
+                    } else {
+                        reused++;
+                    }
+                    currentRelease.put(blob, source);
+                }
+                sources.add(new ParsedFileRappresentation(path, source, List.of()));
+            }
+        }
+        previousRelease = currentRelease;
+        LOG.debug("Local sources {}/{}@{}: {} files, {} reused from the previous release",
+                owner, repo, ref, sources.size(), reused);
+        return new ScanResult(owner + "/" + repo + "@" + ref, sources.size(), List.copyOf(sources));
+    }
+
+    /**
+     * Resolves a tag (or, failing that, a branch) to its root tree, peeling annotated tags.
+     *
+     * @param repository local mirror
+     * @param ref tag or branch name
+     * @return root tree id of the reference
+     * @throws IOException when the reference does not exist in the mirror
+     */
+    private static ObjectId resolveTree(Repository repository, String ref) throws IOException {
+        ObjectId tree = repository.resolve(Constants.R_TAGS + ref + "^{tree}");
+        if (tree == null) {
+            tree = repository.resolve(ref + "^{tree}");
+        }
+        if (tree == null) {
+            throw new IOException("Reference " + ref + " not found in local mirror " + repository.getDirectory());
+        }
+        return tree;
+    }
+}
@@ -1,11 +1,8 @@
 package com.mantimetrics.git;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,14 +29,23 @@ final class GitPrevReleaseBuilder {
      * @return immutable release commit data grouped by relative path
      */
     static GitReleaseSnapshot aggregate(List<ReleaseCommitSnapshot> commits, boolean includeGithub) {
-        Map<String, List<String>> touchMap = new HashMap<>();
-        Map<String, List<String>> issueTouchMap = new HashMap<>();
-        Map<String, List<String>> fileToIssueKeys = new HashMap<>();
-        Map<String, List<String>> authorMap = new HashMap<>();
-        Map<String, Integer> additionsMap = new HashMap<>();
-        Map<String, Integer> deletionsMap = new HashMap<>();
-        Set<String> javaCommitShas = new LinkedHashSet<>();
-        Set<String> issueLinkedJavaCommitShas = new LinkedHashSet<>();
+        return aggregate(commits, includeGithub, new StringDictionary());
+    }
+
+    /**
+     * Builds release-level file aggregates, interning paths, SHAs, authors and issue keys into the project
+     * dictionary so that the releases of a project share one copy of each value.
+     *
+     * @param commits commit snapshots collected for the release range
+     * @param includeGithub whether to also link GitHub issue references ({@code #123})
+     * @param dictionary dictionary shared by the releases of the project
+     * @return immutable release commit data grouped by relative path
+     */
+    static GitReleaseSnapshot aggregate(List<ReleaseCommitSnapshot> commits, boolean includeGithub,
+                                        StringDictionary dictionary) {
+        GitReleaseSnapshot.Builder builder = new GitReleaseSnapshot.Builder(dictionary);
+        Set<String> javaCommitShas = new HashSet<>();
+        Set<String> issueLinkedJavaCommitShas = new HashSet<>();
 
         for (ReleaseCommitSnapshot commit : commits) {
             Set<ReleaseCommitFile> javaFiles = commit.files().stream()
@@ -57,46 +63,20 @@ final class GitPrevReleaseBuilder {
                     .collect(Collectors.toCollection(LinkedHashSet::new));
 
             for (ReleaseCommitFile file : javaFiles) {
-                touchMap.computeIfAbsent(file.path(), ignored -> new ArrayList<>()).add(commit.sha());
-                if (!commit.author().isBlank()) {
-                    authorMap.computeIfAbsent(file.path(), ignored -> new ArrayList<>()).add(commit.author());
-                }
-                additionsMap.merge(file.path(), file.additions(), Integer::sum);
-                deletionsMap.merge(file.path(), file.deletions(), Integer::sum);
+                builder.touch(file.path(), commit.sha(), commit.author(), file.additions(), file.deletions());
             }
 
             List<String> issueKeys = GitLinkage.extractKeys(commit.message(), includeGithub);
             if (!issueKeys.isEmpty()) {
                 issueLinkedJavaCommitShas.add(commit.sha());
                 for (String file : javaPaths) {
-                    issueTouchMap.computeIfAbsent(file, ignored -> new ArrayList<>()).add(commit.sha());
+                    builder.issueTouch(file, commit.sha());
+                    builder.addIssueKeys(file, issueKeys);
                 }
-                GitLinkage.addKeysForFiles(javaPaths, issueKeys, fileToIssueKeys);
             }
         }
 
-        return new GitReleaseSnapshot(
-                immutableCopy(touchMap),
-                immutableCopy(issueTouchMap),
-                immutableCopy(fileToIssueKeys),
-                immutableCopy(authorMap),
-                Map.copyOf(additionsMap),
-                Map.copyOf(deletionsMap),
-                javaCommitShas.size(),
-                issueLinkedJavaCommitShas.size()
-        );
-    }
-
-    /**
-     * Copies a map of mutable lists into an immutable equivalent.
-     *
-     * @param source source map containing mutable list values
-     * @return immutable map with immutable list values
-     */
-    private static Map<String, List<String>> immutableCopy(Map<String, List<String>> source) {
-        Map<String, List<String>> copy = new HashMap<>();
-        source.forEach((key, value) -> copy.put(key, List.copyOf(value)));
-        return Collections.unmodifiableMap(copy);
+        return builder.build(javaCommitShas.size(), issueLinkedJavaCommitShas.size());
     }
 
     /**
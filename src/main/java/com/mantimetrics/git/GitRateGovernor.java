@@ -0,0 +1,201 @@
+package com.mantimetrics.git;
+
+import okhttp3.Response;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide governor of the GitHub primary rate limit, shared by every client holding the same token.
+ * Each response feeds its {@code X-RateLimit-Remaining}, {@code X-RateLimit-Limit} and
+ * {@code X-RateLimit-Reset} headers back into the governor, and each API request reserves a slot first.
+ *
+ * <p>While the remaining budget is above a low-water mark requests run unthrottled. Below it, the
+ * remaining requests are spread evenly over the time left until the reset, and slots are handed out in
+ * order across threads, so concurrent fetch modes slow down to the sustainable rate instead of exhausting
+ * the budget and sleeping through a whole reset window. A {@code 403}/{@code 429} still publishes a pause
+ * honoured by every caller. GitHub does not charge {@code 304 Not Modified} answers, so the slot reserved
+ * for a revalidated request is given back when its answer arrives.
+ */
+public final class GitRateGovernor {
+    private static final int MIN_RESERVE = 50;
+    private static final long RESET_SKEW_MILLIS = 1_000;
+
+    private final LongSupplier clock;
+    private long remaining = -1;
+    private long limit = -1;
+    private long resetAt;
+    private long nextSlot;
+    private long pausedUntil;
+
+    /**
+     * Creates a governor driven by the system clock.
+     */
+    public GitRateGovernor() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a governor driven by the provided clock.
+     *
+     * @param clock source of the current time in epoch milliseconds
+     */
+    GitRateGovernor(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Blocks until the calling thread may send one request that consumes primary rate limit.
+     *
+     * @throws InterruptedException when the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        sleep(reserve());
+    }
+
+    /**
+     * Blocks while a rate-limit pause published by any caller is active, without consuming budget.
+     * Used by requests that are not metered by the API rate limit, such as archive downloads.
+     *
+     * @throws InterruptedException when the thread is interrupted while waiting
+     */
+    public void awaitPause() throws InterruptedException {
+        long wait;
+        synchronized (this) {
+            wait = pausedUntil - clock.getAsLong();
+        }
+        sleep(wait);
+    }
+
+    /**
+     * Records the rate-limit headers of a response, giving back the reserved slot of a {@code 304} answer.
+     * Responses without rate-limit headers are ignored.
+     *
+     * @param response GitHub response
+     */
+    public void observe(Response response) {
+        observe(response.header("X-RateLimit-Remaining"),
+                response.header("X-RateLimit-Limit"),
+                response.header("X-RateLimit-Reset"));
+        if (response.code() == 304) {
+            refund();
+        }
+    }
+
+    /**
+     * Publishes a pause after a rate-limited response and returns how long the caller should wait.
+     *
+     * @param response response with status {@code 403} or {@code 429}
+     * @param attempt zero-based retry attempt index
+     * @return delay in milliseconds
+     */
+    public long pause(Response response, int attempt) {
+        long wait = backoff(response.header("X-RateLimit-Reset"), attempt, clock.getAsLong());
+        synchronized (this) {
+            pausedUntil = Math.max(pausedUntil, clock.getAsLong() + wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Computes the retry delay for a failed request, waiting for the rate-limit reset when it is known.
+     *
+     * @param reset raw {@code X-RateLimit-Reset} header in epoch seconds, or {@code null}
+     * @param attempt zero-based retry attempt index
+     * @param now current time in epoch milliseconds
+     * @return delay in milliseconds
+     */
+    static long backoff(String reset, int attempt, long now) {
+        if (reset != null) {
+            try {
+                return Math.max(Long.parseLong(reset.trim()) * 1_000 - now, 5_000);
+            } catch (NumberFormatException ignored) {
+                // fall back to exponential backoff
+            }
+        }
+        return (long) (3_000 * Math.pow(2, attempt));
+    }
+
+    /**
+     * Records raw rate-limit header values. Out-of-order responses from the same window never raise the
+     * remaining budget; a later reset instant starts a new window.
+     *
+     * @param remainingHeader {@code X-RateLimit-Remaining}, or {@code null}
+     * @param limitHeader {@code X-RateLimit-Limit}, or {@code null}
+     * @param resetHeader {@code X-RateLimit-Reset} in epoch seconds, or {@code null}
+     */
+    synchronized void observe(String remainingHeader, String limitHeader, String resetHeader) {
+        long observedRemaining = parse(remainingHeader);
+        long observedReset = parse(resetHeader);
+        if (observedRemaining < 0 || observedReset < 0) {
+            return;
+        }
+        long observedResetAt = observedReset * 1_000;
+        if (remaining < 0 || observedResetAt > resetAt) {
+            remaining = observedRemaining;
+            resetAt = observedResetAt;
+        } else if (observedResetAt == resetAt) {
+            remaining = Math.min(remaining, observedRemaining);
+        }
+        long observedLimit = parse(limitHeader);
+        if (observedLimit > 0) {
+            limit = observedLimit;
+        }
+    }
+
+    /**
+     * Gives back one reserved slot whose request was not charged by GitHub. Without it the local estimate
+     * would drift below the budget reported by the server, because an observation never raises the
+     * remaining budget within a window.
+     */
+    synchronized void refund() {
+        if (remaining >= 0) {
+            remaining++;
+        }
+    }
+
+    /**
+     * Reserves the next request slot and returns how long the caller must wait for it.
+     *
+     * @return delay in milliseconds, zero when the request may start immediately
+     */
+    synchronized long reserve() {
+        long now = clock.getAsLong();
+        long start = Math.max(now, pausedUntil);
+        if (remaining >= 0 && start >= resetAt) {
+            remaining = -1; // window rolled over, wait for the next response to learn the new budget
+        }
+        if (remaining < 0) {
+            return start - now;
+        }
+        if (remaining == 0) {
+            start = Math.max(start, resetAt + RESET_SKEW_MILLIS);
+        } else if (remaining <= lowWaterMark()) {
+            start = Math.max(start, nextSlot);
+            nextSlot = start + (resetAt - start) / remaining;
+        }
+        remaining = Math.max(0, remaining - 1);
+        return start - now;
+    }
+
+    private long lowWaterMark() {
+        return Math.max(MIN_RESERVE, limit / 10);
+    }
+
+    private static long parse(String header) {
+        if (header == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+    }
+}
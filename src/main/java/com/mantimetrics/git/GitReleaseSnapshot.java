@@ -1,30 +1,107 @@
 package com.mantimetrics.git;
 
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 
 /**
  * Aggregated commit metadata for one release range grouped by relative source path.
  *
- * @param touchMap commit SHAs touching each file
- * @param issueTouchMap commit SHAs touching each file with a Jira issue key
- * @param fileToIssueKeys Jira issue keys associated with each file
- * @param authorMap authors touching each file
- * @param additionsMap added lines per file
- * @param deletionsMap deleted lines per file
- * @param totalJavaCommits total number of unique commits that touched at least one Java file
- * @param issueLinkedJavaCommits number of unique commits with a Jira key that touched at least one Java file
+ * <p>Paths, commit SHAs, authors and issue keys are stored as ids of a per-project {@link StringDictionary}.
+ * Every touched file has one slot, ordered by path id; line counts are kept in {@code int} arrays and the
+ * per-file SHA, author and issue-key lists are packed into shared {@code int} arrays. The accessors decode
+ * ids on demand into read-only views, so no per-file list or boxed counter is retained.
  */
-public record GitReleaseSnapshot(
-        Map<String, List<String>> touchMap,
-        Map<String, List<String>> issueTouchMap,
-        Map<String, List<String>> fileToIssueKeys,
-        Map<String, List<String>> authorMap,
-        Map<String, Integer> additionsMap,
-        Map<String, Integer> deletionsMap,
-        int totalJavaCommits,
-        int issueLinkedJavaCommits
-) {
+public final class GitReleaseSnapshot {
+    private final StringDictionary dictionary;
+    private final int[] pathIds;
+    private final int[] additions;
+    private final int[] deletions;
+    private final IdLists touches;
+    private final IdLists issueTouches;
+    private final IdLists issueKeys;
+    private final IdLists authors;
+    private final int totalJavaCommits;
+    private final int issueLinkedJavaCommits;
+
+    /**
+     * Creates release commit data from per-file maps.
+     *
+     * @param touchMap commit SHAs touching each file
+     * @param issueTouchMap commit SHAs touching each file with a Jira issue key
+     * @param fileToIssueKeys Jira issue keys associated with each file
+     * @param authorMap authors touching each file
+     * @param additionsMap added lines per file
+     * @param deletionsMap deleted lines per file
+     * @param totalJavaCommits total number of unique commits that touched at least one Java file
+     * @param issueLinkedJavaCommits number of unique commits with a Jira key that touched at least one Java file
+     */
+    public GitReleaseSnapshot(
+            Map<String, List<String>> touchMap,
+            Map<String, List<String>> issueTouchMap,
+            Map<String, List<String>> fileToIssueKeys,
+            Map<String, List<String>> authorMap,
+            Map<String, Integer> additionsMap,
+            Map<String, Integer> deletionsMap,
+            int totalJavaCommits,
+            int issueLinkedJavaCommits
+    ) {
+        this(fromMaps(touchMap, issueTouchMap, fileToIssueKeys, authorMap, additionsMap, deletionsMap),
+                totalJavaCommits, issueLinkedJavaCommits);
+    }
+
+    private GitReleaseSnapshot(Builder builder, int totalJavaCommits, int issueLinkedJavaCommits) {
+        List<Builder.FileSlot> slots = new ArrayList<>(builder.files.values());
+        slots.sort((left, right) -> Integer.compare(left.pathId, right.pathId));
+        this.dictionary = builder.dictionary;
+        this.pathIds = new int[slots.size()];
+        this.additions = new int[slots.size()];
+        this.deletions = new int[slots.size()];
+        for (int slot = 0; slot < slots.size(); slot++) {
+            pathIds[slot] = slots.get(slot).pathId;
+            additions[slot] = slots.get(slot).additions;
+            deletions[slot] = slots.get(slot).deletions;
+        }
+        this.touches = IdLists.pack(slots, file -> file.touches);
+        this.issueTouches = IdLists.pack(slots, file -> file.issueTouches);
+        this.issueKeys = IdLists.pack(slots, file -> file.issueKeys);
+        this.authors = IdLists.pack(slots, file -> file.authors);
+        this.totalJavaCommits = totalJavaCommits;
+        this.issueLinkedJavaCommits = issueLinkedJavaCommits;
+    }
+
+    private static Builder fromMaps(
+            Map<String, List<String>> touchMap,
+            Map<String, List<String>> issueTouchMap,
+            Map<String, List<String>> fileToIssueKeys,
+            Map<String, List<String>> authorMap,
+            Map<String, Integer> additionsMap,
+            Map<String, Integer> deletionsMap
+    ) {
+        Builder builder = new Builder(new StringDictionary());
+        touchMap.forEach((path, shas) -> shas.forEach(sha -> builder.file(path).touches.add(builder.intern(sha))));
+        issueTouchMap.forEach((path, shas) ->
+                shas.forEach(sha -> builder.file(path).issueTouches.add(builder.intern(sha))));
+        fileToIssueKeys.forEach(builder::addIssueKeys);
+        authorMap.forEach((path, names) ->
+                names.forEach(name -> builder.file(path).authors.add(builder.intern(name))));
+        additionsMap.forEach((path, lines) -> builder.file(path).additions += lines);
+        deletionsMap.forEach((path, lines) -> builder.file(path).deletions += lines);
+        return builder;
+    }
+
     /**
      * Returns the commit SHAs touching a file in the current release range.
      *
@@ -32,7 +109,7 @@ public record GitReleaseSnapshot(
      * @return touching commit SHAs
      */
     public List<String> touchesFor(String relativePath) {
-        return touchMap.getOrDefault(relativePath, List.of());
+        return touches.get(slotOf(relativePath), dictionary);
     }
 
     /**
@@ -42,7 +119,7 @@ public record GitReleaseSnapshot(
      * @return issue-linked touching commit SHAs
      */
     public List<String> issueTouchesFor(String relativePath) {
-        return issueTouchMap.getOrDefault(relativePath, List.of());
+        return issueTouches.get(slotOf(relativePath), dictionary);
     }
 
     /**
@@ -53,7 +130,7 @@ public record GitReleaseSnapshot(
      */
     @SuppressWarnings("unused")
     public List<String> issueKeysFor(String relativePath) {
-        return fileToIssueKeys.getOrDefault(relativePath, List.of());
+        return issueKeys.get(slotOf(relativePath), dictionary);
     }
 
     /**
@@ -63,7 +140,7 @@ public record GitReleaseSnapshot(
      * @return touching authors
      */
     public List<String> authorsFor(String relativePath) {
-        return authorMap.getOrDefault(relativePath, List.of());
+        return authors.get(slotOf(relativePath), dictionary);
     }
 
     /**
@@ -73,7 +150,8 @@ public record GitReleaseSnapshot(
      * @return added lines
      */
     public int additionsFor(String relativePath) {
-        return additionsMap.getOrDefault(relativePath, 0);
+        int slot = slotOf(relativePath);
+        return slot < 0 ? 0 : additions[slot];
     }
 
     /**
@@ -83,7 +161,8 @@ public record GitReleaseSnapshot(
      * @return deleted lines
      */
     public int deletionsFor(String relativePath) {
-        return deletionsMap.getOrDefault(relativePath, 0);
+        int slot = slotOf(relativePath);
+        return slot < 0 ? 0 : deletions[slot];
     }
 
     /**
@@ -93,6 +172,337 @@ public record GitReleaseSnapshot(
      * @return added plus deleted lines
      */
     public int churnFor(String relativePath) {
-        return additionsFor(relativePath) + deletionsFor(relativePath);
+        int slot = slotOf(relativePath);
+        return slot < 0 ? 0 : additions[slot] + deletions[slot];
+    }
+
+    /**
+     * Returns a read-only view of the commit SHAs touching each file.
+     *
+     * @return commit SHAs keyed by relative path
+     */
+    public Map<String, List<String>> touchMap() {
+        return new SlotMap<>(slot -> !touches.isEmpty(slot), slot -> touches.get(slot, dictionary));
+    }
+
+    /**
+     * Returns a read-only view of the issue-linked commit SHAs touching each file.
+     *
+     * @return issue-linked commit SHAs keyed by relative path
+     */
+    public Map<String, List<String>> issueTouchMap() {
+        return new SlotMap<>(slot -> !issueTouches.isEmpty(slot), slot -> issueTouches.get(slot, dictionary));
+    }
+
+    /**
+     * Returns a read-only view of the Jira issue keys associated with each file.
+     *
+     * @return issue keys keyed by relative path
+     */
+    public Map<String, List<String>> fileToIssueKeys() {
+        return new SlotMap<>(slot -> !issueKeys.isEmpty(slot), slot -> issueKeys.get(slot, dictionary));
+    }
+
+    /**
+     * Returns a read-only view of the authors touching each file.
+     *
+     * @return authors keyed by relative path
+     */
+    public Map<String, List<String>> authorMap() {
+        return new SlotMap<>(slot -> !authors.isEmpty(slot), slot -> authors.get(slot, dictionary));
+    }
+
+    /**
+     * Returns a read-only view of the added lines per touched file.
+     *
+     * @return added lines keyed by relative path
+     */
+    public Map<String, Integer> additionsMap() {
+        return new SlotMap<>(slot -> !touches.isEmpty(slot), slot -> additions[slot]);
+    }
+
+    /**
+     * Returns a read-only view of the deleted lines per touched file.
+     *
+     * @return deleted lines keyed by relative path
+     */
+    public Map<String, Integer> deletionsMap() {
+        return new SlotMap<>(slot -> !touches.isEmpty(slot), slot -> deletions[slot]);
+    }
+
+    /**
+     * Returns the total number of unique commits that touched at least one Java file.
+     *
+     * @return unique Java commits in the release range
+     */
+    public int totalJavaCommits() {
+        return totalJavaCommits;
+    }
+
+    /**
+     * Returns the number of unique commits with an issue key that touched at least one Java file.
+     *
+     * @return unique issue-linked Java commits in the release range
+     */
+    public int issueLinkedJavaCommits() {
+        return issueLinkedJavaCommits;
+    }
+
+    /**
+     * Finds the slot of a path with a binary search over the sorted path ids.
+     */
+    private int slotOf(String relativePath) {
+        int id = dictionary.idOf(relativePath);
+        if (id < 0) {
+            return -1;
+        }
+        int slot = Arrays.binarySearch(pathIds, id);
+        return slot >= 0 ? slot : -1;
+    }
+
+    /**
+     * Accumulates the per-file aggregates of one release range before they are packed into a snapshot.
+     */
+    static final class Builder {
+        private final StringDictionary dictionary;
+        private final Map<String, FileSlot> files = new HashMap<>();
+
+        /**
+         * Creates an empty builder interning into the project dictionary.
+         *
+         * @param dictionary dictionary shared by the releases of the project
+         */
+        Builder(StringDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        /**
+         * Records one commit touching a file.
+         *
+         * @param path relative file path
+         * @param sha commit SHA
+         * @param author commit author, ignored when blank
+         * @param addedLines added lines reported for the file
+         * @param deletedLines deleted lines reported for the file
+         */
+        void touch(String path, String sha, String author, int addedLines, int deletedLines) {
+            FileSlot file = file(path);
+            file.touches.add(dictionary.intern(sha));
+            if (!author.isBlank()) {
+                file.authors.add(dictionary.intern(author));
+            }
+            file.additions += addedLines;
+            file.deletions += deletedLines;
+        }
+
+        /**
+         * Records one issue-linked commit touching a file.
+         *
+         * @param path relative file path
+         * @param sha commit SHA
+         */
+        void issueTouch(String path, String sha) {
+            file(path).issueTouches.add(dictionary.intern(sha));
+        }
+
+        /**
+         * Adds issue keys to a file, keeping each key once in first-seen order.
+         *
+         * @param path relative file path
+         * @param keys issue keys referenced by a commit touching the file
+         */
+        void addIssueKeys(String path, List<String> keys) {
+            IntList fileKeys = file(path).issueKeys;
+            for (String key : keys) {
+                int id = dictionary.intern(key);
+                if (!fileKeys.contains(id)) {
+                    fileKeys.add(id);
+                }
+            }
+        }
+
+        /**
+         * Packs the accumulated aggregates into an immutable snapshot.
+         *
+         * @param totalJavaCommits unique commits that touched at least one Java file
+         * @param issueLinkedJavaCommits unique issue-linked commits that touched at least one Java file
+         * @return release commit data
+         */
+        GitReleaseSnapshot build(int totalJavaCommits, int issueLinkedJavaCommits) {
+            return new GitReleaseSnapshot(this, totalJavaCommits, issueLinkedJavaCommits);
+        }
+
+        private int intern(String value) {
+            return dictionary.intern(value);
+        }
+
+        private FileSlot file(String path) {
+            return files.computeIfAbsent(path, ignored -> new FileSlot(dictionary.intern(path)));
+        }
+
+        /** Mutable aggregates of one file. */
+        private static final class FileSlot {
+            private final int pathId;
+            private final IntList touches = new IntList();
+            private final IntList issueTouches = new IntList();
+            private final IntList issueKeys = new IntList();
+            private final IntList authors = new IntList();
+            private int additions;
+            private int deletions;
+
+            private FileSlot(int pathId) {
+                this.pathId = pathId;
+            }
+        }
+    }
+
+    /** Growable {@code int} list used while building. */
+    private static final class IntList {
+        private int[] values = new int[2];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        boolean contains(int value) {
+            for (int index = 0; index < size; index++) {
+                if (values[index] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Per-slot id lists packed into one array: the ids of slot {@code s} are
+     * {@code ids[offsets[s]..offsets[s + 1])}.
+     */
+    private record IdLists(int[] offsets, int[] ids) {
+
+        static IdLists pack(List<Builder.FileSlot> slots, Function<Builder.FileSlot, IntList> list) {
+            int[] offsets = new int[slots.size() + 1];
+            for (int slot = 0; slot < slots.size(); slot++) {
+                offsets[slot + 1] = offsets[slot] + list.apply(slots.get(slot)).size;
+            }
+            int[] ids = new int[offsets[slots.size()]];
+            for (int slot = 0; slot < slots.size(); slot++) {
+                IntList values = list.apply(slots.get(slot));
+                System.arraycopy(values.values, 0, ids, offsets[slot], values.size);
+            }
+            return new IdLists(offsets, ids);
+        }
+
+        boolean isEmpty(int slot) {
+            return offsets[slot] == offsets[slot + 1];
+        }
+
+        List<String> get(int slot, StringDictionary dictionary) {
+            if (slot < 0 || isEmpty(slot)) {
+                return List.of();
+            }
+            return new DecodedList(dictionary, ids, offsets[slot], offsets[slot + 1]);
+        }
+    }
+
+    /** Read-only view decoding a range of ids. */
+    private static final class DecodedList extends AbstractList<String> implements RandomAccess {
+        private final StringDictionary dictionary;
+        private final int[] ids;
+        private final int from;
+        private final int to;
+
+        private DecodedList(StringDictionary dictionary, int[] ids, int from, int to) {
+            this.dictionary = dictionary;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return dictionary.valueOf(ids[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /** Read-only map view over the slots that carry a value. */
+    private final class SlotMap<V> extends AbstractMap<String, V> {
+        private final IntPredicate present;
+        private final IntFunction<V> value;
+
+        private SlotMap(IntPredicate present, IntFunction<V> value) {
+            this.present = present;
+            this.value = value;
+        }
+
+        @Override
+        public V get(Object key) {
+            int slot = key instanceof String path ? slotOf(path) : -1;
+            return slot >= 0 && present.test(slot) ? value.apply(slot) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int slot = key instanceof String path ? slotOf(path) : -1;
+            return slot >= 0 && present.test(slot);
+        }
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < pathIds.length;
+                        }
+
+                        @Override
+                        public Entry<String, V> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int slot = next;
+                            next = advance(slot + 1);
+                            return new SimpleImmutableEntry<>(dictionary.valueOf(pathIds[slot]), value.apply(slot));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int count = 0;
+                    for (int slot = 0; slot < pathIds.length; slot++) {
+                        if (present.test(slot)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }
+            };
+        }
+
+        private int advance(int from) {
+            int slot = from;
+            while (slot < pathIds.length && !present.test(slot)) {
+                slot++;
+            }
+            return slot;
+        }
     }
 }
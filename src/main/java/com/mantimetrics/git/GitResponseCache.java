@@ -0,0 +1,186 @@
+package com.mantimetrics.git;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persistent cache of GitHub API responses keyed by URL, storing the {@code ETag} and the body of each
+ * response. Cached URLs are requested with {@code If-None-Match}; GitHub answers {@code 304 Not Modified}
+ * without charging the primary rate limit and the stored body is replayed.
+ *
+ * <p>Entries are kept in least-recently-used order and evicted beyond a byte budget. The cache is loaded
+ * once and rewritten on {@link #save()} through a temporary file and an atomic move. All methods are
+ * thread-safe.
+ */
+final class GitResponseCache {
+    private static final Logger LOG = LoggerFactory.getLogger(GitResponseCache.class);
+    private static final int MAGIC = 0x4D4D4552; // "MMER"
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final long maxBytes;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong revalidated = new AtomicLong();
+    private long bytes;
+
+    private GitResponseCache(Path file, long maxBytes) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Opens the cache file, starting empty when it is missing, unreadable or written by another format.
+     *
+     * @param file cache file path
+     * @param maxBytes maximum total size of the cached bodies
+     * @return opened cache
+     */
+    static GitResponseCache open(Path file, long maxBytes) {
+        GitResponseCache cache = new GitResponseCache(file, maxBytes);
+        if (!Files.isRegularFile(file)) {
+            return cache;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unsupported response cache format");
+            }
+            int count = in.readInt();
+            for (int index = 0; index < count; index++) {
+                String url = readString(in);
+                String etag = readString(in);
+                byte[] body = new byte[in.readInt()];
+                in.readFully(body);
+                cache.put(url, etag, body);
+            }
+            LOG.info("GitHub response cache {} - {} cached responses", file, cache.size());
+        } catch (IOException exception) {
+            LOG.warn("GitHub response cache {} unreadable, starting empty: {}", file, exception.getMessage());
+            cache.clear();
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the cached response of a URL.
+     *
+     * @param url requested URL
+     * @return cached response, or {@code null} when the URL is not cached
+     */
+    synchronized Entry get(String url) {
+        return entries.get(url);
+    }
+
+    /**
+     * Stores the response of a URL, replacing any previous one and evicting the least recently used
+     * responses beyond the byte budget. Bodies larger than the whole budget are not stored.
+     *
+     * @param url requested URL
+     * @param etag {@code ETag} header of the response
+     * @param body raw response body
+     */
+    synchronized void put(String url, String etag, byte[] body) {
+        Entry previous = entries.remove(url);
+        if (previous != null) {
+            bytes -= previous.body().length;
+        }
+        if (body.length > maxBytes) {
+            return;
+        }
+        entries.put(url, new Entry(etag, body));
+        bytes += body.length;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().body().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Returns the number of cached responses.
+     *
+     * @return cached response count
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Records a request answered with {@code 304 Not Modified}.
+     */
+    void recordRevalidation() {
+        revalidated.incrementAndGet();
+    }
+
+    /**
+     * Returns how many requests were answered with {@code 304 Not Modified} and served from the cache.
+     *
+     * @return requests that did not consume primary rate limit
+     */
+    long revalidatedRequests() {
+        return revalidated.get();
+    }
+
+    /**
+     * Writes every cached response to disk.
+     *
+     * @throws IOException when the cache file cannot be written
+     */
+    synchronized void save() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue().etag());
+                out.writeInt(entry.getValue().body().length);
+                out.write(entry.getValue().body());
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] encoded = new byte[in.readInt()];
+        in.readFully(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Cached response of one URL.
+     *
+     * @param etag {@code ETag} header of the response
+     * @param body raw response body
+     */
+    record Entry(String etag, byte[] body) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.mantimetrics.git;
+
+import com.mantimetrics.javaparsing.ParsedFileRappresentation;
+import com.mantimetrics.javaparsing.ScanResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Release archive spooled to a temporary file and read through its central directory. Only entry metadata is
+ * read up front; each production source becomes a {@link ZipEntrySource} decoded on demand, so the heap used
+ * by a release is bounded by the files being analysed rather than by the whole source tree. The archive is
+ * the {@link ScanResult#archive()} of the release: closing the result closes it and deletes the file.
+ */
+final class GitSpooledArchive {
+
+    private GitSpooledArchive() {
+    }
+
+    /**
+     * Copies an archive stream to a temporary file and lists its production sources.
+     *
+     * @param archive archive stream, fully consumed but not closed
+     * @param releaseId stable identifier for the release
+     * @return lazily decoded release sources
+     * @throws IOException when the archive cannot be spooled or violates the extraction quotas
+     */
+    static ScanResult spool(InputStream archive, String releaseId) throws IOException {
+        Path file = Files.createTempFile("mantimetrics-release-", ".zip");
+        try {
+            Files.copy(archive, file, StandardCopyOption.REPLACE_EXISTING);
+            return open(file, releaseId);
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(file);
+            throw exception;
+        }
+    }
+
+    /**
+     * Opens a spooled archive and lists its production sources. The file is deleted when the returned result
+     * is closed.
+     *
+     * @param file spooled archive file
+     * @param releaseId stable identifier for the release
+     * @return lazily decoded release sources
+     * @throws IOException when the archive cannot be opened or violates the extraction quotas
+     */
+    static ScanResult open(Path file, String releaseId) throws IOException {
+        ZipFile zip = new ZipFile(file.toFile(), ZipFile.OPEN_READ | ZipFile.OPEN_DELETE);
+        try {
+            List<ParsedFileRappresentation> sources = new ArrayList<>();
+            long total = 0;
+            int entries = 0;
+            Enumeration<? extends ZipEntry> all = zip.entries();
+            while (all.hasMoreElements()) {
+                ZipEntry entry = all.nextElement();
+                entries++;
+                GitZipExtractor.validateEntry(entries);
+                if (GitZipExtractor.nameValidation(entry.getName())
+                        || !GitZipExtractor.shouldMaterialize(entry.getName(), entry.isDirectory())) {
+                    continue;
+                }
+                if (entry.getSize() < 0 || entry.getSize() > Integer.MAX_VALUE) {
+                    throw new IOException("ZIP: invalid size for " + entry.getName());
+                }
+                total = GitZipExtractor.checkQuotas(total, entry.getSize(), entry.getCompressedSize());
+                sources.add(new ParsedFileRappresentation(
+                        toRelativeSourcePath(entry.getName()), new ZipEntrySource(zip, entry), List.of()));
+            }
+            if (sources.isEmpty()) {
+                zip.close();
+                return new ScanResult(releaseId, 0, List.of());
+            }
+            return new ScanResult(releaseId, sources.size(), List.copyOf(sources), zip);
+        } catch (IOException | RuntimeException exception) {
+            zip.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Removes the top-level archive folder from an entry name and normalizes separators.
+     *
+     * @param entryName ZIP entry name
+     * @return normalized relative source path
+     */
+    private static String toRelativeSourcePath(String entryName) {
+        String normalized = entryName.replace('\\', '/');
+        int firstSlash = normalized.indexOf('/');
+        return firstSlash >= 0 ? normalized.substring(firstSlash + 1) : normalized;
+    }
+}
@@ -23,26 +23,42 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /**
- * Downloads GitHub source archives and extracts Java production sources directly in memory.
+ * Downloads GitHub source archives and extracts Java production sources, either directly in memory or, with
+ * {@link SourceIngestion#SPOOL}, through a temporary archive file whose entries are decoded on demand.
  */
-class GitZipDownloader {
+class GitZipDownloader implements ReleaseSourceProvider {
     private static final Logger LOG = LoggerFactory.getLogger(GitZipDownloader.class);
     private static final String ZIP = "https://codeload.github.com";
     private static final int MAX_R = 5;
 
     private final OkHttpClient longClient;
+    private final GitRateGovernor rateGovernor;
+    private final SourceIngestion ingestion;
     private final Semaphore permits = new Semaphore(5_000, true);
 
     /**
-     * Creates a downloader sharing the HTTP configuration of the GitHub API client.
+     * Creates a downloader sharing the HTTP configuration and the rate-limit governor of the GitHub API
+     * client. Archive downloads are not metered by the API rate limit, so they only honour active pauses.
      *
      * @param client shared GitHub API client
      */
     GitZipDownloader(GitClient client) {
+        this(client, SourceIngestion.MEMORY);
+    }
+
+    /**
+     * Creates a downloader turning release archives into sources with the requested ingestion mode.
+     *
+     * @param client shared GitHub API client
+     * @param ingestion how downloaded archives are turned into sources
+     */
+    GitZipDownloader(GitClient client, SourceIngestion ingestion) {
         this.longClient = client.http.newBuilder()
                 .readTimeout(Duration.ofMinutes(10))
                 .writeTimeout(Duration.ZERO)
                 .build();
+        this.rateGovernor = client.rateGovernor;
+        this.ingestion = ingestion;
     }
 
     /**
@@ -55,7 +71,8 @@ class GitZipDownloader {
      * @throws IOException when the download or extraction fails
      * @throws InterruptedException when the thread is interrupted while waiting between retries
      */
-    ScanResult downloadSources(String owner, String repo, String ref)
+    @Override
+    public ScanResult downloadSources(String owner, String repo, String ref)
             throws IOException, InterruptedException {
         String url = ZIP + "/" + owner + "/" + repo + "/zip/" +
                 URLEncoder.encode(ref, StandardCharsets.UTF_8);
@@ -92,15 +109,23 @@ class GitZipDownloader {
      * @param releaseId stable identifier for the downloaded release
      * @return extracted source files for the release
      * @throws IOException when the download or extraction fails
+     * @throws InterruptedException when the thread is interrupted while waiting for a rate-limit pause
      */
-    private ScanResult tryDownload(String url, String releaseId) throws IOException {
+    private ScanResult tryDownload(String url, String releaseId) throws IOException, InterruptedException {
         permits.acquireUninterruptibly();
         try {
+            rateGovernor.awaitPause();
             Request request = new Request.Builder().url(url).build();
             try (Response response = longClient.newCall(request).execute()) {
+                rateGovernor.observe(response);
                 if (!response.isSuccessful() || response.body() == null) {
                     throw new IOException("ZIP HTTP " + response.code());
                 }
+                if (ingestion == SourceIngestion.SPOOL) {
+                    try (InputStream inputStream = response.body().byteStream()) {
+                        return GitSpooledArchive.spool(inputStream, releaseId);
+                    }
+                }
 
                 List<ParsedFileRappresentation> sources = new ArrayList<>();
                 long total = 0;
@@ -231,11 +256,13 @@ class GitZipDownloader {
     /**
      * One extraction attempt: streams the ZIP response directly to disk.
      */
-    private void tryExtractFull(String url, Path targetDir) throws IOException {
+    private void tryExtractFull(String url, Path targetDir) throws IOException, InterruptedException {
         permits.acquireUninterruptibly();
         try {
+            rateGovernor.awaitPause();
             Request request = new Request.Builder().url(url).build();
             try (Response response = longClient.newCall(request).execute()) {
+                rateGovernor.observe(response);
                 if (!response.isSuccessful() || response.body() == null) {
                     throw new IOException("ZIP HTTP " + response.code());
                 }
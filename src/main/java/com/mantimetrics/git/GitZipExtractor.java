@@ -68,7 +68,7 @@ class GitZipExtractor {
      * @param name entry name to validate
      * @return {@code true} when the entry name is unsafe
      */
-    private static boolean nameValidation(String name) {
+    static boolean nameValidation(String name) {
         if (name.isBlank()) {
             LOG.warn("Skipping entry: blank name");
             return true;
@@ -10,8 +10,14 @@ import java.util.List;
  */
 public final class RawReleaseCommits {
     final List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> commits;
+    final StringDictionary dictionary;
 
     RawReleaseCommits(List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> commits) {
+        this(commits, new StringDictionary());
+    }
+
+    RawReleaseCommits(List<GitPrevReleaseBuilder.ReleaseCommitSnapshot> commits, StringDictionary dictionary) {
         this.commits = List.copyOf(commits);
+        this.dictionary = dictionary;
     }
 }
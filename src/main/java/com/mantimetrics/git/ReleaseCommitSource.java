@@ -0,0 +1,23 @@
+package com.mantimetrics.git;
+
+import java.io.IOException;
+
+/**
+ * Provides the raw commit snapshots belonging to a release range.
+ */
+interface ReleaseCommitSource {
+
+    /**
+     * Fetches the raw commit snapshots for a release range, in chronological order.
+     *
+     * @param owner repository owner
+     * @param repo repository name
+     * @param prevTag previous release tag, or {@code null} for the first release
+     * @param tag current release tag
+     * @return opaque holder of the raw commit snapshots
+     * @throws IOException when the commit data cannot be read
+     * @throws InterruptedException when the thread is interrupted while waiting for the data
+     */
+    RawReleaseCommits fetchRaw(String owner, String repo, String prevTag, String tag)
+            throws IOException, InterruptedException;
+}
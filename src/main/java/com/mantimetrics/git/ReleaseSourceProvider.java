@@ -0,0 +1,23 @@
+package com.mantimetrics.git;
+
+import com.mantimetrics.javaparsing.ScanResult;
+
+import java.io.IOException;
+
+/**
+ * Provides the production Java sources of a release reference.
+ */
+interface ReleaseSourceProvider {
+
+    /**
+     * Loads the production Java sources of a release reference.
+     *
+     * @param owner repository owner
+     * @param repo repository name
+     * @param ref tag or branch reference to load
+     * @return production source files of the release
+     * @throws IOException when the sources cannot be read
+     * @throws InterruptedException when the thread is interrupted while waiting for the sources
+     */
+    ScanResult downloadSources(String owner, String repo, String ref) throws IOException, InterruptedException;
+}
@@ -0,0 +1,21 @@
+package com.mantimetrics.git;
+
+/**
+ * How release archives downloaded from codeload are turned into sources (flag --source-ingestion).
+ */
+public enum SourceIngestion {
+    /** Every production source of the release is decoded into a string while the archive is streamed. */
+    MEMORY,
+    /** The archive is spooled to a temporary file and each source is decoded only when it is read. */
+    SPOOL;
+
+    /**
+     * Parses a CLI token into an ingestion mode (defaults to MEMORY).
+     *
+     * @param raw raw value provided by the user
+     * @return matching ingestion mode
+     */
+    public static SourceIngestion fromCli(String raw) {
+        return raw != null && raw.trim().equalsIgnoreCase("spool") ? SPOOL : MEMORY;
+    }
+}
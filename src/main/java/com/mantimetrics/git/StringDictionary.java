@@ -0,0 +1,67 @@
+package com.mantimetrics.git;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interning dictionary that maps the file paths, commit SHAs, authors and issue keys of one project to dense
+ * {@code int} ids. Release aggregates store ids instead of strings, so every distinct value is held once per
+ * project no matter how many releases and dataset variants reference it.
+ *
+ * <p>Interning is serialized; lookups by id never lock, so the enrichment workers can decode ids
+ * concurrently. An id is only ever handed out after its value is stored.
+ */
+final class StringDictionary {
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[1024];
+    private int size;
+
+    /**
+     * Returns the id of a value, assigning the next free id on first use.
+     *
+     * @param value value to intern
+     * @return dense id of the value
+     */
+    int intern(String value) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(value);
+            if (id != null) {
+                return id;
+            }
+            String[] current = values;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+            }
+            current[size] = value;
+            values = current;
+            ids.put(value, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Returns the id of a value without interning it.
+     *
+     * @param value value to look up
+     * @return id of the value, or {@code -1} when it was never interned
+     */
+    int idOf(String value) {
+        Integer id = ids.get(value);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the value of an id handed out by {@link #intern(String)}.
+     *
+     * @param id interned id
+     * @return interned value
+     */
+    String valueOf(int id) {
+        return values[id];
+    }
+}
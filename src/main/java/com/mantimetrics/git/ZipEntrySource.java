@@ -0,0 +1,81 @@
+package com.mantimetrics.git;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Source text of one entry of a spooled release archive, decoded from the {@link ZipFile} only when it is
+ * read. The decoded text is held through a soft reference, so the sources of a whole release can be listed
+ * while only the files currently being analysed are guaranteed to stay on the heap.
+ *
+ * <p>Every source of a release shares the same archive, which is closed with the release's
+ * {@link com.mantimetrics.javaparsing.ScanResult}; reading a source that was not decoded before then fails.
+ */
+final class ZipEntrySource implements CharSequence {
+    private final ZipFile archive;
+    private final ZipEntry entry;
+    private SoftReference<String> decoded = new SoftReference<>(null);
+
+    /**
+     * Creates a lazy source for an archive entry.
+     *
+     * @param archive open release archive
+     * @param entry production source entry of the archive
+     */
+    ZipEntrySource(ZipFile archive, ZipEntry entry) {
+        this.archive = archive;
+        this.entry = entry;
+    }
+
+    @Override
+    public int length() {
+        return text().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return text().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return text().subSequence(start, end);
+    }
+
+    /**
+     * Returns the decoded source text, reading the entry again when the previous copy was reclaimed.
+     *
+     * @return source text
+     * @throws UncheckedIOException when the archive entry cannot be read
+     * @throws IllegalStateException when the archive was closed before the source was decoded
+     */
+    @Override
+    public String toString() {
+        return text();
+    }
+
+    private synchronized String text() {
+        String text = decoded.get();
+        if (text == null) {
+            text = read();
+            decoded = new SoftReference<>(text);
+        }
+        return text;
+    }
+
+    private String read() {
+        try (InputStream in = archive.getInputStream(entry)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot read " + entry.getName() + " from " + archive.getName(), exception);
+        } catch (IllegalStateException exception) {
+            throw new IllegalStateException("Cannot read " + entry.getName() + ": release archive "
+                    + archive.getName() + " already closed", exception);
+        }
+    }
+}
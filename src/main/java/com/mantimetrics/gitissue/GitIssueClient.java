@@ -1 +1 @@
-package com.mantimetrics.gitissue;import com.fasterxml.jackson.databind.JsonNode;import com.fasterxml.jackson.databind.ObjectMapper;import okhttp3.OkHttpClient;import okhttp3.Request;import okhttp3.Response;import org.slf4j.Logger;import org.slf4j.LoggerFactory;import java.io.IOException;import java.time.Duration;import java.time.Instant;import java.util.ArrayList;import java.util.List;/** * Fetches closed, bug-labeled GitHub Issues for a repository, used as a complementary * defect source to Jira. Pull requests are skipped (the /issues endpoint returns both). */public final class GitIssueClient {    private static final Logger LOG = LoggerFactory.getLogger(GitIssueClient.class);    private static final int PAGE_SIZE = 100;    private final OkHttpClient http;    private final ObjectMapper json = new ObjectMapper();    private final String token;    /**     * Creates a client configured with a GitHub personal access token.     *     * @param token GitHub personal access token     */    public GitIssueClient(String token) {        this.token = token;        this.http = new OkHttpClient.Builder()                .connectTimeout(Duration.ofSeconds(30))                .readTimeout(Duration.ofSeconds(60))                .callTimeout(Duration.ofSeconds(90))                .retryOnConnectionFailure(true)                .build();    }    /**     * Fetches all closed issues carrying the bug label for a repository, following pagination.     *     * @param owner repository owner     * @param repo repository name     * @return list of raw GitHub bug issues (number + creation timestamp)     * @throws IOException when a request fails permanently     */    public List<RawIssue> fetchClosedBugIssues(String owner, String repo) throws IOException {        List<RawIssue> issues = new ArrayList<>();        int page = 1;        boolean done = false;        while (!done) {            String url = String.format(                    "%s/repos/%s/%s/issues?state=%s&labels=%s&per_page=%d&page=%d",                    GitIssueConfig.API_BASE, owner, repo,                    GitIssueConfig.STATE, GitIssueConfig.BUG_LABEL, PAGE_SIZE, page);            JsonNode array = get(url);            if (!array.isArray() || array.isEmpty()) {                done = true;            } else {                for (JsonNode node : array) {                    // /issues also returns PRs; skip them                    if (!node.has("pull_request")) {                        issues.add(new RawIssue(                                node.path("number").asInt(),                                Instant.parse(node.path("created_at").asText())));                    }                }                done = array.size() < PAGE_SIZE;                if (!done) {                    page++;                }            }        }        LOG.info("GitHub Issues: fetched {} closed bug issues for {}/{}", issues.size(), owner, repo);        return issues;    }    /**     * Performs a GitHub API GET request and parses the JSON response.     *     * @param url fully qualified GitHub API URL     * @return parsed JSON response     * @throws IOException when the request fails or returns a non-success status     */    private JsonNode get(String url) throws IOException {        Request request = new Request.Builder()                .url(url)                .header("Authorization", "token " + token)                .header("Accept", "application/vnd.github.v3+json")                .build();        try (Response response = http.newCall(request).execute()) {            if (!response.isSuccessful() || response.body() == null) {                throw new IOException("HTTP " + response.code() + " for " + url);            }            return json.readTree(response.body().string());        }    }    /**     * Minimal raw GitHub issue payload needed by the labeling flow.     *     * @param number GitHub issue number     * @param createdAt issue creation timestamp     */    public record RawIssue(int number, Instant createdAt) {    }}
\ No newline at end of file
+package com.mantimetrics.gitissue;import com.fasterxml.jackson.databind.JsonNode;import com.fasterxml.jackson.databind.ObjectMapper;import com.mantimetrics.git.GitRateGovernor;import okhttp3.OkHttpClient;import okhttp3.Request;import okhttp3.Response;import org.slf4j.Logger;import org.slf4j.LoggerFactory;import java.io.IOException;import java.time.Duration;import java.time.Instant;import java.util.ArrayList;import java.util.List;import java.util.concurrent.TimeUnit;/** * Fetches closed, bug-labeled GitHub Issues for a repository, used as a complementary * defect source to Jira. Pull requests are skipped (the /issues endpoint returns both). */public final class GitIssueClient {    private static final Logger LOG = LoggerFactory.getLogger(GitIssueClient.class);    private static final int PAGE_SIZE = 100;    private static final int MAX_R = 5;    private final OkHttpClient http;    private final ObjectMapper json = new ObjectMapper();    private final String token;    private final GitRateGovernor rateGovernor;    /**     * Creates a client configured with a GitHub personal access token.     *     * @param token GitHub personal access token     */    public GitIssueClient(String token) {        this(token, new GitRateGovernor());    }    /**     * Creates a client pacing its requests through the rate-limit governor shared with the other GitHub     * clients using the same token.     *     * @param token GitHub personal access token     * @param rateGovernor shared GitHub rate-limit governor     */    public GitIssueClient(String token, GitRateGovernor rateGovernor) {        this.token = token;        this.rateGovernor = rateGovernor;        this.http = new OkHttpClient.Builder()                .connectTimeout(Duration.ofSeconds(30))                .readTimeout(Duration.ofSeconds(60))                .callTimeout(Duration.ofSeconds(90))                .retryOnConnectionFailure(true)                .build();    }    /**     * Fetches all closed issues carrying the bug label for a repository, following pagination.     *     * @param owner repository owner     * @param repo repository name     * @return list of raw GitHub bug issues (number + creation timestamp)     * @throws IOException when a request fails permanently     * @throws InterruptedException when the thread is interrupted while waiting for the rate limit     */    public List<RawIssue> fetchClosedBugIssues(String owner, String repo) throws IOException, InterruptedException {        List<RawIssue> issues = new ArrayList<>();        int page = 1;        boolean done = false;        while (!done) {            String url = String.format(                    "%s/repos/%s/%s/issues?state=%s&labels=%s&per_page=%d&page=%d",                    GitIssueConfig.API_BASE, owner, repo,                    GitIssueConfig.STATE, GitIssueConfig.BUG_LABEL, PAGE_SIZE, page);            JsonNode array = get(url);            if (!array.isArray() || array.isEmpty()) {                done = true;            } else {                for (JsonNode node : array) {                    // /issues also returns PRs; skip them                    if (!node.has("pull_request")) {                        issues.add(new RawIssue(                                node.path("number").asInt(),                                Instant.parse(node.path("created_at").asText())));                    }                }                done = array.size() < PAGE_SIZE;                if (!done) {                    page++;                }            }        }        LOG.info("GitHub Issues: fetched {} closed bug issues for {}/{}", issues.size(), owner, repo);        return issues;    }    /**     * Performs a GitHub API GET request and parses the JSON response, waiting out rate-limit answers.     *     * @param url fully qualified GitHub API URL     * @return parsed JSON response     * @throws IOException when the request fails or returns a non-success status     * @throws InterruptedException when the thread is interrupted while waiting for the rate limit     */    private JsonNode get(String url) throws IOException, InterruptedException {        Request request = new Request.Builder()                .url(url)                .header("Authorization", "token " + token)                .header("Accept", "application/vnd.github.v3+json")                .build();        for (int attempt = 0; attempt < MAX_R; attempt++) {            rateGovernor.acquire();            try (Response response = http.newCall(request).execute()) {                rateGovernor.observe(response);                if (response.code() == 403 || response.code() == 429) {                    long wait = rateGovernor.pause(response, attempt);                    LOG.warn("GitHub Issues rate-limit {}, retry {}/{} in {}ms", response.code(), attempt + 1, MAX_R, wait);                    TimeUnit.MILLISECONDS.sleep(wait);                    continue;                }                if (!response.isSuccessful() || response.body() == null) {                    throw new IOException("HTTP " + response.code() + " for " + url);                }                return json.readTree(response.body().string());            }        }        throw new IOException("Retries exhausted for " + url);    }    /**     * Minimal raw GitHub issue payload needed by the labeling flow.     *     * @param number GitHub issue number     * @param createdAt issue creation timestamp     */    public record RawIssue(int number, Instant createdAt) {    }}
\ No newline at end of file
@@ -13,10 +13,12 @@ import java.util.Optional;
 
 /**
  * Parses Java source strings into JavaParser compilation units.
+ * {@link JavaParser} is not thread-safe, so each thread parses with its own instance.
  */
 final class CompilationUnitLoader {
     private static final Logger LOG = LoggerFactory.getLogger(CompilationUnitLoader.class);
-    private final JavaParser parser = new JavaParser(new ParserConfiguration());
+    private final ThreadLocal<JavaParser> parser =
+            ThreadLocal.withInitial(() -> new JavaParser(new ParserConfiguration()));
 
     /**
      * Parses one Java source file, logging failures instead of throwing parsing exceptions.
@@ -28,7 +30,7 @@ final class CompilationUnitLoader {
      */
     Optional<CompilationUnit> parse(String source, String sourceId, String logPrefix) {
         try {
-            return parser.parse(ParseStart.COMPILATION_UNIT, Providers.provider(source)).getResult();
+            return parser.get().parse(ParseStart.COMPILATION_UNIT, Providers.provider(source)).getResult();
         } catch (ParseProblemException exception) {
             LOG.warn("[{}] Failed to parse {}: {}", logPrefix, sourceId, exception.getMessage());
         }
@@ -13,10 +13,29 @@ import java.util.List;
 
 /**
  * Builds class-level dataset rows from parsed Java source files.
+ * Parse and metric results depend only on the file content, so they are looked up in a
+ * {@link ParsedTypeCache} first and computed only for content not seen before.
  */
 final class JavaClassDataASTBuilder {
     private static final Logger LOG = LoggerFactory.getLogger(JavaClassDataASTBuilder.class);
     private final CompilationUnitLoader loader = new CompilationUnitLoader();
+    private final ParsedTypeCache cache;
+
+    /**
+     * Creates a builder with a memory-only parse cache.
+     */
+    JavaClassDataASTBuilder() {
+        this(ParsedTypeCache.inMemory());
+    }
+
+    /**
+     * Creates a builder reusing the provided parse cache.
+     *
+     * @param cache content-keyed cache of per-type results
+     */
+    JavaClassDataASTBuilder(ParsedTypeCache cache) {
+        this.cache = cache;
+    }
 
     /**
      * Collects class rows from one parsed source file.
@@ -24,7 +43,7 @@ final class JavaClassDataASTBuilder {
      * @param sourceFile parsed source file
      * @param repo project name
      * @param tag release identifier
-     * @param calculator metrics calculator
+     * @param calculator metrics calculator, used only for content missing from the cache
      * @return class rows extracted from the file
      */
     List<DatasetClassData> collect(
@@ -33,44 +52,69 @@ final class JavaClassDataASTBuilder {
             String tag,
             MetricsCalculator calculator
     ) {
-        List<DatasetClassData> types = new ArrayList<>();
-        loader.parse(sourceFile.source(), sourceFile.relativePath(), "CLASS")
-                .ifPresent(unit -> collectTypes(unit, sourceFile, repo, tag, calculator, types));
+        String source = sourceFile.source().toString();
+        String key = ParsedTypeCache.keyOf(source);
+        List<ParsedTypeCache.CachedType> types = cache.get(key);
+        if (types == null) {
+            types = analyse(sourceFile, source, calculator);
+            cache.put(key, types);
+        }
+
+        List<DatasetClassData> rows = new ArrayList<>(types.size());
+        for (ParsedTypeCache.CachedType type : types) {
+            rows.add(new DatasetClassData.Builder()
+                    .projectName(repo)
+                    .path('/' + sourceFile.relativePath() + '/')
+                    .className(type.qualifiedName())
+                    .releaseId(tag)
+                    .metrics(type.metrics())
+                    .commitHashes(sourceFile.jiraKeys())
+                    .buggy(false)
+                    .startLine(type.startLine())
+                    .endLine(type.endLine())
+                    .build());
+        }
+        return rows;
+    }
+
+    /**
+     * Parses a source file and computes the release-independent results of its supported types.
+     *
+     * @param sourceFile parsed source file
+     * @param source decoded source text of the file
+     * @param calculator metrics calculator
+     * @return per-type results, empty when the file does not parse
+     */
+    private List<ParsedTypeCache.CachedType> analyse(ParsedFileRappresentation sourceFile, String source,
+                                                     MetricsCalculator calculator) {
+        List<ParsedTypeCache.CachedType> types = new ArrayList<>();
+        loader.parse(source, sourceFile.relativePath(), "CLASS")
+                .ifPresent(unit -> collectTypes(unit, sourceFile, calculator, types));
         return types;
     }
 
     /**
-     * Collects class rows from a parsed compilation unit and appends them to the sink list.
+     * Computes the results of every supported type of a compilation unit and appends them to the sink list.
      *
      * @param unit parsed compilation unit
      * @param sourceFile parsed source file
-     * @param repo project name
-     * @param tag release identifier
      * @param calculator metrics calculator
-     * @param sink output list receiving the collected rows
+     * @param sink output list receiving the per-type results
      */
     private void collectTypes(
             CompilationUnit unit,
             ParsedFileRappresentation sourceFile,
-            String repo,
-            String tag,
             MetricsCalculator calculator,
-            List<DatasetClassData> sink
+            List<ParsedTypeCache.CachedType> sink
     ) {
         for (TypeDeclaration<?> type : JavaTypeUtility.supportedTypes(unit)) {
             type.getRange().ifPresent(range -> {
                 try {
-                    sink.add(new DatasetClassData.Builder()
-                            .projectName(repo)
-                            .path('/' + sourceFile.relativePath() + '/')
-                            .className(JavaTypeUtility.qualifiedName(type))
-                            .releaseId(tag)
-                            .metrics(calculator.computeAll(type))
-                            .commitHashes(sourceFile.jiraKeys())
-                            .buggy(false)
-                            .startLine(range.begin.line)
-                            .endLine(range.end.line)
-                            .build());
+                    sink.add(new ParsedTypeCache.CachedType(
+                            JavaTypeUtility.qualifiedName(type),
+                            range.begin.line,
+                            range.end.line,
+                            calculator.computeAll(type)));
                 } catch (Exception exception) {
                     LOG.warn("[CLASS] Failed to compute metrics for {}: {}",
                             sourceFile.relativePath(), exception.getMessage());
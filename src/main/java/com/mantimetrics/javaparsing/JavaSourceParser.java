@@ -3,33 +3,64 @@ package com.mantimetrics.javaparsing;
 import com.mantimetrics.git.GitFacade;
 import com.mantimetrics.feature.MetricsCalculator;
 import com.mantimetrics.datasetsetting.DatasetClassData;
+import com.mantimetrics.utility.DaemonThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * High-level parser facade used to load release sources and build class-level or method-level dataset rows.
+ * Source files can be parsed on a bounded worker pool; rows are always returned in source-file order, so the
+ * output does not depend on the number of threads.
  */
 @SuppressWarnings("unused")
-public final class JavaSourceParser {
+public final class JavaSourceParser implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(JavaSourceParser.class);
 
     private final GitFacade git;
     private final JavaTreeScanner sourceScanner = new JavaTreeScanner();
-    private final JavaClassDataASTBuilder typeDataFactory = new JavaClassDataASTBuilder();
+    private final ParsedTypeCache parsedTypes;
+    private final JavaClassDataASTBuilder typeDataFactory;
+    private final int parseThreads;
 
     /**
      * Creates a parser backed by the Git service used to download release sources.
+     * Parse results are cached in memory only.
      *
      * @param git Git service used to load release source archives
      */
     public JavaSourceParser(GitFacade git) {
         this.git = git;
+        this.parsedTypes = ParsedTypeCache.inMemory();
+        this.typeDataFactory = new JavaClassDataASTBuilder(parsedTypes);
+        this.parseThreads = 1;
+    }
+
+    /**
+     * Creates a parser whose content-keyed parse cache is also persisted to a segment file,
+     * so files unchanged since a previous run are not parsed again.
+     *
+     * @param git Git service used to load release source archives
+     * @param parseCache segment file of the persistent parse cache, or {@code null} to cache in memory only
+     * @param parseThreads source files of a release parsed concurrently; {@code 1} parses sequentially
+     */
+    public JavaSourceParser(GitFacade git, Path parseCache, int parseThreads) {
+        this.git = git;
+        this.parsedTypes = parseCache == null
+                ? ParsedTypeCache.inMemory()
+                : ParsedTypeCache.persistent(parseCache);
+        this.typeDataFactory = new JavaClassDataASTBuilder(parsedTypes);
+        this.parseThreads = Math.max(1, parseThreads);
     }
 
     /**
@@ -92,17 +123,74 @@ public final class JavaSourceParser {
             MetricsCalculator calculator,
             Map<String, List<String>> fileToKeys
     ) {
-        List<DatasetClassData> classes = new ArrayList<>();
-
-        for (ParsedFileRappresentation sourceFile : analyzedSources.includedFiles()) {
-            classes.addAll(typeDataFactory.collect(withKeys(sourceFile, fileToKeys), repo, tag, calculator));
-        }
+        List<ParsedFileRappresentation> files = analyzedSources.includedFiles();
+        List<DatasetClassData> classes = parseThreads == 1 || files.size() < 2
+                ? collectSequentially(files, repo, tag, calculator, fileToKeys)
+                : collectConcurrently(files, repo, tag, calculator, fileToKeys);
 
         LOG.info("[CLASS] release={} filesTotali={} filesProcessati={}",
                 tag, sourceSet.totalJavaFiles(), analyzedSources.includedFiles().size());
         return classes;
     }
 
+    /**
+     * Parses the files one after the other on the calling thread.
+     */
+    private List<DatasetClassData> collectSequentially(
+            List<ParsedFileRappresentation> files,
+            String repo,
+            String tag,
+            MetricsCalculator calculator,
+            Map<String, List<String>> fileToKeys
+    ) {
+        List<DatasetClassData> classes = new ArrayList<>();
+        for (ParsedFileRappresentation sourceFile : files) {
+            classes.addAll(typeDataFactory.collect(withKeys(sourceFile, fileToKeys), repo, tag, calculator));
+        }
+        return classes;
+    }
+
+    /**
+     * Parses the files on a fixed worker pool and concatenates the per-file rows in source-file order.
+     * The pool is sized to the configured thread count and lives only for the current release.
+     */
+    private List<DatasetClassData> collectConcurrently(
+            List<ParsedFileRappresentation> files,
+            String repo,
+            String tag,
+            MetricsCalculator calculator,
+            Map<String, List<String>> fileToKeys
+    ) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parseThreads, files.size()),
+                DaemonThreads.factory("parse-worker"));
+        try {
+            List<Future<List<DatasetClassData>>> futures = new ArrayList<>(files.size());
+            for (ParsedFileRappresentation sourceFile : files) {
+                futures.add(pool.submit(() ->
+                        typeDataFactory.collect(withKeys(sourceFile, fileToKeys), repo, tag, calculator)));
+            }
+            List<DatasetClassData> classes = new ArrayList<>();
+            for (Future<List<DatasetClassData>> future : futures) {
+                classes.addAll(await(future, tag));
+            }
+            return classes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for the rows of one file, propagating worker failures unchanged.
+     */
+    private static List<DatasetClassData> await(Future<List<DatasetClassData>> future, String tag) {
+        try {
+            return DaemonThreads.await(future, "parsing " + tag, IllegalStateException.class,
+                    IllegalStateException::new);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Parsing failed for " + tag, exception);
+        }
+    }
+
     /**
      * Returns a copy of the parsed source file enriched with its Jira issue keys.
      *
@@ -117,4 +205,13 @@ public final class JavaSourceParser {
                 fileToKeys.getOrDefault(sourceFile.relativePath(), List.of()));
     }
 
+    /**
+     * Closes the persistent tier of the parse cache, if any.
+     *
+     * @throws IOException when the cache segment cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        parsedTypes.close();
+    }
 }
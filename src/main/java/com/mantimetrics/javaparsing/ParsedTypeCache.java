@@ -0,0 +1,199 @@
+package com.mantimetrics.javaparsing;
+
+import com.mantimetrics.feature.ClassMetrics;
+import com.mantimetrics.utility.AppendOnlySegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of the per-type parse results of a source file, keyed by the SHA-256 of its content.
+ *
+ * <p>Adjacent releases share most of their files, so a file whose content was already analysed (in any
+ * release, under any path) is served from the cache instead of being parsed again and having its metrics
+ * recomputed. The cache has a bounded in-memory LRU tier and an optional persistent tier backed by an
+ * {@link AppendOnlySegment}; bump {@link #VERSION} whenever the metric definitions change so stale
+ * segments are rejected.
+ */
+final class ParsedTypeCache implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(ParsedTypeCache.class);
+    private static final int MAGIC = 0x4D4D5043; // "MMPC"
+    private static final int VERSION = 1;
+    private static final int MEMORY_ENTRIES = 20_000;
+
+    private final Map<String, List<CachedType>> memory = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<CachedType>> eldest) {
+            return size() > MEMORY_ENTRIES;
+        }
+    };
+    private final AppendOnlySegment disk;
+
+    private ParsedTypeCache(AppendOnlySegment disk) {
+        this.disk = disk;
+    }
+
+    /**
+     * Creates a cache kept in memory only.
+     *
+     * @return memory-only cache
+     */
+    static ParsedTypeCache inMemory() {
+        return new ParsedTypeCache(null);
+    }
+
+    /**
+     * Creates a cache backed by a persistent segment, falling back to memory only when it is unusable.
+     *
+     * @param segment segment file path
+     * @return cache with a persistent tier when the segment could be opened
+     */
+    static ParsedTypeCache persistent(Path segment) {
+        try {
+            AppendOnlySegment disk = AppendOnlySegment.open(segment, MAGIC, VERSION);
+            LOG.info("Parse cache {} - {} cached files", segment, disk.size());
+            return new ParsedTypeCache(disk);
+        } catch (IOException exception) {
+            LOG.warn("Parse cache {} unavailable, using in-memory cache only: {}", segment, exception.getMessage());
+            return inMemory();
+        }
+    }
+
+    /**
+     * Returns the content key of a source file.
+     *
+     * @param source raw Java source
+     * @return Base64 (URL-safe) SHA-256 digest of the UTF-8 source bytes
+     */
+    static String keyOf(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 not available", exception);
+        }
+    }
+
+    /**
+     * Returns the cached types of a source content, looking at the memory tier first. Only the memory tier is
+     * read under the lock; a miss is read from the persistent tier and decoded outside it, so parse workers
+     * missing different contents never wait for each other's disk reads.
+     *
+     * @param key content key returned by {@link #keyOf(String)}
+     * @return cached types, or {@code null} when the content was never analysed
+     */
+    List<CachedType> get(String key) {
+        List<CachedType> types;
+        synchronized (memory) {
+            types = memory.get(key);
+        }
+        if (types != null || disk == null) {
+            return types;
+        }
+        try {
+            byte[] payload = disk.get(key);
+            if (payload == null) {
+                return null;
+            }
+            types = decode(payload);
+        } catch (IOException exception) {
+            LOG.warn("Parse cache read failed for {}: {}", key, exception.getMessage());
+            return null;
+        }
+        synchronized (memory) {
+            List<CachedType> previous = memory.putIfAbsent(key, types);
+            return previous != null ? previous : types;
+        }
+    }
+
+    /**
+     * Stores the types computed for a source content in both tiers; the persistent tier is written outside
+     * the memory lock.
+     *
+     * @param key content key returned by {@link #keyOf(String)}
+     * @param types types extracted from the source
+     */
+    void put(String key, List<CachedType> types) {
+        List<CachedType> copy = List.copyOf(types);
+        synchronized (memory) {
+            memory.put(key, copy);
+        }
+        if (disk == null) {
+            return;
+        }
+        try {
+            disk.put(key, encode(copy));
+        } catch (IOException exception) {
+            LOG.warn("Parse cache write failed for {}: {}", key, exception.getMessage());
+        }
+    }
+
+    /**
+     * Closes the persistent tier, if any.
+     *
+     * @throws IOException when the segment cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    private static byte[] encode(List<CachedType> types) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(types.size());
+            for (CachedType type : types) {
+                out.writeUTF(type.qualifiedName());
+                out.writeInt(type.startLine());
+                out.writeInt(type.endLine());
+                out.writeInt(type.metrics().loc());
+                out.writeInt(type.metrics().wmc());
+                out.writeInt(type.metrics().lcom());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<CachedType> decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int count = in.readInt();
+            List<CachedType> types = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                String name = in.readUTF();
+                int startLine = in.readInt();
+                int endLine = in.readInt();
+                types.add(new CachedType(name, startLine, endLine,
+                        new ClassMetrics(in.readInt(), in.readInt(), in.readInt())));
+            }
+            return List.copyOf(types);
+        }
+    }
+
+    /**
+     * Release-independent result of analysing one type declaration.
+     *
+     * @param qualifiedName qualified type name
+     * @param startLine first line of the declaration
+     * @param endLine last line of the declaration
+     * @param metrics class-level metrics of the declaration
+     */
+    record CachedType(String qualifiedName, int startLine, int endLine, ClassMetrics metrics) {
+    }
+}
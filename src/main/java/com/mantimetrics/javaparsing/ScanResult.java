@@ -1,22 +1,44 @@
 package com.mantimetrics.javaparsing;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Result of scanning a source tree for eligible production Java files.
  *
+ * <p>Sources decoded lazily from a backing archive keep that archive open until {@link #close()} is called;
+ * the consumer of a release closes it once every file has been read. Closing a result without a backing
+ * archive does nothing.
+ *
  * @param id stable identifier of the scanned source set
  * @param totalJavaFiles total Java files found before filtering
  * @param includedFiles files retained for analysis
+ * @param archive archive the sources are read from, or {@code null} when they are already decoded
  */
 public record ScanResult(
         String id,
         long totalJavaFiles,
-        List<ParsedFileRappresentation> includedFiles
-) {
+        List<ParsedFileRappresentation> includedFiles,
+        Closeable archive
+) implements AutoCloseable {
+
+    /**
+     * Creates a result whose sources are already decoded.
+     *
+     * @param id stable identifier of the scanned source set
+     * @param totalJavaFiles total Java files found before filtering
+     * @param includedFiles files retained for analysis
+     */
+    public ScanResult(String id, long totalJavaFiles, List<ParsedFileRappresentation> includedFiles) {
+        this(id, totalJavaFiles, includedFiles, null);
+    }
+
     /**
-     * Returns a filtered scan result containing only the requested relative paths.
+     * Returns a filtered scan result containing only the requested relative paths. The filtered result
+     * shares the backing archive, so closing either one closes it for both.
      *
      * @param relativePaths relative paths to keep
      * @return filtered scan result
@@ -26,6 +48,23 @@ public record ScanResult(
         List<ParsedFileRappresentation> filtered = includedFiles.stream()
                 .filter(source -> relativePaths.contains(source.relativePath()))
                 .toList();
-        return new ScanResult(id + "#filtered", filtered.size(), filtered);
+        return new ScanResult(id + "#filtered", filtered.size(), filtered, archive);
+    }
+
+    /**
+     * Releases the backing archive, if any. Sources not yet decoded can no longer be read afterwards.
+     *
+     * @throws UncheckedIOException when the archive cannot be closed
+     */
+    @Override
+    public void close() {
+        if (archive == null) {
+            return;
+        }
+        try {
+            archive.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot close the sources of " + id, exception);
+        }
     }
 }
@@ -1,25 +1,38 @@
 package com.mantimetrics.jira;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.Header;
 import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Small JSON HTTP client dedicated to Jira REST calls.
+ * Small JSON HTTP client dedicated to Jira REST calls. Throttled responses ({@code 429}, {@code 503}) are
+ * retried with exponential backoff, honoring {@code Retry-After}; the pause is shared by every thread using
+ * the client so concurrent page requests back off together.
  */
 final class JiraClient {
+    private static final Logger LOG = LoggerFactory.getLogger(JiraClient.class);
+    private static final int MAX_R = 5;
     private static final ObjectMapper JSON = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
     private final CloseableHttpClient httpClient;
+    private final AtomicLong pausedUntil = new AtomicLong();
 
     /**
      * Creates a Jira JSON client using the provided HTTP client.
@@ -37,20 +50,124 @@ final class JiraClient {
      * @param authHeader authorization header value
      * @return parsed JSON response
      * @throws IOException when the HTTP call fails
-     * @throws JiraClientException when Jira returns a non-200 response
+     * @throws JiraClientException when Jira returns a non-200 response or keeps throttling the request
      */
     JsonNode get(URI url, String authHeader) throws IOException, JiraClientException {
-        HttpGet request = new HttpGet(url);
-        request.setHeader("Authorization", authHeader);
-        request.setHeader("Accept", "application/json");
-
-        try (CloseableHttpResponse response = httpClient.execute(request)) {
-            int code = response.getStatusLine().getStatusCode();
-            String body = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-            if (code != 200) {
-                throw new JiraClientException("JIRA HTTP " + code + " -> " + body);
+        JsonNode node = get(url, authHeader, parser -> JSON.readTree(parser));
+        return node != null ? node : MissingNode.getInstance();
+    }
+
+    /**
+     * Executes a Jira search request and decodes the page while the response body is streamed, without
+     * buffering it as a string or a JSON tree.
+     *
+     * @param url search page URI
+     * @param authHeader authorization header value
+     * @param mapper maps each issue of the page, or to {@code null} to drop it
+     * @param <T> mapped value type
+     * @return decoded page
+     * @throws IOException when the HTTP call fails or the response is not a search page
+     * @throws JiraClientException when Jira returns a non-200 response or keeps throttling the request
+     */
+    <T> JiraSearchPager.SearchPage<T> search(URI url, String authHeader,
+                                             JiraSearchPageParser.IssueMapper<T> mapper)
+            throws IOException, JiraClientException {
+        return get(url, authHeader, parser -> JiraSearchPageParser.read(parser, mapper));
+    }
+
+    /**
+     * Executes a Jira GET request, retrying throttled responses, and hands the successful body to a reader.
+     *
+     * @param url Jira URI to request
+     * @param authHeader authorization header value
+     * @param reader decoder of the response body
+     * @param <T> decoded value type
+     * @return decoded response
+     * @throws IOException when the HTTP call fails
+     * @throws JiraClientException when Jira returns a non-200 response or keeps throttling the request
+     */
+    private <T> T get(URI url, String authHeader, BodyReader<T> reader) throws IOException, JiraClientException {
+        for (int attempt = 0; ; attempt++) {
+            awaitThrottleWindow();
+            HttpGet request = new HttpGet(url);
+            request.setHeader("Authorization", authHeader);
+            request.setHeader("Accept", "application/json");
+
+            long wait;
+            try (CloseableHttpResponse response = httpClient.execute(request)) {
+                int code = response.getStatusLine().getStatusCode();
+                if (code == 200) {
+                    HttpEntity entity = response.getEntity();
+                    try (JsonParser parser = JSON.getFactory().createParser(entity.getContent())) {
+                        return reader.read(parser);
+                    } finally {
+                        EntityUtils.consume(entity);
+                    }
+                }
+                String body = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+                if (!isThrottled(code) || attempt == MAX_R - 1) {
+                    throw new JiraClientException("JIRA HTTP " + code + " -> " + body);
+                }
+                wait = backoff(response.getFirstHeader("Retry-After"), attempt);
+                pausedUntil.accumulateAndGet(System.currentTimeMillis() + wait, Math::max);
+                LOG.warn("JIRA throttled ({}), retry {}/{} in {} ms - {}", code, attempt + 1, MAX_R, wait, url);
+            }
+            sleep(wait);
+        }
+    }
+
+    /**
+     * Reports whether an HTTP status code asks the client to slow down.
+     *
+     * @param statusCode HTTP status code returned by Jira
+     * @return {@code true} when the request should be retried after a pause
+     */
+    private static boolean isThrottled(int statusCode) {
+        return statusCode == 429 || statusCode == 503;
+    }
+
+    /**
+     * Blocks the calling thread while a throttle pause published by any caller is still active.
+     *
+     * @throws JiraClientException when the thread is interrupted while waiting
+     */
+    private void awaitThrottleWindow() throws JiraClientException {
+        long wait = pausedUntil.get() - System.currentTimeMillis();
+        if (wait > 0) {
+            sleep(wait);
+        }
+    }
+
+    /**
+     * Computes the next retry delay, preferring the server-provided {@code Retry-After} seconds.
+     *
+     * @param retryAfter {@code Retry-After} header, or {@code null}
+     * @param attempt zero-based retry attempt index
+     * @return backoff delay in milliseconds
+     */
+    static long backoff(Header retryAfter, int attempt) {
+        if (retryAfter != null) {
+            try {
+                return Math.max(Long.parseLong(retryAfter.getValue().trim()) * 1_000, 1_000);
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form: fall back to exponential backoff
             }
-            return JSON.readTree(body);
         }
+        return 1_000L << attempt;
+    }
+
+    private static void sleep(long millis) throws JiraClientException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new JiraClientException("Interrupted while waiting for JIRA throttling", exception);
+        }
+    }
+
+    /** Decodes a successful response body from a streaming parser. */
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(JsonParser parser) throws IOException;
     }
 }
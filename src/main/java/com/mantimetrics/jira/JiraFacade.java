@@ -7,6 +7,8 @@ import org.apache.http.impl.client.HttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -18,17 +20,32 @@ public class JiraFacade {
     private static final Logger LOG = LoggerFactory.getLogger(JiraFacade.class);
     private static final String PROPS_PATH =
             System.getProperty("jira.config.path", "/jira.properties");
+    private static final Path TICKET_STORE_DIR = Paths.get("cache", "jira");
 
     private final CloseableHttpClient httpClient;
     private final JiraConfigLoader configurationLoader;
     private final JiraTicketReader projectReader;
+    private final Path ticketStoreDir;
     private JiraProjectState session;
+    private JiraTicketStore ticketStore;
+    private JiraTicketReader.ProjectVersions versions;
+    private String versionsProjectKey;
 
     /**
      * Creates a Jira client with the default HTTP client and configuration loader.
      */
     public JiraFacade() {
-        this(buildHttpClient(), new JiraConfigLoader());
+        this(1);
+    }
+
+    /**
+     * Creates a Jira client with the default HTTP client and configuration loader that pages searches
+     * concurrently.
+     *
+     * @param pageParallelism maximum number of search pages requested concurrently
+     */
+    public JiraFacade(int pageParallelism) {
+        this(buildHttpClient(pageParallelism), new JiraConfigLoader(), pageParallelism, TICKET_STORE_DIR);
     }
 
     /**
@@ -38,19 +55,39 @@ public class JiraFacade {
      * @param configurationLoader loader used to create project sessions from properties
      */
     JiraFacade(CloseableHttpClient httpClient, JiraConfigLoader configurationLoader) {
+        this(httpClient, configurationLoader, 1, null);
+    }
+
+    /**
+     * Creates a Jira client with injectable collaborators and a search page parallelism.
+     *
+     * @param httpClient HTTP client used for Jira requests
+     * @param configurationLoader loader used to create project sessions from properties
+     * @param pageParallelism maximum number of search pages requested concurrently
+     * @param ticketStoreDir directory of the per-project ticket stores, or {@code null} to fetch every ticket
+     *                       on every run
+     */
+    JiraFacade(CloseableHttpClient httpClient, JiraConfigLoader configurationLoader, int pageParallelism,
+               Path ticketStoreDir) {
         this.httpClient = httpClient;
         this.configurationLoader = configurationLoader;
-        this.projectReader = new JiraTicketReader(new JiraClient(httpClient));
+        this.ticketStoreDir = ticketStoreDir;
+        this.projectReader = new JiraTicketReader(new JiraClient(httpClient), pageParallelism);
     }
 
     /**
-     * Initializes the Jira session for a project key using the configured properties.
+     * Initializes the Jira session for a project key using the configured properties and opens the local
+     * ticket store of the project.
      *
      * @param projectKey Jira project key
      * @throws JiraClientException when the Jira configuration cannot be loaded
      */
     public void initialize(String projectKey) throws JiraClientException {
         this.session = configurationLoader.load(getClass(), PROPS_PATH, projectKey);
+        this.ticketStore = ticketStoreDir == null ? null
+                : JiraTicketStore.open(ticketStoreDir.resolve(projectKey + ".tickets"));
+        this.versions = null;
+        this.versionsProjectKey = null;
         LOG.debug("JIRA search base = {}", session.searchBase());
     }
 
@@ -66,13 +103,14 @@ public class JiraFacade {
     }
 
     /**
-     * Fetches the resolved bug tickets used by the historical labeling flow.
+     * Fetches the resolved bug tickets used by the historical labeling flow, syncing only the tickets
+     * updated since the previous run when the local ticket store already holds them.
      *
      * @return resolved Jira bug tickets
      * @throws JiraClientException when the session is missing or Jira cannot be queried
      */
     public List<JiraSnapshot> fetchResolvedBugTickets() throws JiraClientException {
-        return projectReader.fetchResolvedBugTickets(requireSession());
+        return projectReader.fetchResolvedBugTickets(requireSession(), ticketStore);
     }
 
     /**
@@ -82,7 +120,7 @@ public class JiraFacade {
      * @throws JiraClientException when Jira cannot be queried
      */
     public List<JiraSnapshot> fetchAllResolvedTickets() throws JiraClientException {
-        return projectReader.fetchAllResolvedTickets(requireSession());
+        return projectReader.fetchAllResolvedTickets(requireSession(), ticketStore);
     }
 
     /**
@@ -93,7 +131,7 @@ public class JiraFacade {
      * @throws JiraClientException when the session is missing or Jira cannot be queried
      */
     public List<String> fetchProjectVersions(String projectKey) throws JiraClientException {
-        return projectReader.fetchProjectVersions(requireSession(), projectKey);
+        return projectVersions(projectKey).names();
     }
 
     /**
@@ -104,7 +142,23 @@ public class JiraFacade {
      * @throws JiraClientException when the session is missing or Jira cannot be queried
      */
     public Map<String, Instant> fetchProjectVersionDates(String projectKey) throws JiraClientException {
-        return projectReader.fetchVersionDates(requireSession(), projectKey);
+        return projectVersions(projectKey).releaseDates();
+    }
+
+    /**
+     * Returns the versions of a project, requesting them from Jira only once per session so the version
+     * names and the release dates are served by the same payload.
+     *
+     * @param projectKey Jira project key
+     * @return project versions
+     * @throws JiraClientException when the session is missing or Jira cannot be queried
+     */
+    private JiraTicketReader.ProjectVersions projectVersions(String projectKey) throws JiraClientException {
+        if (versions == null || !projectKey.equals(versionsProjectKey)) {
+            versions = projectReader.fetchVersions(requireSession(), projectKey);
+            versionsProjectKey = projectKey;
+        }
+        return versions;
     }
 
     /**
@@ -143,11 +197,13 @@ public class JiraFacade {
     }
 
     /**
-     * Builds the default HTTP client used for Jira requests.
+     * Builds the default HTTP client used for Jira requests. Every Jira request shares one route, so the
+     * per-route connection cap is raised to the page parallelism instead of the pool default of two.
      *
+     * @param pageParallelism maximum number of search pages requested concurrently
      * @return configured Jira HTTP client
      */
-    private static CloseableHttpClient buildHttpClient() {
+    private static CloseableHttpClient buildHttpClient(int pageParallelism) {
         HttpRequestRetryHandler retryHandler = (exception, executionCount, context) ->
                 executionCount < 3 && exception != null;
 
@@ -160,6 +216,7 @@ public class JiraFacade {
                 .setDefaultRequestConfig(requestConfig)
                 .setRetryHandler(retryHandler)
                 .setMaxConnTotal(50)
+                .setMaxConnPerRoute(Math.max(2, Math.min(pageParallelism, 50)))
                 .build();
     }
 
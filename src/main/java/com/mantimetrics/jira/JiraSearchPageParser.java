@@ -0,0 +1,196 @@
+package com.mantimetrics.jira;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming decoder of a Jira {@code /rest/api/2/search} page. Issues are mapped to records one at a time
+ * while the response is read, so a page never exists as a body string plus a full JSON tree; fields the
+ * readers do not use are skipped without being decoded.
+ */
+final class JiraSearchPageParser {
+
+    private JiraSearchPageParser() {
+    }
+
+    /**
+     * Reads one search page.
+     *
+     * @param parser parser positioned before the page object
+     * @param mapper maps each issue to a value, or to {@code null} to drop it
+     * @param <T> mapped value type
+     * @return page totals and mapped issues in response order
+     * @throws IOException when the response is not a search page
+     */
+    static <T> JiraSearchPager.SearchPage<T> read(JsonParser parser, IssueMapper<T> mapper) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Unexpected JIRA search response");
+        }
+        int total = 0;
+        int maxResults = 0;
+        List<T> values = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "total" -> total = parser.getValueAsInt(0);
+                case "maxResults" -> maxResults = parser.getValueAsInt(0);
+                case "issues" -> readIssues(parser, mapper, values);
+                default -> parser.skipChildren();
+            }
+        }
+        return new JiraSearchPager.SearchPage<>(total, maxResults, values);
+    }
+
+    private static <T> void readIssues(JsonParser parser, IssueMapper<T> mapper, List<T> values) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            T value = mapper.map(readIssue(parser));
+            if (value != null) {
+                values.add(value);
+            }
+        }
+    }
+
+    private static Issue readIssue(JsonParser parser) throws IOException {
+        String key = null;
+        IssueBuilder fields = new IssueBuilder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "key" -> key = text(parser);
+                case "fields" -> readFields(parser, fields);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Issue(key, fields.created, fields.resolutionDate, List.copyOf(fields.versionNames),
+                fields.priority, fields.issueType, fields.componentCount);
+    }
+
+    private static void readFields(JsonParser parser, IssueBuilder fields) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "created" -> fields.created = text(parser);
+                case "resolutiondate" -> fields.resolutionDate = text(parser);
+                case "priority" -> fields.priority = name(parser);
+                case "issuetype" -> fields.issueType = name(parser);
+                case "versions" -> readVersionNames(parser, fields.versionNames);
+                case "components" -> fields.componentCount = countElements(parser);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readVersionNames(JsonParser parser, List<String> names) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String name = name(parser);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+    }
+
+    private static int countElements(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return 0;
+        }
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Reads the {@code name} member of the current object, skipping everything else.
+     */
+    private static String name(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = text(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Returns the current scalar as text, or {@code null} for JSON {@code null} and structured values.
+     */
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    /** Mutable accumulator of the {@code fields} member of an issue. */
+    private static final class IssueBuilder {
+        String created;
+        String resolutionDate;
+        String priority;
+        String issueType;
+        int componentCount;
+        final List<String> versionNames = new ArrayList<>();
+    }
+
+    /**
+     * Raw fields of one Jira issue as returned by the search; absent fields are {@code null}.
+     *
+     * @param key issue key
+     * @param created raw creation timestamp
+     * @param resolutionDate raw resolution timestamp
+     * @param versionNames raw affected version names
+     * @param priority priority name
+     * @param issueType issue type name
+     * @param componentCount number of components
+     */
+    record Issue(String key, String created, String resolutionDate, List<String> versionNames,
+                 String priority, String issueType, int componentCount) {
+    }
+
+    /** Maps one decoded issue to the value collected by a reader. */
+    @FunctionalInterface
+    interface IssueMapper<T> {
+        /**
+         * Maps one issue.
+         *
+         * @param issue decoded issue
+         * @return mapped value, or {@code null} to drop the issue
+         */
+        T map(Issue issue);
+    }
+}
@@ -0,0 +1,133 @@
+package com.mantimetrics.jira;
+
+import com.mantimetrics.utility.DaemonThreads;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Pages through a Jira {@code /rest/api/2/search} query.
+ *
+ * <p>The first page is requested alone to learn {@code total} and the page size granted by the server,
+ * which may be lower than the requested one; later offsets advance by the granted size. With a parallelism
+ * of {@code 1} the remaining pages are requested one after another. Otherwise the remaining {@code startAt}
+ * offsets are requested concurrently on a bounded pool, each page is decoded by the worker that fetched it
+ * and the results are merged in offset order, so the output is the same in both modes.
+ */
+final class JiraSearchPager {
+    private final int pageSize;
+    private final int parallelism;
+
+    /**
+     * Creates a pager.
+     *
+     * @param pageSize requested number of issues per page
+     * @param parallelism maximum number of pages requested concurrently
+     */
+    JiraSearchPager(int pageSize, int parallelism) {
+        this.pageSize = pageSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Requests every page of a search and collects the values of each page.
+     *
+     * @param source executes and decodes one page request
+     * @param pageUri builds the URI of the page starting at a given offset
+     * @param <T> collected value type
+     * @return collected values in page order
+     * @throws IOException when a page cannot be fetched
+     * @throws JiraClientException when Jira rejects a page request
+     * @throws URISyntaxException when a page URI cannot be built
+     */
+    <T> List<T> fetchAll(PageSource<T> source, PageUri pageUri)
+            throws IOException, JiraClientException, URISyntaxException {
+        SearchPage<T> first = source.get(pageUri.build(0, pageSize));
+        List<T> values = new ArrayList<>(first.values());
+        int step = first.maxResults() > 0 ? first.maxResults() : pageSize;
+        if (parallelism == 1) {
+            fetchSequentially(source, pageUri, values, first.total(), step);
+        } else {
+            fetchConcurrently(source, pageUri, values, first.total(), step);
+        }
+        return values;
+    }
+
+    private <T> void fetchSequentially(PageSource<T> source, PageUri pageUri, List<T> values,
+                                       int firstTotal, int step)
+            throws IOException, JiraClientException, URISyntaxException {
+        int total = firstTotal;
+        for (int startAt = step; startAt < total; startAt += step) {
+            SearchPage<T> page = source.get(pageUri.build(startAt, step));
+            values.addAll(page.values());
+            total = page.total();
+        }
+    }
+
+    private <T> void fetchConcurrently(PageSource<T> source, PageUri pageUri, List<T> values,
+                                       int total, int step)
+            throws IOException, JiraClientException, URISyntaxException {
+        if (step >= total) {
+            return;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, DaemonThreads.factory("jira-page"));
+        try {
+            List<Future<List<T>>> pages = new ArrayList<>();
+            for (int startAt = step; startAt < total; startAt += step) {
+                URI uri = pageUri.build(startAt, step);
+                pages.add(pool.submit(() -> source.get(uri).values()));
+            }
+            for (Future<List<T>> page : pages) {
+                values.addAll(DaemonThreads.await(page, "paging JIRA search", JiraClientException.class,
+                        JiraClientException::new));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Decoded search page.
+     *
+     * @param total number of issues matched by the search
+     * @param maxResults page size granted by the server, or {@code 0} when absent
+     * @param values values decoded from the issues of the page, in response order
+     * @param <T> decoded value type
+     */
+    record SearchPage<T>(int total, int maxResults, List<T> values) {
+    }
+
+    /** Executes and decodes one search page request. */
+    @FunctionalInterface
+    interface PageSource<T> {
+        /**
+         * Requests one search page.
+         *
+         * @param uri page URI
+         * @return decoded page
+         * @throws IOException when the HTTP call fails
+         * @throws JiraClientException when Jira rejects the request
+         */
+        SearchPage<T> get(URI uri) throws IOException, JiraClientException;
+    }
+
+    /** Builds the URI of one search page. */
+    @FunctionalInterface
+    interface PageUri {
+        /**
+         * Builds the URI of the page starting at an offset.
+         *
+         * @param startAt index of the first issue of the page
+         * @param maxResults number of issues requested
+         * @return page URI
+         * @throws URISyntaxException when the URI cannot be built
+         */
+        URI build(int startAt, int maxResults) throws URISyntaxException;
+    }
+}
@@ -1,24 +1,29 @@
 package com.mantimetrics.jira;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.http.NameValuePair;
 import org.apache.http.client.utils.URIBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Reads Jira project data such as bug keys, versions and resolved bug tickets.
@@ -29,18 +34,21 @@ final class JiraTicketReader {
     private static final String PARAM_FIELDS = "fields";
     private static final String S1 = "startAt";
     private static final String S2 = "maxResults";
-    private static final String S3 = "issues";
-    private static final String S4 = "total";
+    private static final long SYNC_OVERLAP_MINUTES = 10;
+    private static final Pattern ORDER_BY = Pattern.compile("(?i)\\s*\\bORDER\\s+BY\\b");
 
     private final JiraClient jsonClient;
+    private final JiraSearchPager pager;
 
     /**
      * Creates a project reader backed by the shared Jira JSON client.
      *
      * @param jsonClient Jira JSON client used for REST calls
+     * @param pageParallelism maximum number of search pages requested concurrently
      */
-    JiraTicketReader(JiraClient jsonClient) {
+    JiraTicketReader(JiraClient jsonClient, int pageParallelism) {
         this.jsonClient = jsonClient;
+        this.pager = new JiraSearchPager(PAGE_SIZE, pageParallelism);
     }
 
     /**
@@ -51,43 +59,33 @@ final class JiraTicketReader {
      * @throws JiraClientException when Jira cannot be queried
      */
     List<String> fetchBugKeys(JiraProjectState session) throws JiraClientException {
-        Set<String> keys = new HashSet<>();
-        int startAt = 0;
-
+        List<String> keys;
         try {
-            while (true) {
-                URI uri = new URIBuilder(session.searchBase())
-                        .addParameter(S1, String.valueOf(startAt))
-                        .addParameter(S2, String.valueOf(PAGE_SIZE))
-                        .build();
-                JsonNode response = jsonClient.get(uri, session.authHeader());
-                collectIssueKeys(response.path(S3), keys);
-
-                int total = response.path(S4).asInt();
-                LOG.debug("JIRA total: {} startAt: {}", total, startAt);
-                startAt += PAGE_SIZE;
-                if (startAt >= total) {
-                    break;
-                }
-            }
+            keys = pager.fetchAll(page -> jsonClient.search(page, session.authHeader(), this::issueKey),
+                    (startAt, maxResults) -> new URIBuilder(session.searchBase())
+                            .addParameter(S1, String.valueOf(startAt))
+                            .addParameter(S2, String.valueOf(maxResults))
+                            .build());
+            LOG.debug("JIRA bug keys fetched: {}", keys.size());
         } catch (IOException exception) {
             throw new JiraClientException("I/O Error to JIRA", exception);
         } catch (Exception exception) {
             throw new JiraClientException("Error fetchBugKeys", exception);
         }
 
-        return new ArrayList<>(keys);
+        return new ArrayList<>(new LinkedHashSet<>(keys));
     }
 
     /**
-     * Fetches the normalized version names defined for a Jira project.
+     * Fetches the versions defined for a Jira project with a single request, returning both the normalized
+     * names and the release dates carried by the same payload.
      *
      * @param session initialized Jira project session
      * @param projectKey Jira project key
-     * @return normalized Jira version names
+     * @return normalized version names and release dates
      * @throws JiraClientException when Jira cannot be queried
      */
-    List<String> fetchProjectVersions(JiraProjectState session, String projectKey) throws JiraClientException {
+    ProjectVersions fetchVersions(JiraProjectState session, String projectKey) throws JiraClientException {
         try {
             URI uri = new URIBuilder(session.baseUrl() + "/rest/api/2/project/" + projectKey + "/versions").build();
             JsonNode versions = jsonClient.get(uri, session.authHeader());
@@ -96,42 +94,15 @@ final class JiraTicketReader {
             }
 
             List<String> names = new ArrayList<>();
-            versions.forEach(version -> {
-                String name = version.path("name").asText(null);
-                if (name != null && !name.isBlank()) {
-                    names.add(JiraProjectState.normalize(name));
-                }
-            });
-
-            LOG.debug("JIRA project {} - {} versions fetched", projectKey, names.size());
-            return names;
-        } catch (IOException exception) {
-            throw new JiraClientException("I/O error fetching project versions", exception);
-        } catch (Exception exception) {
-            throw new JiraClientException("fetchProjectVersions error", exception);
-        }
-    }
-
-    /**
-     * Fetches a map of normalized version name -> JIRA release date for a project.
-     * Only versions that carry a {@code releaseDate} field are included.
-     *
-     * @param session initialized Jira project session
-     * @param projectKey Jira project key
-     * @return map of normalized version name to release date instant
-     * @throws JiraClientException when Jira cannot be queried
-     */
-    Map<String, Instant> fetchVersionDates(JiraProjectState session, String projectKey)
-            throws JiraClientException {
-        try {
-            URI uri = new URIBuilder(session.baseUrl() + "/rest/api/2/project/" + projectKey + "/versions")
-                    .build();
-            JsonNode versions = jsonClient.get(uri, session.authHeader());
             Map<String, Instant> dates = new LinkedHashMap<>();
             versions.forEach(version -> {
                 String name = version.path("name").asText(null);
+                if (name == null || name.isBlank()) {
+                    return;
+                }
+                names.add(JiraProjectState.normalize(name));
                 String dateStr = version.path("releaseDate").asText(null);
-                if (name != null && !name.isBlank() && dateStr != null && !dateStr.isBlank()) {
+                if (dateStr != null && !dateStr.isBlank()) {
                     try {
                         Instant date = LocalDate.parse(dateStr).atStartOfDay(ZoneOffset.UTC).toInstant();
                         dates.put(JiraProjectState.normalize(name), date);
@@ -140,12 +111,14 @@ final class JiraTicketReader {
                     }
                 }
             });
-            LOG.debug("JIRA project {} - {} version dates fetched", projectKey, dates.size());
-            return dates;
+
+            LOG.debug("JIRA project {} - {} versions fetched, {} with a release date",
+                    projectKey, names.size(), dates.size());
+            return new ProjectVersions(List.copyOf(names), Collections.unmodifiableMap(dates));
         } catch (IOException exception) {
-            throw new JiraClientException("I/O error fetching version dates", exception);
+            throw new JiraClientException("I/O error fetching project versions", exception);
         } catch (Exception exception) {
-            throw new JiraClientException("fetchVersionDates error", exception);
+            throw new JiraClientException("fetchVersions error", exception);
         }
     }
 
@@ -153,51 +126,29 @@ final class JiraTicketReader {
      * Fetches the resolved bug tickets used by the historical labeling flow.
      *
      * @param session initialized Jira project session
+     * @param store local ticket store to sync, or {@code null} to fetch every ticket
      * @return resolved Jira bug tickets
      * @throws JiraClientException when Jira cannot be queried
      */
-    List<JiraSnapshot> fetchResolvedBugTickets(JiraProjectState session) throws JiraClientException {
-        List<JiraSnapshot> tickets = new ArrayList<>();
-        int startAt = 0;
-
+    List<JiraSnapshot> fetchResolvedBugTickets(JiraProjectState session, JiraTicketStore store)
+            throws JiraClientException {
         try {
-            while (true) {
-                URI uri = new URIBuilder(session.searchBase())
-                        .addParameter(PARAM_FIELDS, "key,versions,created")
-                        .addParameter(S1, String.valueOf(startAt))
-                        .addParameter(S2, String.valueOf(PAGE_SIZE))
-                        .build();
-                JsonNode response = jsonClient.get(uri, session.authHeader());
-                collectTickets(response.path(S3), tickets);
-
-                int total = response.path(S4).asInt();
-                startAt += PAGE_SIZE;
-                if (startAt >= total) {
-                    break;
-                }
-            }
+            return syncTickets(session, session.searchBase(), "key,versions,created", this::toTicket, store);
         } catch (IOException exception) {
             throw new JiraClientException("I/O Error to JIRA", exception);
         } catch (Exception exception) {
             throw new JiraClientException("Error fetchResolvedBugTickets", exception);
         }
-
-        return List.copyOf(tickets);
     }
 
     /**
-     * Extracts issue keys from a Jira search result page.
+     * Extracts the key of a Jira search result issue.
      *
-     * @param issues Jira issues array
-     * @param keys target set receiving the keys
+     * @param issue decoded Jira issue
+     * @return issue key, or {@code null} when absent
      */
-    private void collectIssueKeys(JsonNode issues, Set<String> keys) {
-        for (JsonNode issue : issues) {
-            String key = issue.path("key").asText(null);
-            if (key != null) {
-                keys.add(key);
-            }
-        }
+    private String issueKey(JiraSearchPageParser.Issue issue) {
+        return issue.key();
     }
 
     private static final DateTimeFormatter JIRA_DATE_FORMAT =
@@ -206,112 +157,181 @@ final class JiraTicketReader {
     /**
      * Extracts the minimal bug-ticket information needed by the labeling flow.
      *
-     * @param issues Jira issues array
-     * @param tickets target list receiving the extracted bug tickets
+     * @param issue decoded Jira issue
+     * @return extracted bug ticket, or {@code null} when the issue has no key
      */
-    private void collectTickets(JsonNode issues, List<JiraSnapshot> tickets) {
-        for (JsonNode issue : issues) {
-            String key = issue.path("key").asText(null);
-            if (key == null || key.isBlank()) {
-                continue;
-            }
-
-            String createdRaw = issue.path(PARAM_FIELDS).path("created").asText(null);
-            Instant createdDate = (createdRaw != null && !createdRaw.isBlank())
-                    ? OffsetDateTime.parse(createdRaw, JIRA_DATE_FORMAT).toInstant()
-                    : Instant.EPOCH;
+    private JiraSnapshot toTicket(JiraSearchPageParser.Issue issue) {
+        String key = issue.key();
+        if (key == null || key.isBlank()) {
+            return null;
+        }
 
-            Set<String> affectedVersions = new LinkedHashSet<>();
-            JsonNode versionNodes = issue.path(PARAM_FIELDS).path("versions");
-            if (versionNodes.isArray()) {
-                versionNodes.forEach(version -> {
-                    String name = version.path("name").asText(null);
-                    if (name != null && !name.isBlank()) {
-                        affectedVersions.add(JiraProjectState.normalize(name));
-                    }
-                });
-            }
+        String createdRaw = issue.created();
+        Instant createdDate = (createdRaw != null && !createdRaw.isBlank())
+                ? OffsetDateTime.parse(createdRaw, JIRA_DATE_FORMAT).toInstant()
+                : Instant.EPOCH;
 
-            tickets.add(new JiraSnapshot(key, createdDate, List.copyOf(affectedVersions)));
-        }
+        return new JiraSnapshot(key, createdDate, normalizedVersions(issue));
     }
 
     /**
      * Fetches all resolved tickets (any issue type) with the fields needed by the TLP features.
      *
      * @param session initialized Jira project session
+     * @param store local ticket store to sync, or {@code null} to fetch every ticket
      * @return resolved tickets of every type
      * @throws JiraClientException when Jira cannot be queried
      */
-    List<JiraSnapshot> fetchAllResolvedTickets(JiraProjectState session) throws JiraClientException {
-        List<JiraSnapshot> tickets = new ArrayList<>();
-        int startAt = 0;
+    List<JiraSnapshot> fetchAllResolvedTickets(JiraProjectState session, JiraTicketStore store)
+            throws JiraClientException {
         try {
-            while (true) {
-                URI uri = new URIBuilder(session.allTicketsSearchBase())
-                        .addParameter(PARAM_FIELDS, "key,versions,created,resolutiondate,priority,issuetype,components")
-                        .addParameter(S1, String.valueOf(startAt))
-                        .addParameter(S2, String.valueOf(PAGE_SIZE))
-                        .build();
-                JsonNode response = jsonClient.get(uri, session.authHeader());
-                collectFullTickets(response.path(S3), tickets);
-
-                int total = response.path(S4).asInt();
-                startAt += PAGE_SIZE;
-                if (startAt >= total) {
-                    break;
-                }
-            }
+            return syncTickets(session, session.allTicketsSearchBase(),
+                    "key,versions,created,resolutiondate,priority,issuetype,components",
+                    this::toFullTicket, store);
         } catch (IOException exception) {
             throw new JiraClientException("I/O Error to JIRA (all tickets)", exception);
         } catch (Exception exception) {
             throw new JiraClientException("Error fetchAllResolvedTickets", exception);
         }
-        return List.copyOf(tickets);
     }
 
     /**
-     * Parses the extended ticket payload (priority, type, components, resolution date) for TLP.
+     * Returns the tickets of a search, downloading only the tickets updated since the last sync when the
+     * store already holds the search. The merged result is checked against the current {@code total} of the
+     * search; a mismatch (for example a reopened ticket that left the search) triggers a full refetch.
      *
-     * @param issues Jira issues array
-     * @param tickets target list receiving the extracted tickets
+     * @param session initialized Jira project session
+     * @param searchBase search URL carrying the JQL
+     * @param fields Jira fields requested for each ticket
+     * @param mapper maps each decoded issue to a ticket
+     * @param store local ticket store to sync, or {@code null} to fetch every ticket
+     * @return tickets of the search in issue-key order
+     * @throws IOException when a page cannot be fetched
+     * @throws JiraClientException when Jira rejects a request
+     * @throws URISyntaxException when a search URI cannot be built
      */
-    private void collectFullTickets(JsonNode issues, List<JiraSnapshot> tickets) {
-        for (JsonNode issue : issues) {
-            String key = issue.path("key").asText(null);
-            if (key == null || key.isBlank()) {
-                continue;
+    private List<JiraSnapshot> syncTickets(JiraProjectState session, String searchBase, String fields,
+                                           JiraSearchPageParser.IssueMapper<JiraSnapshot> mapper,
+                                           JiraTicketStore store)
+            throws IOException, JiraClientException, URISyntaxException {
+        Instant startedAt = Instant.now();
+        String search = searchBase + "#" + fields;
+        JiraTicketStore.SyncedSearch previous = store == null ? null : store.get(search);
+        List<JiraSnapshot> tickets = null;
+        if (previous != null) {
+            long minutes = Duration.between(previous.syncedAt(), startedAt).toMinutes() + SYNC_OVERLAP_MINUTES;
+            List<JiraSnapshot> updated = fetchTickets(session, updatedSince(searchBase, minutes), fields, mapper);
+            List<JiraSnapshot> merged = JiraTicketStore.merge(previous.tickets(), updated);
+            int total = countIssues(session, searchBase);
+            if (total == merged.size()) {
+                LOG.info("JIRA delta sync: {} tickets updated in the last {} minutes, {} stored",
+                        updated.size(), minutes, merged.size());
+                tickets = merged;
+            } else {
+                LOG.info("JIRA delta sync: store holds {} tickets but the search returns {}, refetching all",
+                        merged.size(), total);
+            }
+        }
+        if (tickets == null) {
+            tickets = JiraTicketStore.merge(List.of(), fetchTickets(session, searchBase, fields, mapper));
+        }
+        if (store != null) {
+            store.put(search, startedAt, tickets);
+            try {
+                store.save();
+            } catch (IOException exception) {
+                LOG.warn("Could not save the JIRA ticket store: {}", exception.getMessage());
             }
-            JsonNode fields = issue.path(PARAM_FIELDS);
+        }
+        return tickets;
+    }
 
-            Instant created = parseJiraDate(fields.path("created").asText(null));
-            Instant resolved = parseJiraDate(fields.path("resolutiondate").asText(null));
+    private List<JiraSnapshot> fetchTickets(JiraProjectState session, String searchBase, String fields,
+                                            JiraSearchPageParser.IssueMapper<JiraSnapshot> mapper)
+            throws IOException, JiraClientException, URISyntaxException {
+        return pager.fetchAll(page -> jsonClient.search(page, session.authHeader(), mapper),
+                (startAt, maxResults) -> new URIBuilder(searchBase)
+                        .addParameter(PARAM_FIELDS, fields)
+                        .addParameter(S1, String.valueOf(startAt))
+                        .addParameter(S2, String.valueOf(maxResults))
+                        .build());
+    }
 
-            Set<String> affectedVersions = new LinkedHashSet<>();
-            JsonNode versionNodes = fields.path("versions");
-            if (versionNodes.isArray()) {
-                versionNodes.forEach(version -> {
-                    String name = version.path("name").asText(null);
-                    if (name != null && !name.isBlank()) {
-                        affectedVersions.add(JiraProjectState.normalize(name));
-                    }
-                });
-            }
+    /**
+     * Reads the current number of issues matched by a search without downloading any of them.
+     */
+    private int countIssues(JiraProjectState session, String searchBase)
+            throws IOException, JiraClientException, URISyntaxException {
+        URI uri = new URIBuilder(searchBase)
+                .addParameter(PARAM_FIELDS, "key")
+                .addParameter(S2, "0")
+                .build();
+        return jsonClient.get(uri, session.authHeader()).path("total").asInt();
+    }
+
+    /**
+     * Restricts the JQL of a search URL to the issues updated in the last {@code minutes} minutes. The
+     * relative form ({@code -Nm}) is evaluated by Jira itself, so it does not depend on the time zone of the
+     * Jira user; a trailing {@code ORDER BY} clause is kept after the added condition.
+     *
+     * @param searchBase search URL carrying the JQL
+     * @param minutes look-back window in minutes
+     * @return search URL of the delta query
+     * @throws URISyntaxException when the search URL cannot be parsed
+     */
+    static String updatedSince(String searchBase, long minutes) throws URISyntaxException {
+        URIBuilder builder = new URIBuilder(searchBase);
+        String jql = builder.getQueryParams().stream()
+                .filter(parameter -> "jql".equals(parameter.getName()))
+                .map(NameValuePair::getValue)
+                .findFirst()
+                .orElse("");
+        Matcher orderBy = ORDER_BY.matcher(jql);
+        String filter = orderBy.find() ? jql.substring(0, orderBy.start()) : jql;
+        String order = jql.substring(filter.length());
+        String delta = (filter.isBlank() ? "" : "(" + filter.trim() + ") AND ") + "updated >= -" + minutes + "m";
+        return builder.setParameter("jql", delta + order).build().toString();
+    }
 
-            int priorityRank = priorityRank(fields.path("priority").path("name").asText(""));
-            int typeRisk = typeRisk(fields.path("issuetype").path("name").asText(""));
-            JsonNode components = fields.path("components");
-            int componentCount = components.isArray() ? components.size() : 0;
+    /**
+     * Parses the extended ticket payload (priority, type, components, resolution date) for TLP.
+     *
+     * @param issue decoded Jira issue
+     * @return extracted ticket, or {@code null} when the issue has no key
+     */
+    private JiraSnapshot toFullTicket(JiraSearchPageParser.Issue issue) {
+        String key = issue.key();
+        if (key == null || key.isBlank()) {
+            return null;
+        }
 
-            tickets.add(new JiraSnapshot(
-                    key,
-                    created != null ? created : Instant.EPOCH,
-                    List.copyOf(affectedVersions),
-                    priorityRank,
-                    typeRisk,
-                    componentCount,
-                    resolved));
+        Instant created = parseJiraDate(issue.created());
+        Instant resolved = parseJiraDate(issue.resolutionDate());
+
+        return new JiraSnapshot(
+                key,
+                created != null ? created : Instant.EPOCH,
+                normalizedVersions(issue),
+                priorityRank(issue.priority() != null ? issue.priority() : ""),
+                typeRisk(issue.issueType() != null ? issue.issueType() : ""),
+                issue.componentCount(),
+                resolved);
+    }
+
+    /**
+     * Normalizes the non-blank affected version names of an issue, dropping duplicates.
+     *
+     * @param issue decoded Jira issue
+     * @return normalized affected versions
+     */
+    private static List<String> normalizedVersions(JiraSearchPageParser.Issue issue) {
+        Set<String> affectedVersions = new LinkedHashSet<>();
+        for (String name : issue.versionNames()) {
+            if (!name.isBlank()) {
+                affectedVersions.add(JiraProjectState.normalize(name));
+            }
         }
+        return List.copyOf(affectedVersions);
     }
 
     /**
@@ -364,4 +384,13 @@ final class JiraTicketReader {
             default -> 0;
         };
     }
+
+    /**
+     * Versions of a Jira project, read from one {@code /versions} payload.
+     *
+     * @param names normalized version names
+     * @param releaseDates release date keyed by normalized version name, for versions that carry one
+     */
+    record ProjectVersions(List<String> names, Map<String, Instant> releaseDates) {
+    }
 }
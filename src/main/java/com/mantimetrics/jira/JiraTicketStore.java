@@ -0,0 +1,227 @@
+package com.mantimetrics.jira;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent per-project store of the tickets returned by each Jira search, together with the time of the
+ * last successful sync of that search. Later runs only ask Jira for the tickets updated since then and merge
+ * them into the stored ones.
+ *
+ * <p>Unlike the commit segment, tickets change over time, so the whole file is rewritten on {@link #save()}
+ * through a temporary file and an atomic move; an interrupted run leaves the previous file intact.
+ */
+final class JiraTicketStore {
+    private static final Logger LOG = LoggerFactory.getLogger(JiraTicketStore.class);
+    private static final int MAGIC = 0x4D4D4A54; // "MMJT"
+    private static final int VERSION = 1;
+    private static final Comparator<JiraSnapshot> KEY_ORDER = Comparator
+            .comparing((JiraSnapshot ticket) -> keyPrefix(ticket.key()))
+            .thenComparingLong(ticket -> keyNumber(ticket.key()))
+            .thenComparing(JiraSnapshot::key);
+
+    private final Path file;
+    private final Map<String, SyncedSearch> searches;
+
+    private JiraTicketStore(Path file, Map<String, SyncedSearch> searches) {
+        this.file = file;
+        this.searches = searches;
+    }
+
+    /**
+     * Opens the store file, starting empty when it is missing, unreadable or written by another format.
+     *
+     * @param file store file path
+     * @return opened store
+     */
+    static JiraTicketStore open(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new JiraTicketStore(file, new LinkedHashMap<>());
+        }
+        try {
+            JiraTicketStore store = new JiraTicketStore(file, read(file));
+            LOG.info("Jira ticket store {} - {} synced searches", file, store.searches.size());
+            return store;
+        } catch (IOException exception) {
+            LOG.warn("Jira ticket store {} unreadable, resyncing from scratch: {}", file, exception.getMessage());
+            return new JiraTicketStore(file, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the stored result of a search.
+     *
+     * @param search search identifier (search URL and requested fields)
+     * @return stored result, or {@code null} when the search was never synced
+     */
+    SyncedSearch get(String search) {
+        return searches.get(search);
+    }
+
+    /**
+     * Replaces the stored result of a search.
+     *
+     * @param search search identifier (search URL and requested fields)
+     * @param syncedAt instant at which the sync started
+     * @param tickets complete ticket list of the search
+     */
+    void put(String search, Instant syncedAt, List<JiraSnapshot> tickets) {
+        searches.put(search, new SyncedSearch(syncedAt, tickets));
+    }
+
+    /**
+     * Writes every stored search to disk.
+     *
+     * @throws IOException when the store file cannot be written
+     */
+    void save() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(searches.size());
+            for (Map.Entry<String, SyncedSearch> entry : searches.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeLong(entry.getValue().syncedAt().toEpochMilli());
+                out.writeInt(entry.getValue().tickets().size());
+                for (JiraSnapshot ticket : entry.getValue().tickets()) {
+                    writeTicket(out, ticket);
+                }
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Merges the tickets updated since the last sync into the stored ones. An updated ticket replaces its
+     * stored version; the result is sorted by issue key so it does not depend on the sync history.
+     *
+     * @param stored tickets stored by the previous sync
+     * @param updated tickets returned by the delta search
+     * @return merged tickets in issue-key order
+     */
+    static List<JiraSnapshot> merge(Collection<JiraSnapshot> stored, Collection<JiraSnapshot> updated) {
+        Map<String, JiraSnapshot> byKey = new LinkedHashMap<>();
+        stored.forEach(ticket -> byKey.put(ticket.key(), ticket));
+        updated.forEach(ticket -> byKey.put(ticket.key(), ticket));
+        return inKeyOrder(byKey.values());
+    }
+
+    /**
+     * Sorts tickets by project prefix and issue number ({@code PROJ-9} before {@code PROJ-10}).
+     *
+     * @param tickets tickets to sort
+     * @return sorted immutable copy
+     */
+    static List<JiraSnapshot> inKeyOrder(Collection<JiraSnapshot> tickets) {
+        List<JiraSnapshot> sorted = new ArrayList<>(tickets);
+        sorted.sort(KEY_ORDER);
+        return List.copyOf(sorted);
+    }
+
+    private static Map<String, SyncedSearch> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unsupported ticket store format");
+            }
+            int searchCount = in.readInt();
+            Map<String, SyncedSearch> searches = new LinkedHashMap<>();
+            for (int search = 0; search < searchCount; search++) {
+                String key = readString(in);
+                Instant syncedAt = Instant.ofEpochMilli(in.readLong());
+                int ticketCount = in.readInt();
+                List<JiraSnapshot> tickets = new ArrayList<>(ticketCount);
+                for (int ticket = 0; ticket < ticketCount; ticket++) {
+                    tickets.add(readTicket(in));
+                }
+                searches.put(key, new SyncedSearch(syncedAt, List.copyOf(tickets)));
+            }
+            return searches;
+        }
+    }
+
+    private static void writeTicket(DataOutputStream out, JiraSnapshot ticket) throws IOException {
+        writeString(out, ticket.key());
+        out.writeLong(ticket.createdDate().toEpochMilli());
+        out.writeInt(ticket.affectedVersions().size());
+        for (String version : ticket.affectedVersions()) {
+            writeString(out, version);
+        }
+        out.writeInt(ticket.priorityRank());
+        out.writeInt(ticket.typeRisk());
+        out.writeInt(ticket.componentCount());
+        out.writeBoolean(ticket.resolvedDate() != null);
+        if (ticket.resolvedDate() != null) {
+            out.writeLong(ticket.resolvedDate().toEpochMilli());
+        }
+    }
+
+    private static JiraSnapshot readTicket(DataInputStream in) throws IOException {
+        String key = readString(in);
+        Instant created = Instant.ofEpochMilli(in.readLong());
+        int versionCount = in.readInt();
+        List<String> versions = new ArrayList<>(versionCount);
+        for (int index = 0; index < versionCount; index++) {
+            versions.add(readString(in));
+        }
+        int priorityRank = in.readInt();
+        int typeRisk = in.readInt();
+        int componentCount = in.readInt();
+        Instant resolved = in.readBoolean() ? Instant.ofEpochMilli(in.readLong()) : null;
+        return new JiraSnapshot(key, created, versions, priorityRank, typeRisk, componentCount, resolved);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String keyPrefix(String key) {
+        int dash = key.lastIndexOf('-');
+        return dash < 0 ? key : key.substring(0, dash);
+    }
+
+    private static long keyNumber(String key) {
+        try {
+            return Long.parseLong(key.substring(key.lastIndexOf('-') + 1));
+        } catch (NumberFormatException exception) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Stored result of one Jira search.
+     *
+     * @param syncedAt instant at which the last successful sync started
+     * @param tickets complete ticket list of the search
+     */
+    record SyncedSearch(Instant syncedAt, List<JiraSnapshot> tickets) {
+    }
+}
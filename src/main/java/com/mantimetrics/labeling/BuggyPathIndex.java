@@ -0,0 +1,126 @@
+package com.mantimetrics.labeling;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact buggy-path oracle: every path has an int id and every release a {@link BitSet} of the ids of its
+ * buggy paths. A lookup is two hash lookups and one bit test, and the whole timeline takes one bit per
+ * (release, labeled path) pair instead of one string set entry per pair.
+ *
+ * <p>The index is immutable once built and can be queried concurrently.
+ */
+final class BuggyPathIndex {
+    private final Map<String, Integer> releaseIndexById;
+    private final Map<String, Integer> pathIds;
+    private final BitSet[] buggyByRelease;
+
+    private BuggyPathIndex(Map<String, Integer> releaseIndexById, Map<String, Integer> pathIds,
+                           BitSet[] buggyByRelease) {
+        this.releaseIndexById = releaseIndexById;
+        this.pathIds = pathIds;
+        this.buggyByRelease = buggyByRelease;
+    }
+
+    /**
+     * Builds an index from buggy paths grouped by release identifier.
+     *
+     * @param buggyPathsByRelease buggy file paths grouped by release identifier
+     * @return equivalent index
+     */
+    static BuggyPathIndex of(Map<String, Set<String>> buggyPathsByRelease) {
+        Builder builder = new Builder(List.copyOf(buggyPathsByRelease.keySet()));
+        int releaseIndex = 0;
+        for (String releaseId : builder.releaseIds) {
+            builder.markBuggy(releaseIndex, releaseIndex + 1, buggyPathsByRelease.get(releaseId));
+            releaseIndex++;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reports whether a file path is labeled as buggy for a release.
+     *
+     * @param releaseId release identifier to inspect
+     * @param relativePath normalized relative source path
+     * @return {@code true} when the file is buggy in that release
+     */
+    boolean isBuggy(String releaseId, String relativePath) {
+        Integer releaseIndex = releaseIndexById.get(releaseId);
+        if (releaseIndex == null) {
+            return false;
+        }
+        Integer pathId = pathIds.get(relativePath);
+        return pathId != null && buggyByRelease[releaseIndex].get(pathId);
+    }
+
+    /**
+     * Counts the releases with at least one buggy path.
+     *
+     * @return releases with buggy paths
+     */
+    int releasesWithBuggyPaths() {
+        int count = 0;
+        for (BitSet buggy : buggyByRelease) {
+            if (!buggy.isEmpty()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Accumulates buggy paths over release ranges of an ordered timeline.
+     */
+    static final class Builder {
+        private final List<String> releaseIds;
+        private final Map<String, Integer> pathIds = new HashMap<>();
+        private final BitSet[] buggyByRelease;
+
+        /**
+         * Creates an empty builder for the given releases.
+         *
+         * @param releaseIds release identifiers in timeline order
+         */
+        Builder(List<String> releaseIds) {
+            this.releaseIds = releaseIds;
+            this.buggyByRelease = new BitSet[releaseIds.size()];
+            for (int index = 0; index < buggyByRelease.length; index++) {
+                buggyByRelease[index] = new BitSet();
+            }
+        }
+
+        /**
+         * Marks paths as buggy in every release of a range.
+         *
+         * @param fromIndex first release index of the range, inclusive
+         * @param toIndex last release index of the range, exclusive
+         * @param paths paths to mark
+         */
+        void markBuggy(int fromIndex, int toIndex, Collection<String> paths) {
+            for (String path : paths) {
+                int pathId = pathIds.computeIfAbsent(path, ignored -> pathIds.size());
+                for (int releaseIndex = fromIndex; releaseIndex < toIndex; releaseIndex++) {
+                    buggyByRelease[releaseIndex].set(pathId);
+                }
+            }
+        }
+
+        /**
+         * Freezes the accumulated labels.
+         *
+         * @return immutable index
+         */
+        BuggyPathIndex build() {
+            Map<String, Integer> releaseIndexById = new HashMap<>();
+            for (int index = 0; index < releaseIds.size(); index++) {
+                releaseIndexById.putIfAbsent(releaseIds.get(index), index);
+            }
+            return new BuggyPathIndex(Map.copyOf(releaseIndexById), Map.copyOf(pathIds), buggyByRelease.clone());
+        }
+    }
+}
@@ -87,7 +87,7 @@ public final class HistoricalBugTaker {
                 String.format("%.4f", globalP)
         );
 
-        Map<String, Set<String>> buggyPathsByRelease = new HashMap<>();
+        BuggyPathIndex.Builder buggyPaths = new BuggyPathIndex.Builder(timeline.orderedTags());
 
         LabelingStats stats = labelReleases(
                 timeline,
@@ -95,20 +95,21 @@ public final class HistoricalBugTaker {
                 fixReleaseByTicket,
                 touchedPathsByTicket,
                 contributions,
-                buggyPathsByRelease,
+                buggyPaths,
                 variant,
                 globalP
         );
 
+        BuggyPathIndex buggyPathIndex = buggyPaths.build();
         LOG.info(
                 "  Oracle built - {} releases with buggy paths  (IV-JIRA: {}  /  Proportion: {})",
-                buggyPathsByRelease.size(),
+                buggyPathIndex.releasesWithBuggyPaths(),
                 stats.withAffectedVersions(),
                 stats.withProportionFallback()
         );
 
         return new ReleaseLabeling(
-                immutableSetValues(buggyPathsByRelease),
+                buggyPathIndex,
                 new ReleaseLabeling.Summary(
                         "proportion-fallback",
                         resolvedTickets.size(),
@@ -131,7 +132,7 @@ public final class HistoricalBugTaker {
             Map<String, Integer> fixReleaseByTicket,
             Map<String, Set<String>> touchedPathsByTicket,
             Map<String, Double> contributions,
-            Map<String, Set<String>> buggyPathsByRelease,
+            BuggyPathIndex.Builder buggyPaths,
             Proportion.Variant variant,
             double globalP
     ) {
@@ -180,13 +181,10 @@ public final class HistoricalBugTaker {
                         withProportionFallback++;
                     }
 
-                    addBuggyPaths(
-                            ticket,
-                            timeline,
+                    buggyPaths.markBuggy(
                             injectedIndex,
                             fixIndex,
-                            touchedPathsByTicket,
-                            buggyPathsByRelease
+                            touchedPathsByTicket.getOrDefault(ticket.key(), Set.of())
                     );
                 }
 
@@ -221,29 +219,6 @@ public final class HistoricalBugTaker {
                 : runningSum / runningCount;
     }
 
-    private void addBuggyPaths(
-            JiraSnapshot ticket,
-            ReleaseTimeline timeline,
-            int injectedIndex,
-            int fixIndex,
-            Map<String, Set<String>> touchedPathsByTicket,
-            Map<String, Set<String>> buggyPathsByRelease
-    ) {
-        Set<String> touchedPaths =
-                touchedPathsByTicket.getOrDefault(ticket.key(), Set.of());
-
-        for (int releaseIndex = injectedIndex;
-             releaseIndex < fixIndex;
-             releaseIndex++) {
-
-            String releaseTag = timeline.orderedTags().get(releaseIndex);
-
-            buggyPathsByRelease
-                    .computeIfAbsent(releaseTag, ignored -> new LinkedHashSet<>())
-                    .addAll(touchedPaths);
-        }
-    }
-
     private record LabelingStats(
             int withAffectedVersions,
             int withProportionFallback
@@ -410,16 +385,4 @@ public final class HistoricalBugTaker {
         int predicted = (int) Math.round(fixIndex - (fixIndex - ov) * proportionP);
         return Math.max(ov, Math.min(predicted, fixIndex - 1));
     }
-
-    /**
-     * Copies a map of mutable sets into an immutable equivalent.
-     *
-     * @param source source map containing mutable set values
-     * @return immutable map with immutable set values
-     */
-    private Map<String, Set<String>> immutableSetValues(Map<String, Set<String>> source) {
-        Map<String, Set<String>> copy = new HashMap<>();
-        source.forEach((key, value) -> copy.put(key, Set.copyOf(value)));
-        return copy;
-    }
 }
@@ -6,9 +6,10 @@ import java.util.Set;
 
 /**
  * Release-aware lookup of buggy file paths produced from the full Git/JIRA history.
+ * The labels are held in a {@link BuggyPathIndex}, one bit per release and labeled path.
  */
 public final class ReleaseLabeling {
-    private final Map<String, Set<String>> buggyPathsByRelease;
+    private final BuggyPathIndex buggyPaths;
     private final Summary summary;
 
     /**
@@ -18,7 +19,17 @@ public final class ReleaseLabeling {
      * @param summary summary describing how the oracle was built
      */
     public ReleaseLabeling(Map<String, Set<String>> buggyPathsByRelease, Summary summary) {
-        this.buggyPathsByRelease = Map.copyOf(Objects.requireNonNull(buggyPathsByRelease, "buggyPathsByRelease"));
+        this(BuggyPathIndex.of(Objects.requireNonNull(buggyPathsByRelease, "buggyPathsByRelease")), summary);
+    }
+
+    /**
+     * Creates a bug-label index over already indexed buggy paths.
+     *
+     * @param buggyPaths buggy paths indexed by release
+     * @param summary summary describing how the oracle was built
+     */
+    ReleaseLabeling(BuggyPathIndex buggyPaths, Summary summary) {
+        this.buggyPaths = Objects.requireNonNull(buggyPaths, "buggyPaths");
         this.summary = Objects.requireNonNull(summary, "summary");
     }
 
@@ -30,7 +41,7 @@ public final class ReleaseLabeling {
      * @return {@code true} when the file is considered buggy in that release
      */
     public boolean isBuggy(String releaseId, String relativePath) {
-        return buggyPathsByRelease.getOrDefault(releaseId, Set.of()).contains(relativePath);
+        return buggyPaths.isBuggy(releaseId, relativePath);
     }
 
     /**
@@ -42,6 +53,29 @@ public final class ReleaseLabeling {
         return summary;
     }
 
+    /**
+     * Returns a view of this index whose summary reports a different number of dataset releases. The buggy
+     * paths do not depend on how many releases are kept for the dataset, so dataset variants that differ only
+     * in that count share one index.
+     *
+     * @param datasetReleaseCount number of releases kept for dataset generation
+     * @return index sharing the buggy paths of this one
+     */
+    public ReleaseLabeling withDatasetReleaseCount(int datasetReleaseCount) {
+        if (datasetReleaseCount == summary.datasetReleaseCount()) {
+            return this;
+        }
+        return new ReleaseLabeling(buggyPaths, new Summary(
+                summary.strategy(),
+                summary.totalResolvedTickets(),
+                summary.ticketsWithFixCommit(),
+                summary.ticketsUsingAffectedVersions(),
+                summary.ticketsUsingTotalFallback(),
+                summary.labelingReleaseCount(),
+                datasetReleaseCount,
+                summary.notes()));
+    }
+
     /**
      * Metadata emitted in the audit file so the dataset makes the chosen historical oracle explicit.
      *
@@ -0,0 +1,47 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.datasetsetting.DatasetClassData;
+import com.mantimetrics.datasetsetting.DatasetRow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Derives the rows of a churn-zero-excluding variant from the rows enriched without the filter.
+ *
+ * <p>Dropping the rows whose churn is zero is not a pure post-filter: the filtered variant carries only the
+ * kept rows into the next release, so a class whose previous row was dropped starts that release without
+ * previous smells or previous bug label. The cumulative history is updated for every row before filtering
+ * and is therefore the same in both variants. This class replays that difference, which lets both variants
+ * share a single enrichment pass.
+ */
+final class ChurnZeroFilter {
+
+    private ChurnZeroFilter() {
+    }
+
+    /**
+     * Keeps the rows with a non-zero churn and clears the previous-release fields that the filtered variant
+     * would not have seen.
+     *
+     * @param rows rows of one release enriched without the churn-zero filter
+     * @param previousRows unfiltered rows of the previous selected release, keyed by unique key
+     * @return rows of the release as the churn-zero-excluding variant writes them
+     */
+    static List<DatasetClassData> apply(List<DatasetClassData> rows, Map<String, DatasetRow> previousRows) {
+        List<DatasetClassData> kept = new ArrayList<>(rows.size());
+        for (DatasetClassData row : rows) {
+            if (row.getChurn() == 0) {
+                continue;
+            }
+            DatasetRow previous = previousRows.get(row.getUniqueKey());
+            if (previous instanceof DatasetClassData type && type.getChurn() == 0) {
+                kept.add(row.toBuilder().prevCodeSmells(0).prevBuggy(false).build());
+            } else {
+                kept.add(row);
+            }
+        }
+        return kept;
+    }
+}
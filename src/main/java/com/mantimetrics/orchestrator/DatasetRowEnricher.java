@@ -28,12 +28,13 @@ final class DatasetRowEnricher {
             ReleaseToDatasetRequest request
     ) {
         List<DatasetClassData> result = new ArrayList<>();
+        TlccIndex tlccIndex = TlccIndex.build(request.orderedTicketKeys(), request.ticketTouchedPaths());
         for (DatasetClassData row : rows) {
             String relativePath = normalizedPath(row);
             List<String> commits = request.commitData().touchesFor(relativePath);
             int currentCodeSmells = codeSmellsForRow(row, request.sonarSmellsByFile());
             TlpAggregate tlp = aggregateTlp(request.commitData().issueKeysFor(relativePath), request.ticketsByKey());
-            double[] tlcc = computeTlcc(relativePath, request.orderedTicketKeys(), request.ticketTouchedPaths());
+            double[] tlcc = tlccIndex.compute(relativePath);
             ComulationMetricsCalculator historyState = updateHistory(
                     row.getUniqueKey(), relativePath, request, row.getMetrics(), currentCodeSmells);
             DatasetClassData previous =
@@ -196,38 +197,6 @@ final class DatasetRowEnricher {
         return values.isEmpty() ? 0.0 : values.stream().mapToInt(Integer::intValue).average().orElse(0.0);
     }
 
-    /**
-     * Computes the Temporal Locality (TLCC) of a class over the ticket window up to the current
-     * release. {@code TLCC_Lin} weights the i-th ticket by 1/(1+N-i) (includes i=N, weight 1);
-     * {@code TLCC_Log} weights by 1/ln(1+N-i) (excludes i=N to avoid ln(1)=0). Both are divided by N.
-     *
-     * @param path normalized class path
-     * @param orderedTicketKeys chronological ticket keys up to the release (oldest first)
-     * @param ticketTouchedPaths issue key -> touched paths
-     * @return array {@code [tlccLin, tlccLog]}
-     */
-    private double[] computeTlcc(String path, List<String> orderedTicketKeys,
-                                 java.util.Map<String, java.util.Set<String>> ticketTouchedPaths) {
-        int n = orderedTicketKeys.size();
-        if (n == 0) {
-            return new double[]{0.0, 0.0};
-        }
-        double lin = 0.0;
-        double log = 0.0;
-        for (int idx = 0; idx < n; idx++) {
-            int i = idx + 1;
-            boolean touched = ticketTouchedPaths.getOrDefault(orderedTicketKeys.get(idx), java.util.Set.of()).contains(path);
-            if (!touched) {
-                continue;
-            }
-            lin += 1.0 / (1 + n - i);
-            if (i < n) {
-                log += 1.0 / Math.log(1 + (double)n - i);
-            }
-        }
-        return new double[]{lin / n, log / n};
-    }
-
     /** Immutable aggregated TLP values for one class-release row. */
     private record TlpAggregate(int priorityMax, double priorityAvg, int typeRiskMax, double typeRiskAvg,
                                 int componentCountMax, double componentCountAvg) {
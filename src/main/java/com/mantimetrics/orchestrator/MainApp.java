@@ -15,11 +15,28 @@ public final class MainApp {
     private static final String USAGE = """
             Uso:
               --repo-url=<https://github.com/org/repo.git> --jira-key=<KEY> [--sonar-key=<SONAR_PROJECT>]
+              [--history-parallelism=<N>] [--commit-fetch-parallelism=<K>] [--git-backend=api|local]
+              [--parse-threads=<T>] [--pipeline-depth=<D>] [--variant-threads=<V>]
+              [--jira-parallelism=<J>] [--sonar-scan-threads=<S>] [--sonar-fetch-parallelism=<F>]
+              [--source-ingestion=memory|spool]
+              [--smell-engine=sonar|pmd] [--pmd-ruleset=<RULESET>[,<RULESET>...]]
             Note:
               se --repo-url manca, la CLI chiede quale progetto analizzare;
               una singola esecuzione scarica i dati UNA volta e genera TUTTE le varianti
               di dataset in output/batch/ (snoring 66%/80% x Proportion total/incremental
-              x con/senza GitHub Issues x con/senza churn-zero = 16 CSV).
+              x con/senza GitHub Issues x con/senza churn-zero = 16 CSV);
+              --history-parallelism scarica N intervalli di release in parallelo (default 1);
+              --commit-fetch-parallelism mantiene K richieste di dettaglio commit in volo (default 1);
+              --parse-threads analizza i file sorgente di una release con T thread (default 1);
+              --pipeline-depth tiene fino a D release tra download e scrittura (default 1, nessuna sovrapposizione);
+              --variant-threads arricchisce e scrive i gruppi di varianti con V thread (default 1);
+              --jira-parallelism scarica fino a J pagine di ricerca JIRA in parallelo (default 1);
+              --sonar-scan-threads estrae e analizza con sonar-scanner fino a S release in parallelo (default 1);
+              --sonar-fetch-parallelism scarica fino a F pagine e analisi SonarCloud in parallelo (default 1);
+              --git-backend=local legge storia dei commit e sorgenti da un mirror locale (cache/repos);
+              --source-ingestion=spool salva l'archivio ZIP su file temporaneo e decodifica i sorgenti solo quando servono;
+              --smell-engine=pmd calcola NSmells offline con PMD sui sorgenti scaricati, senza SonarCloud;
+              --pmd-ruleset sostituisce il ruleset PMD incluso (pmd/smells.xml) con file o categorie PMD.
             """;
 
     /**
@@ -8,10 +8,13 @@ import com.mantimetrics.datasetoutput.DatasetArtifactGenerator;
 import com.mantimetrics.git.GitFacade;
 import com.mantimetrics.git.GitConfig;
 import com.mantimetrics.history.StoreReleaseInMemory;
+import com.mantimetrics.javaparsing.JavaParsingException;
+import com.mantimetrics.javaparsing.ScanResult;
 import com.mantimetrics.jira.JiraClientException;
 import com.mantimetrics.labeling.ReleaseLabeling;
 import com.mantimetrics.labeling.HistoricalBugTaker;
 import com.mantimetrics.labeling.Proportion;
+import com.mantimetrics.projectselector.ParallelismOptions;
 import com.mantimetrics.jira.JiraSnapshot;
 import com.mantimetrics.git.RawReleaseCommits;
 import com.mantimetrics.git.GitReleaseSnapshot;
@@ -19,13 +22,14 @@ import com.mantimetrics.datasetsetting.DatasetClassData;
 import com.mantimetrics.datasetsetting.DatasetRow;
 import com.mantimetrics.releaseselection.ReleaseSnoringFilter;
 import com.mantimetrics.releaseselection.ReleaseTimeline;
-import com.mantimetrics.javaparsing.JavaParsingException;
 import com.mantimetrics.datasetoutput.MilestoneAuditWriter;
 import com.mantimetrics.releaseselection.ReleaseException;
+import com.mantimetrics.smell.PmdSmellAnalyzer;
 import com.mantimetrics.smell.SonarClient;
 import com.mantimetrics.smell.SonarException;
 import com.mantimetrics.smell.SonarPreScanOrchestrator;
 import com.mantimetrics.smell.SonarSmellIndex;
+import com.mantimetrics.smell.SonarSmellStore;
 import com.mantimetrics.utility.ProgressBar;
 
 import java.io.BufferedWriter;
@@ -33,13 +37,13 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Project-level orchestrator. It preloads the full release history once, builds the historical bug oracle,
@@ -57,6 +61,8 @@ public final class Orchestrator {
     private final MilestoneAuditWriter milestoneAuditService;
     private final SonarClient sonarCloudClient;
     private final SonarPreScanOrchestrator sonarPreScanService;
+    private final SonarSmellStore sonarSmellStore;
+    private final PmdSmellAnalyzer localSmellAnalyzer;
 
     /**
      * Creates the project processor with all collaborators needed to execute the full release pipeline.
@@ -65,8 +71,7 @@ public final class Orchestrator {
      * @param releaseExecutionService service that executes one prepared release
      * @param gitService              Git service used to preload release commit data
      * @param csvWriter               CSV writer used to open per-granularity output files
-     * @param sonarPreScanService     service that runs {@code mvn sonar:sonar} for missing releases
-     * @param sonarCloudClient        authenticated SonarCloud client shared across the pipeline
+     * @param smellServices           groups the SonarCloud services and the optional offline PMD analyzer
      * @param outputServices          groups {@link DatasetArtifactGenerator} and {@link MilestoneAuditWriter}
      */
     public Orchestrator(
@@ -74,16 +79,17 @@ public final class Orchestrator {
             SingleReleaseExecution releaseExecutionService,
             GitFacade gitService,
             CSVWriter csvWriter,
-            SonarPreScanOrchestrator sonarPreScanService,
-            SonarClient sonarCloudClient,
+            SmellServices smellServices,
             OutputServices outputServices
     ) {
         this.releasePlanner = releasePlanner;
         this.releaseExecutionService = releaseExecutionService;
         this.gitService = gitService;
         this.csvWriter = csvWriter;
-        this.sonarPreScanService = sonarPreScanService;
-        this.sonarCloudClient = sonarCloudClient;
+        this.sonarPreScanService = smellServices.sonarPreScanService();
+        this.sonarCloudClient = smellServices.sonarCloudClient();
+        this.sonarSmellStore = smellServices.sonarSmellStore();
+        this.localSmellAnalyzer = smellServices.localAnalyzer();
         this.datasetArtifactService = outputServices.datasetArtifactService();
         this.milestoneAuditService = outputServices.milestoneAuditService();
     }
@@ -105,12 +111,13 @@ public final class Orchestrator {
      * @param useGithubIssues whether to union GitHub Issues with Jira bug tickets
      * @param proportionVariant Proportion variant used to estimate the injected version
      * @param excludeChurnZero whether to drop rows whose current-release churn is zero
+     * @param parallelism worker-pool sizes of the concurrent phases
      * @throws JiraClientException when Jira metadata cannot be loaded
      * @throws CSVException when a dataset CSV file cannot be written or closed
      */
     @SuppressWarnings("unused")
     public void process(GitConfig config, boolean useGithubIssues, Proportion.Variant proportionVariant,
-                        boolean excludeChurnZero)
+                        boolean excludeChurnZero, ParallelismOptions parallelism)
             throws JiraClientException, CSVException {
         ReleasePlan plan = releasePlanner.plan(config, useGithubIssues);
         if (plan == null) {
@@ -122,7 +129,8 @@ public final class Orchestrator {
         LOG.info("[1/5] Preloading Git commit history ({} releases)...", plan.timeline().size());
         List<ReleaseSnapshot> releaseHistory;
         try (ProgressBar bar = new ProgressBar("Git history", plan.timeline().size())) {
-            releaseHistory = buildReleaseHistory(plan, bar, useGithubIssues);
+            releaseHistory = buildReleaseHistory(plan, bar, useGithubIssues,
+                    new ReleaseRangeLoader(parallelism.historyParallelism()));
         }
         LOG.info("[1/5] done - {} snapshots loaded", releaseHistory.size());
 
@@ -136,30 +144,14 @@ public final class Orchestrator {
                 labelIndex.summary().ticketsUsingAffectedVersions(),
                 labelIndex.summary().ticketsUsingTotalFallback());
 
-        // -- Phase 3a: SonarCloud per-release pre-scan -------------------------
-        if (config.sonarProjectKey() != null) {
-            int total = plan.timeline().size();
-            LOG.info("[3a/5] SonarCloud pre-scan - {} releases (skips already-scanned)...", total);
-            try (ProgressBar bar = new ProgressBar("Sonar pre-scan", total)) {
-                int newScans = sonarPreScanService.scanMissingReleases(
-                        plan.owner(), plan.repo(),
-                        plan.timeline().orderedTags(),
-                        config.sonarProjectKey(), bar);
-                LOG.info("[3a/5] done - {} new releases scanned", newScans);
-            } catch (SonarException e) {
-                LOG.warn("[3a/5] SonarCloud pre-scan skipped: {}", e.getMessage());
-            }
-        }
-
-        // -- Phase 3b: Build SonarCloud smell index ----------------------------
-        String sonarLabel = config.sonarProjectKey() != null
-                ? config.sonarProjectKey() : "n/a";
-        LOG.info("[3b/5] Building SonarCloud smell index - {}...", sonarLabel);
+        // -- Phase 3: NSmells source ------------------------------------------
         Map<String, Map<String, Integer>> sonarSmellsByTag;
-        try (ProgressBar bar = new ProgressBar("Sonar index", plan.timeline().size())) {
-            sonarSmellsByTag = buildSonarSmellsByTag(plan, config, bar);
+        if (localSmellAnalyzer != null) {
+            LOG.info("[3/5] SonarCloud skipped - NSmells computed offline by PMD while parsing");
+            sonarSmellsByTag = new ConcurrentHashMap<>();
+        } else {
+            sonarSmellsByTag = preScanAndIndexSonar(plan, config, parallelism.sonarFetchParallelism());
         }
-        LOG.info("[3b/5] done");
 
         // -- Phase 4: Dataset generation ---------------------------------------
         int releasesTotal = plan.selectedTags().size();
@@ -172,18 +164,35 @@ public final class Orchestrator {
         List<SharedStatus> contexts = openContexts(plan, csvPaths, labelIndex,
                 sonarSmellsByTag, excludeChurnZero, ticketsByKey, openTicketsByRelease,
                 ticketTouchedPaths, orderedTicketsByRelease);
+        Map<String, ReleaseSnapshot> selectedSnapshots = new LinkedHashMap<>();
+        for (ReleaseSnapshot snapshot : releaseHistory) {
+            if (plan.selectedTags().contains(snapshot.tag())) {
+                selectedSnapshots.put(snapshot.tag(), snapshot);
+            }
+        }
         try (ProgressBar bar = new ProgressBar("Dataset", releasesTotal)) {
-            int releasesDone = 0;
+            int[] releasesDone = {0};
             try {
-                for (ReleaseSnapshot snapshot : releaseHistory) {
-                    if (!plan.selectedTags().contains(snapshot.tag())) {
-                        continue;
-                    }
-                    releasesDone++;
-                    bar.step(snapshot.tag());
-                    LOG.info("[5/5] Release [{}/{}] {}", releasesDone, releasesTotal, snapshot.tag());
-                    releaseExecutionService.processRelease(snapshot, contexts);
-                }
+                new ReleasePipeline(parallelism.pipelineDepth()).run(
+                        new ArrayList<>(selectedSnapshots.keySet()),
+                        tag -> releaseExecutionService.loadSources(plan.owner(), plan.repo(), tag),
+                        (tag, sources) -> {
+                            analyzeSmells(tag, sources, sonarSmellsByTag);
+                            return releaseExecutionService.parseSources(
+                                    sources, plan.repo(), selectedSnapshots.get(tag));
+                        },
+                        release -> {
+                            releasesDone[0]++;
+                            bar.step(release.tag());
+                            LOG.info("[5/5] Release [{}/{}] {}", releasesDone[0], releasesTotal, release.tag());
+                            if (release.failure() != null) {
+                                LOG.error("{}@{} - release skipped: {}",
+                                        plan.repo(), release.tag(), release.failure().getMessage());
+                                return;
+                            }
+                            releaseExecutionService.writeRelease(
+                                    selectedSnapshots.get(release.tag()), release.rows(), contexts);
+                        });
             } finally {
                 closeContexts(contexts);
             }
@@ -193,6 +202,42 @@ public final class Orchestrator {
         LOG.info("[OK] Dataset complete - output files written to output/");
     }
 
+    /**
+     * Runs the SonarCloud pre-scan of every release (phase 3a) and builds the per-tag smell maps from the
+     * resulting analyses (phase 3b).
+     *
+     * @param plan resolved release plan
+     * @param config project configuration carrying the optional SonarCloud key
+     * @param fetchParallelism analysis snapshots fetched concurrently
+     * @return per-tag smell maps
+     */
+    private Map<String, Map<String, Integer>> preScanAndIndexSonar(ReleasePlan plan, GitConfig config,
+                                                                   int fetchParallelism) {
+        if (config.sonarProjectKey() != null) {
+            int total = plan.timeline().size();
+            LOG.info("[3a/5] SonarCloud pre-scan - {} releases (skips already-scanned)...", total);
+            try (ProgressBar bar = new ProgressBar("Sonar pre-scan", total)) {
+                int newScans = sonarPreScanService.scanMissingReleases(
+                        plan.owner(), plan.repo(),
+                        plan.timeline().orderedTags(),
+                        config.sonarProjectKey(), bar);
+                LOG.info("[3a/5] done - {} new releases scanned", newScans);
+            } catch (SonarException e) {
+                LOG.warn("[3a/5] SonarCloud pre-scan skipped: {}", e.getMessage());
+            }
+        }
+
+        String sonarLabel = config.sonarProjectKey() != null
+                ? config.sonarProjectKey() : "n/a";
+        LOG.info("[3b/5] Building SonarCloud smell index - {}...", sonarLabel);
+        Map<String, Map<String, Integer>> sonarSmellsByTag;
+        try (ProgressBar bar = new ProgressBar("Sonar index", plan.timeline().size())) {
+            sonarSmellsByTag = buildSonarSmellsByTag(plan, config, bar, fetchParallelism);
+        }
+        LOG.info("[3b/5] done");
+        return sonarSmellsByTag;
+    }
+
     /**
      * Builds the per-tag SonarCloud file-smell maps.
      *
@@ -201,23 +246,26 @@ public final class Orchestrator {
      *   <li>Exact version match ({@code sonar.projectVersion == tag}) - populated by the pre-scan phase.</li>
      *   <li>Date-based fallback - latest analysis whose date <= release date, or earliest available proxy.</li>
      * </ol>
+     * The distinct analyses the timeline resolves to are prefetched concurrently before the per-tag lookup.
      * Returns an empty map gracefully when SonarCloud is not configured or the API is unavailable.
      *
      * @param plan   release plan providing the tag timeline
      * @param config project configuration carrying the optional SonarCloud key
      * @param bar    progress bar stepped once per tag
+     * @param fetchParallelism analysis snapshots fetched concurrently
      * @return map of release tag -> (file-path -> smell-count)
      */
     private Map<String, Map<String, Integer>> buildSonarSmellsByTag(
-            ReleasePlan plan, GitConfig config, ProgressBar bar) {
+            ReleasePlan plan, GitConfig config, ProgressBar bar, int fetchParallelism) {
         SonarSmellIndex sonarIndex = SonarSmellIndex.EMPTY;
         if (config.sonarProjectKey() != null && !config.sonarProjectKey().isBlank()) {
             try {
-                sonarIndex = SonarSmellIndex.build(sonarCloudClient, config.sonarProjectKey());
+                sonarIndex = SonarSmellIndex.build(sonarCloudClient, config.sonarProjectKey(), sonarSmellStore);
             } catch (SonarException e) {
                 LOG.warn("SonarCloud unavailable for {}: {}", config.sonarProjectKey(), e.getMessage());
             }
         }
+        sonarIndex.prefetch(plan.timeline().orderedTags(), plan.timeline().tagDates(), fetchParallelism);
         Map<String, Map<String, Integer>> byTag = new LinkedHashMap<>();
         for (String tag : plan.timeline().orderedTags()) {
             // 1) Try exact version match (requires pre-scan to have run)
@@ -283,26 +331,18 @@ public final class Orchestrator {
      * Preloads the complete release history, including the releases excluded by snoring, because those future
      * fix commits are still needed to label the older dataset rows.
      */
-    private List<ReleaseSnapshot> buildReleaseHistory(ReleasePlan plan, ProgressBar bar, boolean includeGithub) {
-        List<ReleaseSnapshot> history = new ArrayList<>();
+    private List<ReleaseSnapshot> buildReleaseHistory(ReleasePlan plan, ProgressBar bar, boolean includeGithub,
+                                                      ReleaseRangeLoader loader) {
         List<String> timelineTags = plan.timeline().orderedTags();
-        int total = timelineTags.size();
-        for (int index = 0; index < total; index++) {
+        Map<String, GitReleaseSnapshot> commitDataByTag = loader.load(timelineTags, bar,
+                "preloading commit history",
+                (previousTag, tag) -> gitService.buildReleaseCommitData(
+                        plan.owner(), plan.repo(), previousTag, tag, includeGithub));
+        List<ReleaseSnapshot> history = new ArrayList<>(timelineTags.size());
+        for (int index = 0; index < timelineTags.size(); index++) {
             String tag = timelineTags.get(index);
             String previousTag = index > 0 ? timelineTags.get(index - 1) : null;
-            try {
-                history.add(new ReleaseSnapshot(
-                        tag,
-                        previousTag,
-                        gitService.buildReleaseCommitData(plan.owner(), plan.repo(), previousTag, tag, includeGithub)
-                ));
-                bar.step(tag);
-            } catch (IOException exception) {
-                throw new ReleaseException("I/O error while preloading commit history for " + tag, exception);
-            } catch (InterruptedException exception) {
-                Thread.currentThread().interrupt();
-                throw new ReleaseException("Interrupted while preloading commit history for " + tag, exception);
-            }
+            history.add(new ReleaseSnapshot(tag, previousTag, commitDataByTag.get(tag)));
         }
         return history;
     }
@@ -366,10 +406,11 @@ public final class Orchestrator {
      * commit aggregation, labeling, TLP, snoring and churn-zero filters).
      *
      * @param config project configuration
+     * @param parallelism worker-pool sizes of the concurrent phases
      * @throws JiraClientException when Jira metadata cannot be loaded
      * @throws CSVException when a variant CSV cannot be written
      */
-    public void run(GitConfig config) throws JiraClientException, CSVException {
+    public void run(GitConfig config, ParallelismOptions parallelism) throws JiraClientException, CSVException {
         ReleasePlan plan = releasePlanner.plan(config, false);
         if (plan == null) {
             return;
@@ -384,7 +425,8 @@ public final class Orchestrator {
         LOG.info("[collect 1/3] Fetching raw commit history ({} releases)...", allTags.size());
         Map<String, RawReleaseCommits> rawCommitsByTag;
         try (ProgressBar bar = new ProgressBar("Commits", allTags.size())) {
-            rawCommitsByTag = collectRawCommits(owner, repo, allTags, bar);
+            rawCommitsByTag = collectRawCommits(owner, repo, allTags, bar,
+                    new ReleaseRangeLoader(parallelism.historyParallelism()));
         }
 
         int maxPct = 0;
@@ -393,151 +435,265 @@ public final class Orchestrator {
         }
         List<String> parseTags = variantSelector.selectFirstPercent(allTags, maxPct);
 
-        if (config.sonarProjectKey() != null) {
-            LOG.info("[collect 2/3] SonarCloud pre-scan ({} dataset releases)...", parseTags.size());
-            try (ProgressBar bar = new ProgressBar("Sonar pre-scan", parseTags.size())) {
-                sonarPreScanService.scanMissingReleases(owner, repo, parseTags, config.sonarProjectKey(), bar);
-            } catch (SonarException e) {
-                LOG.warn("SonarCloud pre-scan skipped: {}", e.getMessage());
-            }
-        }
         Map<String, Map<String, Integer>> sonarSmellsByTag;
-        try (ProgressBar bar = new ProgressBar("Sonar index", allTags.size())) {
-            sonarSmellsByTag = buildSonarSmellsByTag(plan, config, bar);
+        if (localSmellAnalyzer != null) {
+            LOG.info("[collect 2/3] SonarCloud skipped - NSmells computed offline by PMD while parsing");
+            sonarSmellsByTag = new ConcurrentHashMap<>();
+        } else {
+            if (config.sonarProjectKey() != null) {
+                LOG.info("[collect 2/3] SonarCloud pre-scan ({} dataset releases)...", parseTags.size());
+                try (ProgressBar bar = new ProgressBar("Sonar pre-scan", parseTags.size())) {
+                    sonarPreScanService.scanMissingReleases(owner, repo, parseTags, config.sonarProjectKey(), bar);
+                } catch (SonarException e) {
+                    LOG.warn("SonarCloud pre-scan skipped: {}", e.getMessage());
+                }
+            }
+            try (ProgressBar bar = new ProgressBar("Sonar index", allTags.size())) {
+                sonarSmellsByTag = buildSonarSmellsByTag(plan, config, bar, parallelism.sonarFetchParallelism());
+            }
+            Set<String> diagSonarPaths = new HashSet<>();
+            sonarSmellsByTag.values().forEach(m -> diagSonarPaths.addAll(m.keySet()));
+            LOG.info("[diag] SonarCloud indexed {} distinct smell paths; samples: {}",
+                    diagSonarPaths.size(), diagSonarPaths.stream().limit(3).toList());
         }
-        Set<String> diagSonarPaths = new HashSet<>();
-        sonarSmellsByTag.values().forEach(m -> diagSonarPaths.addAll(m.keySet()));
-        LOG.info("[diag] SonarCloud indexed {} distinct smell paths; samples: {}",
-                diagSonarPaths.size(), diagSonarPaths.stream().limit(3).toList());
 
         LOG.info("[collect 3/3] Downloading & parsing sources ({} releases)...", parseTags.size());
-        Map<String, List<DatasetClassData>> parsedClassesByTag;
-        try (ProgressBar bar = new ProgressBar("Parse sources", parseTags.size())) {
-            parsedClassesByTag = collectParsedClasses(owner, repo, parseTags, bar);
+        try (ParsedClassSpill parsedClasses = openSpill()) {
+            try (ProgressBar bar = new ProgressBar("Parse sources", parseTags.size())) {
+                collectParsedClasses(owner, repo, parseTags, bar,
+                        new ReleasePipeline(parallelism.pipelineDepth()), parsedClasses, sonarSmellsByTag);
+            }
+
+            // ---- EMIT ALL VARIANTS IN ONE PASS ----
+            List<Combo> combos = allCombos();
+            LOG.info("[generate] Producing {} dataset variants (offline)...", combos.size());
+            try (VariantExecutor executor = new VariantExecutor(parallelism.variantThreads())) {
+                emitVariants(plan, combos, parseTags, rawCommitsByTag, sonarSmellsByTag, parsedClasses, executor);
+            }
+            LOG.info("[OK] {} variants written to output/batch/", combos.size());
         }
+    }
 
-        // ---- EMIT PER VARIANT ----
-        List<Combo> combos = allCombos();
-        LOG.info("[generate] Producing {} dataset variants (offline)...", combos.size());
-        int index = 0;
-        for (Combo combo : combos) {
-            index++;
-            LOG.info("[variant {}/{}] {}", index, combos.size(), combo.tag());
-            emitVariant(plan, combo, rawCommitsByTag, sonarSmellsByTag, parsedClassesByTag);
+    /**
+     * Creates the spill area that keeps the parsed classes of every release off the heap.
+     */
+    private static ParsedClassSpill openSpill() {
+        try {
+            return ParsedClassSpill.create();
+        } catch (IOException exception) {
+            throw new ReleaseException("I/O error while creating the parsed-class spill area", exception);
         }
-        LOG.info("[OK] {} variants written to output/batch/", combos.size());
     }
 
     /**
      * Fetches raw commit snapshots for every release once (the rate-limited GitHub work).
      */
-    private Map<String, RawReleaseCommits> collectRawCommits(String owner, String repo, List<String> tags, ProgressBar bar) {
-        Map<String, RawReleaseCommits> byTag = new LinkedHashMap<>();
-        for (int idx = 0; idx < tags.size(); idx++) {
-            String tag = tags.get(idx);
-            String prevTag = idx > 0 ? tags.get(idx - 1) : null;
-            try {
-                byTag.put(tag, gitService.fetchRawReleaseCommits(owner, repo, prevTag, tag));
-                bar.step(tag);
-            } catch (IOException e) {
-                throw new ReleaseException("I/O error fetching commits for " + tag, e);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new ReleaseException("Interrupted fetching commits for " + tag, e);
-            }
+    private Map<String, RawReleaseCommits> collectRawCommits(String owner, String repo, List<String> tags,
+                                                             ProgressBar bar, ReleaseRangeLoader loader) {
+        return loader.load(tags, bar, "fetching commits",
+                (prevTag, tag) -> gitService.fetchRawReleaseCommits(owner, repo, prevTag, tag));
+    }
+
+    /**
+     * Downloads and parses the sources of each release once (flag-independent product metrics) and spills the
+     * rows of each release to disk as soon as it is parsed. The download of the next release overlaps the
+     * parsing of the current one when the pipeline allows it. With the offline smell engine the smells of
+     * each release are counted from the same sources, before they are parsed.
+     */
+    private void collectParsedClasses(String owner, String repo, List<String> tags, ProgressBar bar,
+                                      ReleasePipeline pipeline, ParsedClassSpill spill,
+                                      Map<String, Map<String, Integer>> smellsByTag) {
+        pipeline.run(tags,
+                tag -> releaseExecutionService.loadSources(owner, repo, tag),
+                (tag, sources) -> {
+                    analyzeSmells(tag, sources, smellsByTag);
+                    return releaseExecutionService.parseSources(sources, repo, tag);
+                },
+                release -> {
+                    if (release.failure() != null) {
+                        LOG.warn("Parse skipped for {}: {}", release.tag(), release.failure().getMessage());
+                    }
+                    try {
+                        spill.write(release.tag(), release.rows());
+                    } catch (IOException exception) {
+                        throw new ReleaseException("I/O error while spilling parsed classes for "
+                                + release.tag(), exception);
+                    }
+                    bar.step(release.tag());
+                });
+    }
+
+    /**
+     * Counts the smells of a release with the offline PMD analyzer, when it is enabled, and records them
+     * with the per-tag smell maps the consumers read once the release is parsed. A failed analysis propagates
+     * as the failure of the release, which is then skipped instead of being written with no smells.
+     *
+     * @param tag release tag
+     * @param sources downloaded release sources
+     * @param smellsByTag concurrent per-tag smell maps filled by the parse stage
+     * @throws JavaParsingException when the PMD analysis of the release fails
+     */
+    private void analyzeSmells(String tag, ScanResult sources, Map<String, Map<String, Integer>> smellsByTag)
+            throws JavaParsingException {
+        if (localSmellAnalyzer == null) {
+            return;
+        }
+        try {
+            smellsByTag.put(tag, localSmellAnalyzer.analyze(sources));
+        } catch (IllegalStateException exception) {
+            throw new JavaParsingException("PMD smell analysis failed for " + tag, exception);
         }
-        return byTag;
     }
 
     /**
-     * Downloads and parses the sources of each release once (flag-independent product metrics).
+     * Derives every dataset variant from the cached raw data (no network calls) in a single pass over the
+     * releases. Each intermediate is computed once per distinct key it depends on: commit aggregation, history
+     * and TLP maps once per issue source, labeling and enrichment once per issue source and Proportion variant.
+     * The enriched rows of a release are then fanned out to every variant writer: the smaller snoring
+     * percentages select a prefix of the larger one, so they receive the same rows for their releases, and the
+     * churn-zero variants derive their rows from the unfiltered ones through {@link ChurnZeroFilter}.
+     * Parsed classes are streamed back from the spill area once per release and shared, read-only, by the
+     * labeling groups, which the executor may enrich and write concurrently. Audits are written afterwards
+     * in variant order.
      */
-    private Map<String, List<DatasetClassData>> collectParsedClasses(String owner, String repo, List<String> tags, ProgressBar bar) {
-        Map<String, List<DatasetClassData>> byTag = new LinkedHashMap<>();
-        for (String tag : tags) {
-            try {
-                byTag.put(tag, releaseExecutionService.parseRelease(owner, repo, tag));
-            } catch (JavaParsingException e) {
-                LOG.warn("Parse skipped for {}: {}", tag, e.getMessage());
-                byTag.put(tag, List.of());
+    private void emitVariants(ReleasePlan plan, List<Combo> combos, List<String> passTags,
+                              Map<String, RawReleaseCommits> rawCommitsByTag,
+                              Map<String, Map<String, Integer>> sonarSmellsByTag,
+                              ParsedClassSpill parsedClasses, VariantExecutor executor) throws CSVException {
+        Map<Boolean, IssueSourceView> views = new LinkedHashMap<>();
+        Map<String, LabelGroup> groups = new LinkedHashMap<>();
+        try {
+            for (Combo combo : combos) {
+                IssueSourceView view = views.computeIfAbsent(combo.useGithub(),
+                        useGithub -> buildIssueSourceView(plan, rawCommitsByTag, useGithub));
+                LabelGroup group = groups.get(combo.groupKey());
+                if (group == null) {
+                    LOG.info("[generate] Labeling {}...", combo.groupKey());
+                    group = new LabelGroup(view, new HistoricalBugTaker().build(plan.timeline(), passTags,
+                            view.ticketsForLabeling(), view.history(), combo.proportion()));
+                    groups.put(combo.groupKey(), group);
+                }
+                List<String> selectedTags = variantSelector.selectFirstPercent(
+                        plan.timeline().orderedTags(), combo.percentage());
+                Path csvPath = Paths.get("output", "batch", plan.repo() + "_" + combo.tag() + ".csv");
+                group.outputs().add(new VariantOutput(combo, new HashSet<>(selectedTags), selectedTags.size(),
+                        csvPath, csvWriter.open(csvPath)));
+            }
+
+            List<LabelGroup> groupList = new ArrayList<>(groups.values());
+            try (ProgressBar bar = new ProgressBar("Variants", passTags.size())) {
+                for (String tag : passTags) {
+                    List<DatasetClassData> raw = readSpilled(parsedClasses, tag);
+                    executor.forEach(groupList,
+                            group -> emitRelease(plan, tag, raw, group, sonarSmellsByTag));
+                    bar.step(tag);
+                }
+            }
+        } finally {
+            closeVariantWriters(groups.values());
+        }
+
+        for (LabelGroup group : groups.values()) {
+            for (VariantOutput output : group.outputs()) {
+                try {
+                    milestoneAuditService.write(output.csvPath(), plan.timeline().size(), output.releaseCount(),
+                            group.labels().withDatasetReleaseCount(output.releaseCount()).summary(),
+                            group.view().linkageRate());
+                } catch (IOException e) {
+                    LOG.warn("Audit write failed for {}: {}", output.csvPath().getFileName(), e.getMessage());
+                }
             }
-            bar.step(tag);
         }
-        return byTag;
     }
 
     /**
-     * Derives one dataset variant from the cached raw data (no network calls).
+     * Aggregates the raw commits and derives the ticket-dependent maps for one issue source.
      */
-    private void emitVariant(ReleasePlan plan, Combo combo,
-                             Map<String, RawReleaseCommits> rawCommitsByTag,
-                             Map<String, Map<String, Integer>> sonarSmellsByTag,
-                             Map<String, List<DatasetClassData>> parsedClassesByTag) throws CSVException {
+    private IssueSourceView buildIssueSourceView(ReleasePlan plan, Map<String, RawReleaseCommits> rawCommitsByTag,
+                                                 boolean useGithub) {
         List<String> allTags = plan.timeline().orderedTags();
-        List<String> selectedTags = variantSelector.selectFirstPercent(allTags, combo.percentage());
-        List<JiraSnapshot> ticketsForLabeling = union(plan.resolvedTickets(), combo.useGithub() ? plan.ghTickets() : List.of());
-        List<JiraSnapshot> ticketsForTlp = union(plan.allTickets(), combo.useGithub() ? plan.ghTickets() : List.of());
+        List<JiraSnapshot> ticketsForLabeling = union(plan.resolvedTickets(), useGithub ? plan.ghTickets() : List.of());
+        List<JiraSnapshot> ticketsForTlp = union(plan.allTickets(), useGithub ? plan.ghTickets() : List.of());
 
         Map<String, GitReleaseSnapshot> commitDataByTag = new LinkedHashMap<>();
         List<ReleaseSnapshot> history = new ArrayList<>();
         for (int idx = 0; idx < allTags.size(); idx++) {
             String tag = allTags.get(idx);
             String prevTag = idx > 0 ? allTags.get(idx - 1) : null;
-            GitReleaseSnapshot cd = gitService.aggregate(rawCommitsByTag.get(tag), combo.useGithub());
+            GitReleaseSnapshot cd = gitService.aggregate(rawCommitsByTag.get(tag), useGithub);
             commitDataByTag.put(tag, cd);
             history.add(new ReleaseSnapshot(tag, prevTag, cd));
         }
+        return new IssueSourceView(
+                commitDataByTag,
+                history,
+                ticketsForLabeling,
+                indexTicketsByKey(ticketsForTlp),
+                computeOpenTicketsByRelease(plan.timeline(), ticketsForTlp),
+                computeTicketTouchedPaths(history),
+                computeOrderedTicketsByRelease(plan.timeline(), ticketsForTlp),
+                computeLinkageRate(history));
+    }
 
-        ReleaseLabeling labelIndex = new HistoricalBugTaker()
-                .build(plan.timeline(), selectedTags, ticketsForLabeling, history, combo.proportion());
-
-        Map<String, JiraSnapshot> ticketsByKey = indexTicketsByKey(ticketsForTlp);
-        Map<String, Integer> openTicketsByRelease = computeOpenTicketsByRelease(plan.timeline(), ticketsForTlp);
-        Map<String, Set<String>> ticketTouchedPaths = computeTicketTouchedPaths(history);
-        Map<String, List<String>> orderedTicketsByRelease = computeOrderedTicketsByRelease(plan.timeline(), ticketsForTlp);
-
-        Path csvPath = Paths.get("output", "batch", plan.repo() + "_" + combo.tag() + ".csv");
-        BufferedWriter writer = csvWriter.open(csvPath);
-        try {
-            Map<String, DatasetRow> prevData = new HashMap<>();
-            StoreReleaseInMemory historyStore = new StoreReleaseInMemory();
-            for (String tag : allTags) {
-                if (!selectedTags.contains(tag)) {
-                    continue;
-                }
-                List<DatasetClassData> raw = parsedClassesByTag.getOrDefault(tag, List.of());
-                ReleaseToDatasetRequest request = new ReleaseToDatasetRequest(
-                        null, plan.repo(), tag, commitDataByTag.get(tag),
-                        prevData, historyStore, labelIndex,
-                        sonarSmellsByTag.getOrDefault(tag, Map.of()),
-                        combo.excludeChurnZero(), ticketsByKey,
-                        openTicketsByRelease.getOrDefault(tag, 0),
-                        ticketTouchedPaths, orderedTicketsByRelease.getOrDefault(tag, List.of()));
-                List<DatasetClassData> rows = releaseExecutionService.enrich(raw, request);
-                prevData.clear();
-                for (DatasetClassData row : rows) {
-                    prevData.put(row.getUniqueKey(), row);
+    /**
+     * Enriches one release for a labeling group and appends the rows to every variant that selects it.
+     */
+    private void emitRelease(ReleasePlan plan, String tag, List<DatasetClassData> raw, LabelGroup group,
+                             Map<String, Map<String, Integer>> sonarSmellsByTag) throws CSVException {
+        IssueSourceView view = group.view();
+        ReleaseToDatasetRequest request = new ReleaseToDatasetRequest(
+                plan.repo(), tag, view.commitDataByTag().get(tag),
+                group.prevData(), group.historyStore(), group.labels(),
+                sonarSmellsByTag.getOrDefault(tag, Map.of()),
+                false, view.ticketsByKey(),
+                view.openTicketsByRelease().getOrDefault(tag, 0),
+                view.ticketTouchedPaths(), view.orderedTicketsByRelease().getOrDefault(tag, List.of()));
+        List<DatasetClassData> rows = releaseExecutionService.enrich(raw, request);
+        List<DatasetClassData> churnRows = null;
+        for (VariantOutput output : group.outputs()) {
+            if (!output.selectedTags().contains(tag)) {
+                continue;
+            }
+            if (output.combo().excludeChurnZero()) {
+                if (churnRows == null) {
+                    churnRows = ChurnZeroFilter.apply(rows, group.prevData());
                 }
-                csvWriter.append(writer, rows);
+                csvWriter.append(output.writer(), churnRows);
+            } else {
+                csvWriter.append(output.writer(), rows);
             }
-        } finally {
-            closeVariantWriter(writer);
         }
+        group.prevData().clear();
+        for (DatasetClassData row : rows) {
+            group.prevData().put(row.getUniqueKey(), row);
+        }
+    }
 
+    /** Reads the spilled parsed classes of one release, wrapping failures. */
+    private static List<DatasetClassData> readSpilled(ParsedClassSpill parsedClasses, String tag) {
         try {
-            milestoneAuditService.write(csvPath, plan.timeline().size(), selectedTags.size(),
-                    labelIndex.summary(), computeLinkageRate(history));
-        } catch (IOException e) {
-            LOG.warn("Audit write failed for {}: {}", csvPath.getFileName(), e.getMessage());
+            return parsedClasses.read(tag);
+        } catch (IOException exception) {
+            throw new ReleaseException("I/O error while reading spilled parsed classes for " + tag, exception);
         }
     }
 
-    /** Closes a variant CSV writer, wrapping failures. */
-    private void closeVariantWriter(BufferedWriter writer) throws CSVException {
-        try {
-            writer.close();
-        } catch (IOException e) {
-            throw new CSVException("Failed to close variant CSV", e);
+    /** Closes every opened variant CSV writer, reporting the first failure. */
+    private void closeVariantWriters(Iterable<LabelGroup> groups) throws CSVException {
+        CSVException failure = null;
+        for (LabelGroup group : groups) {
+            for (VariantOutput output : group.outputs()) {
+                try {
+                    output.writer().close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = new CSVException("Failed to close variant CSV", e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
         }
     }
 
@@ -571,6 +727,38 @@ public final class Orchestrator {
                     + "_gh" + (useGithub ? 1 : 0)
                     + "_churn" + (excludeChurnZero ? 1 : 0);
         }
+
+        /** Identifies the variants that share one labeling and enrichment pass. */
+        String groupKey() {
+            return proportion.name().toLowerCase() + "_gh" + (useGithub ? 1 : 0);
+        }
+    }
+
+    /** Commit aggregation and ticket-derived maps shared by every variant using the same issue source. */
+    private record IssueSourceView(
+            Map<String, GitReleaseSnapshot> commitDataByTag,
+            List<ReleaseSnapshot> history,
+            List<JiraSnapshot> ticketsForLabeling,
+            Map<String, JiraSnapshot> ticketsByKey,
+            Map<String, Integer> openTicketsByRelease,
+            Map<String, Set<String>> ticketTouchedPaths,
+            Map<String, List<String>> orderedTicketsByRelease,
+            double linkageRate) {
+    }
+
+    /**
+     * Variants sharing one bug-label index, with the unfiltered enrichment state carried between releases.
+     */
+    private record LabelGroup(IssueSourceView view, ReleaseLabeling labels, Map<String, DatasetRow> prevData,
+                              StoreReleaseInMemory historyStore, List<VariantOutput> outputs) {
+        LabelGroup(IssueSourceView view, ReleaseLabeling labels) {
+            this(view, labels, new HashMap<>(), new StoreReleaseInMemory(), new ArrayList<>());
+        }
+    }
+
+    /** One open variant CSV and the releases it selects. */
+    private record VariantOutput(Combo combo, Set<String> selectedTags, int releaseCount, Path csvPath,
+                                 BufferedWriter writer) {
     }
 
     /**
@@ -600,23 +788,7 @@ public final class Orchestrator {
     }
 
     private Map<String, Integer> computeOpenTicketsByRelease(ReleaseTimeline timeline, List<JiraSnapshot> tickets) {
-        Map<String, Integer> open = new LinkedHashMap<>();
-        Map<String, java.time.Instant> tagDates = timeline.tagDates();
-        for (String tag : timeline.orderedTags()) {
-            java.time.Instant releaseDate = tagDates.get(tag);
-            int count = 0;
-            if (releaseDate != null) {
-                for (JiraSnapshot ticket : tickets) {
-                    boolean createdByNow = ticket.createdDate() != null && !ticket.createdDate().isAfter(releaseDate);
-                    boolean stillOpen = ticket.resolvedDate() == null || ticket.resolvedDate().isAfter(releaseDate);
-                    if (createdByNow && stillOpen) {
-                        count++;
-                    }
-                }
-            }
-            open.put(tag, count);
-        }
-        return open;
+        return TicketTimelineIndex.openTicketsByRelease(timeline, tickets);
     }
 
     /**
@@ -650,33 +822,7 @@ public final class Orchestrator {
     }
 
     private Map<String, List<String>> computeOrderedTicketsByRelease(ReleaseTimeline timeline, List<JiraSnapshot> tickets) {
-        List<JiraSnapshot> sorted = new ArrayList<>(tickets);
-        sorted.sort(Comparator.comparing(this::effectiveDate));
-        Map<String, java.time.Instant> tagDates = timeline.tagDates();
-        Map<String, List<String>> byRelease = new LinkedHashMap<>();
-        for (String tag : timeline.orderedTags()) {
-            java.time.Instant date = tagDates.get(tag);
-            List<String> seq = new ArrayList<>();
-            if (date != null) {
-                for (JiraSnapshot ticket : sorted) {
-                    if (!effectiveDate(ticket).isAfter(date)) {
-                        seq.add(ticket.key());
-                    }
-                }
-            }
-            byRelease.put(tag, seq);
-        }
-        return byRelease;
-    }
-
-    /**
-     * Returns the effective chronological date of a ticket (resolution date when present, else creation).
-     *
-     * @param ticket resolved ticket
-     * @return effective ordering instant
-     */
-    private java.time.Instant effectiveDate(JiraSnapshot ticket) {
-        return ticket.resolvedDate() != null ? ticket.resolvedDate() : ticket.createdDate();
+        return TicketTimelineIndex.orderedTicketsByRelease(timeline, tickets);
     }
 
     /**
@@ -0,0 +1,143 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.datasetsetting.DatasetClassData;
+import com.mantimetrics.feature.ClassMetrics;
+import com.mantimetrics.utility.TmpDirCleaner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spill area for the raw parsed class rows of the collect-once mode. Rows are written to one compact binary
+ * file per release as soon as the release is parsed and read back one release at a time while a dataset
+ * variant is emitted, so the heap holds a single release's rows instead of the whole history.
+ *
+ * <p>Only the fields set by the parser are stored (project, path, class, release, product metrics, Jira keys
+ * and line range); every process, history and labeling field is computed later by the enrichment step.
+ * Consecutive rows from the same source file share their path, which is written once per run of rows.
+ * A spilled release can be read concurrently by several variants once it has been written.
+ */
+final class ParsedClassSpill implements Closeable {
+    private final Path directory;
+    private final Map<String, Path> filesByTag = new ConcurrentHashMap<>();
+    private final AtomicInteger nextFile = new AtomicInteger();
+
+    private ParsedClassSpill(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates an empty spill area in a new temporary directory.
+     *
+     * @return empty spill area
+     * @throws IOException when the temporary directory cannot be created
+     */
+    static ParsedClassSpill create() throws IOException {
+        return new ParsedClassSpill(Files.createTempDirectory("mantimetrics-parsed"));
+    }
+
+    /**
+     * Writes the raw rows of one release, replacing any rows previously spilled for it.
+     *
+     * @param tag release tag
+     * @param rows raw parsed class rows of the release
+     * @throws IOException when the spill file cannot be written
+     */
+    void write(String tag, List<DatasetClassData> rows) throws IOException {
+        Path file = directory.resolve(nextFile.getAndIncrement() + ".rows");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(rows.size());
+            String previousPath = null;
+            for (DatasetClassData row : rows) {
+                boolean samePath = row.getPath().equals(previousPath);
+                out.writeBoolean(samePath);
+                if (!samePath) {
+                    out.writeUTF(row.getProjectName());
+                    out.writeUTF(row.getPath());
+                    out.writeUTF(row.getReleaseId());
+                    previousPath = row.getPath();
+                }
+                out.writeUTF(row.getClassName());
+                out.writeInt(row.getMetrics().loc());
+                out.writeInt(row.getMetrics().wmc());
+                out.writeInt(row.getMetrics().lcom());
+                out.writeInt(row.getStartLine());
+                out.writeInt(row.getEndLine());
+                out.writeInt(row.getCommitHashes().size());
+                for (String key : row.getCommitHashes()) {
+                    out.writeUTF(key);
+                }
+            }
+        }
+        filesByTag.put(tag, file);
+    }
+
+    /**
+     * Reads back the raw rows of one release.
+     *
+     * @param tag release tag
+     * @return raw parsed class rows, empty when nothing was spilled for the release
+     * @throws IOException when the spill file cannot be read
+     */
+    List<DatasetClassData> read(String tag) throws IOException {
+        Path file = filesByTag.get(tag);
+        if (file == null) {
+            return List.of();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int count = in.readInt();
+            List<DatasetClassData> rows = new ArrayList<>(count);
+            String projectName = null;
+            String path = null;
+            String releaseId = null;
+            for (int index = 0; index < count; index++) {
+                if (!in.readBoolean()) {
+                    projectName = in.readUTF();
+                    path = in.readUTF();
+                    releaseId = in.readUTF();
+                }
+                String className = in.readUTF();
+                ClassMetrics metrics = new ClassMetrics(in.readInt(), in.readInt(), in.readInt());
+                int startLine = in.readInt();
+                int endLine = in.readInt();
+                int keyCount = in.readInt();
+                List<String> keys = new ArrayList<>(keyCount);
+                for (int key = 0; key < keyCount; key++) {
+                    keys.add(in.readUTF());
+                }
+                rows.add(new DatasetClassData.Builder()
+                        .projectName(projectName)
+                        .path(path)
+                        .className(className)
+                        .releaseId(releaseId)
+                        .metrics(metrics)
+                        .commitHashes(keys)
+                        .buggy(false)
+                        .startLine(startLine)
+                        .endLine(endLine)
+                        .build());
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Deletes the spill directory and every release file in it.
+     */
+    @Override
+    public void close() {
+        filesByTag.clear();
+        TmpDirCleaner.cleanup(List.of(directory));
+    }
+}
@@ -0,0 +1,272 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.datasetsetting.DatasetClassData;
+import com.mantimetrics.javaparsing.JavaParsingException;
+import com.mantimetrics.javaparsing.ScanResult;
+import com.mantimetrics.releaseselection.ReleaseException;
+import com.mantimetrics.utility.DaemonThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the per-release dataset work as three stages - download, parse, consume (enrich and write) - so that
+ * release N+1 downloads while release N parses and release N-1 is consumed.
+ *
+ * <p>Each stage runs on a single thread and handles releases in timeline order, so the consumer always sees
+ * the releases in the order of {@code tags}; this matters because enrichment carries history from one
+ * release to the next. At most {@code depth} releases are in flight between the start of their download and
+ * the end of their consumption, which bounds the number of {@link ScanResult}s and parsed row lists held in
+ * memory. A depth of {@code 1} runs the stages in lock-step on the calling thread.
+ */
+final class ReleasePipeline {
+    private static final Logger LOG = LoggerFactory.getLogger(ReleasePipeline.class);
+    private static final long STAGE_SHUTDOWN_SECONDS = 60;
+
+    private final int depth;
+
+    /**
+     * Creates a pipeline with the requested number of releases in flight.
+     *
+     * @param depth maximum number of releases between download and consumption; {@code 1} disables overlap
+     */
+    ReleasePipeline(int depth) {
+        this.depth = Math.max(1, depth);
+    }
+
+    /**
+     * Downloads, parses and consumes every release, calling the consumer in timeline order.
+     * A release whose sources cannot be loaded or analysed reaches the consumer with its failure instead of rows.
+     *
+     * @param tags chronologically ordered release tags to process
+     * @param loader download stage
+     * @param parser parse stage
+     * @param sink consume stage, invoked on the calling thread
+     * @throws ReleaseException when the thread is interrupted while waiting for a stage
+     */
+    void run(List<String> tags, SourceLoader loader, SourceParser parser, ReleaseSink sink) {
+        if (depth == 1 || tags.size() < 2) {
+            for (String tag : tags) {
+                sink.accept(loadAndParse(tag, loader, parser));
+            }
+            return;
+        }
+        runStaged(tags, loader, parser, sink);
+    }
+
+    private static ParsedRelease loadAndParse(String tag, SourceLoader loader, SourceParser parser) {
+        try (ScanResult sources = loader.load(tag)) {
+            return new ParsedRelease(tag, parser.parse(tag, sources), null);
+        } catch (JavaParsingException exception) {
+            return new ParsedRelease(tag, List.of(), exception);
+        }
+    }
+
+    /**
+     * Runs the download and parse stages on their own threads, handing releases over through queues.
+     * The permits are taken before a download starts and returned once the consumer is done with the release.
+     * When the run aborts, the stages are stopped and the sources downloaded but never parsed are closed.
+     */
+    private void runStaged(List<String> tags, SourceLoader loader, SourceParser parser, ReleaseSink sink) {
+        Semaphore inFlight = new Semaphore(depth);
+        BlockingQueue<Loaded> downloaded = new LinkedBlockingQueue<>();
+        BlockingQueue<ParsedRelease> parsed = new LinkedBlockingQueue<>();
+        ExecutorService stages = Executors.newFixedThreadPool(2, DaemonThreads.factory("release-stage"));
+        try {
+            stages.submit(() -> download(tags, loader, inFlight, downloaded));
+            stages.submit(() -> parse(tags.size(), parser, downloaded, parsed));
+            for (int index = 0; index < tags.size(); index++) {
+                ParsedRelease release = parsed.take();
+                if (release.error() instanceof Error fatal) {
+                    throw fatal;
+                }
+                if (release.error() != null) {
+                    throw (RuntimeException) release.error();
+                }
+                try {
+                    sink.accept(release);
+                } finally {
+                    inFlight.release();
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ReleaseException("Interrupted while generating the dataset", exception);
+        } finally {
+            stages.shutdownNow();
+            awaitStages(stages);
+            closeAbandoned(downloaded);
+        }
+    }
+
+    /**
+     * Waits for the stage threads to stop after an interruption, so no download can still be handed over
+     * once the queue is drained. An interruption of the calling thread is re-asserted after the wait.
+     */
+    private static void awaitStages(ExecutorService stages) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            if (!stages.awaitTermination(STAGE_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Release stages still running {}s after the pipeline stopped", STAGE_SHUTDOWN_SECONDS);
+            }
+        } catch (InterruptedException exception) {
+            interrupted = true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Closes the sources of the releases downloaded but never parsed, which an aborted run leaves queued.
+     */
+    private static void closeAbandoned(BlockingQueue<Loaded> downloaded) {
+        for (Loaded loaded = downloaded.poll(); loaded != null; loaded = downloaded.poll()) {
+            if (loaded.sources() != null) {
+                closeQuietly(loaded.tag(), loaded.sources());
+            }
+        }
+    }
+
+    private static void closeQuietly(String tag, ScanResult sources) {
+        try {
+            sources.close();
+        } catch (RuntimeException exception) {
+            LOG.warn("Sources of {} could not be closed: {}", tag, exception.getMessage());
+        }
+    }
+
+    private static void download(List<String> tags, SourceLoader loader, Semaphore inFlight,
+                                 BlockingQueue<Loaded> downloaded) {
+        try {
+            for (String tag : tags) {
+                inFlight.acquire();
+                try {
+                    handOver(tag, loader.load(tag), downloaded);
+                } catch (JavaParsingException exception) {
+                    downloaded.put(new Loaded(tag, null, exception, null));
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error failure) {
+            downloaded.add(new Loaded(null, null, null, failure));
+        }
+    }
+
+    /**
+     * Queues loaded sources for the parse stage, closing them when the hand-off is interrupted.
+     */
+    private static void handOver(String tag, ScanResult sources, BlockingQueue<Loaded> downloaded)
+            throws InterruptedException {
+        try {
+            downloaded.put(new Loaded(tag, sources, null, null));
+        } catch (InterruptedException | RuntimeException failure) {
+            closeQuietly(tag, sources);
+            throw failure;
+        }
+    }
+
+    private static void parse(int releases, SourceParser parser, BlockingQueue<Loaded> downloaded,
+                              BlockingQueue<ParsedRelease> parsed) {
+        try {
+            for (int index = 0; index < releases; index++) {
+                Loaded loaded = downloaded.take();
+                if (loaded.error() != null) {
+                    parsed.put(new ParsedRelease(null, List.of(), null, loaded.error()));
+                    return;
+                }
+                parsed.put(loaded.failure() != null
+                        ? new ParsedRelease(loaded.tag(), List.of(), loaded.failure())
+                        : parseAndClose(parser, loaded));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error failure) {
+            parsed.add(new ParsedRelease(null, List.of(), null, failure));
+        }
+    }
+
+    /**
+     * Parses a downloaded release and closes its sources, which are not read after the parse stage.
+     */
+    private static ParsedRelease parseAndClose(SourceParser parser, Loaded loaded) {
+        try (ScanResult sources = loaded.sources()) {
+            return new ParsedRelease(loaded.tag(), parser.parse(loaded.tag(), sources), null);
+        } catch (JavaParsingException exception) {
+            return new ParsedRelease(loaded.tag(), List.of(), exception);
+        }
+    }
+
+    /** Release handed from the download stage to the parse stage. */
+    private record Loaded(String tag, ScanResult sources, JavaParsingException failure, Throwable error) {
+    }
+
+    /**
+     * Release handed to the consumer.
+     *
+     * @param tag release tag
+     * @param rows parsed class rows, empty when the sources could not be loaded
+     * @param failure load or analysis failure of the release, or {@code null} when it was parsed
+     * @param error unexpected stage failure that aborts the pipeline, or {@code null}
+     */
+    record ParsedRelease(String tag, List<DatasetClassData> rows, JavaParsingException failure, Throwable error) {
+
+        /**
+         * Creates a release without a stage failure.
+         *
+         * @param tag release tag
+         * @param rows parsed class rows
+         * @param failure load failure of the release, or {@code null}
+         */
+        ParsedRelease(String tag, List<DatasetClassData> rows, JavaParsingException failure) {
+            this(tag, rows, failure, null);
+        }
+    }
+
+    /** Download stage: loads the sources of one release. */
+    @FunctionalInterface
+    interface SourceLoader {
+        /**
+         * Loads the sources of one release.
+         *
+         * @param tag release tag
+         * @return release sources
+         * @throws JavaParsingException when the sources cannot be loaded
+         */
+        ScanResult load(String tag) throws JavaParsingException;
+    }
+
+    /** Parse stage: turns the sources of one release into raw class rows; the sources are closed afterwards. */
+    @FunctionalInterface
+    interface SourceParser {
+        /**
+         * Parses the sources of one release.
+         *
+         * @param tag release tag
+         * @param sources release sources
+         * @return raw class rows
+         * @throws JavaParsingException when the release cannot be analysed
+         */
+        List<DatasetClassData> parse(String tag, ScanResult sources) throws JavaParsingException;
+    }
+
+    /** Consume stage: enriches and writes one release, in timeline order. */
+    @FunctionalInterface
+    interface ReleaseSink {
+        /**
+         * Consumes one parsed release.
+         *
+         * @param release parsed release, carrying its load failure when the sources were unavailable
+         */
+        void accept(ParsedRelease release);
+    }
+}
@@ -0,0 +1,127 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.releaseselection.ReleaseException;
+import com.mantimetrics.utility.DaemonThreads;
+import com.mantimetrics.utility.ProgressBar;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads one value per release range ({@code previousTag..tag}) along the timeline, either sequentially
+ * or on a bounded worker pool. Results are always returned in timeline order, independently of the
+ * order in which the workers complete.
+ */
+final class ReleaseRangeLoader {
+    private final int parallelism;
+
+    /**
+     * Creates a loader with the requested worker-pool size.
+     *
+     * @param parallelism maximum number of release ranges loaded concurrently; {@code 1} loads sequentially
+     */
+    ReleaseRangeLoader(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Loads the value of every release range of the timeline.
+     *
+     * @param tags chronologically ordered release tags
+     * @param bar progress bar stepped once per loaded release
+     * @param action short description of the work, used in error messages
+     * @param fetch loader invoked once per release range
+     * @param <T> loaded value type
+     * @return loaded values keyed by release tag, in timeline order
+     * @throws ReleaseException when a release range cannot be loaded
+     */
+    <T> Map<String, T> load(List<String> tags, ProgressBar bar, String action, RangeFetch<T> fetch) {
+        if (parallelism == 1 || tags.size() < 2) {
+            return loadSequentially(tags, bar, action, fetch);
+        }
+        return loadConcurrently(tags, bar, action, fetch);
+    }
+
+    private <T> Map<String, T> loadSequentially(List<String> tags, ProgressBar bar, String action, RangeFetch<T> fetch) {
+        Map<String, T> byTag = new LinkedHashMap<>();
+        for (int index = 0; index < tags.size(); index++) {
+            String tag = tags.get(index);
+            String previousTag = index > 0 ? tags.get(index - 1) : null;
+            try {
+                byTag.put(tag, fetch.fetch(previousTag, tag));
+                bar.step(tag);
+            } catch (IOException exception) {
+                throw new ReleaseException("I/O error while " + action + " for " + tag, exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ReleaseException("Interrupted while " + action + " for " + tag, exception);
+            }
+        }
+        return byTag;
+    }
+
+    /**
+     * Fans the release ranges out to a fixed worker pool and collects the futures in timeline order.
+     * The first failure cancels the remaining ranges.
+     */
+    private <T> Map<String, T> loadConcurrently(List<String> tags, ProgressBar bar, String action, RangeFetch<T> fetch) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, tags.size()),
+                DaemonThreads.factory("release-loader"));
+        try {
+            List<Future<T>> futures = new ArrayList<>(tags.size());
+            for (int index = 0; index < tags.size(); index++) {
+                String tag = tags.get(index);
+                String previousTag = index > 0 ? tags.get(index - 1) : null;
+                futures.add(pool.submit(() -> {
+                    T value = fetch.fetch(previousTag, tag);
+                    bar.step(tag);
+                    return value;
+                }));
+            }
+            Map<String, T> byTag = new LinkedHashMap<>();
+            for (int index = 0; index < tags.size(); index++) {
+                byTag.put(tags.get(index), await(futures.get(index), tags.get(index), action));
+            }
+            return byTag;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for one release range and translates its failure into the pipeline exception model: runtime
+     * exceptions and errors propagate unchanged, checked failures become a {@link ReleaseException}.
+     */
+    private static <T> T await(Future<T> future, String tag, String action) {
+        try {
+            return DaemonThreads.await(future, action + " for " + tag, ReleaseException.class, ReleaseException::new);
+        } catch (IOException exception) {
+            throw new ReleaseException("I/O error while " + action + " for " + tag, exception);
+        }
+    }
+
+    /**
+     * Loads the value associated with one release range.
+     *
+     * @param <T> loaded value type
+     */
+    @FunctionalInterface
+    interface RangeFetch<T> {
+        /**
+         * Loads the value of one release range.
+         *
+         * @param previousTag previous release tag, or {@code null} for the first release
+         * @param tag current release tag
+         * @return loaded value
+         * @throws IOException when remote data cannot be fetched
+         * @throws InterruptedException when the thread is interrupted while waiting for the API
+         */
+        T fetch(String previousTag, String tag) throws IOException, InterruptedException;
+    }
+}
@@ -38,7 +38,21 @@ public final class ReleaseToDataset {
      * @return raw class rows with product metrics only
      */
     public List<DatasetClassData> parse(com.mantimetrics.javaparsing.ScanResult sources, String repo, String tag) {
-        return parser.parseClasses(sources, sources, repo, tag, calculator, java.util.Map.of());
+        return parse(sources, repo, tag, java.util.Map.of());
+    }
+
+    /**
+     * Parses class rows from already-downloaded release sources, attaching the Jira keys of each file.
+     *
+     * @param sources scanned release sources
+     * @param repo repository name
+     * @param tag release identifier
+     * @param fileToKeys Jira issue keys grouped by relative path
+     * @return raw class rows with product metrics only
+     */
+    public List<DatasetClassData> parse(com.mantimetrics.javaparsing.ScanResult sources, String repo, String tag,
+                                        java.util.Map<String, List<String>> fileToKeys) {
+        return parser.parseClasses(sources, sources, repo, tag, calculator, fileToKeys);
     }
 
     /**
@@ -57,22 +71,6 @@ public final class ReleaseToDataset {
         return enriched;
     }
 
-    public List<DatasetClassData> collectClassRows(ReleaseToDatasetRequest request) {
-        List<DatasetClassData> classes = parser.parseClasses(
-                request.releaseSources(),
-                request.releaseSources(),
-                request.repo(),
-                request.tag(),
-                calculator,
-                request.commitData().fileToIssueKeys()
-        );
-        List<DatasetClassData> enriched = rowEnricher.enrichClasses(uniqueByKey(classes), request);
-        if (request.excludeChurnZero()) {
-            enriched = enriched.stream().filter(row -> row.getChurn() != 0).toList();
-        }
-        return enriched;
-    }
-
     /**
      * Deduplicates rows by unique key, keeping the last value produced by the parser.
      *
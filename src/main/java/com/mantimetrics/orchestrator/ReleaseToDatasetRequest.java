@@ -5,7 +5,6 @@ import com.mantimetrics.history.StoreReleaseInMemory;
 import com.mantimetrics.labeling.ReleaseLabeling;
 import com.mantimetrics.jira.JiraSnapshot;
 import com.mantimetrics.datasetsetting.DatasetRow;
-import com.mantimetrics.javaparsing.ScanResult;
 
 import java.util.List;
 import java.util.Map;
@@ -14,7 +13,6 @@ import java.util.Set;
 /**
  * Narrow request object passed to the dataset collector so the release pipeline stays explicit and testable.
  *
- * @param releaseSources extracted source tree for the release
  * @param repo repository name
  * @param tag release tag currently being analyzed
  * @param commitData commit and churn information for the current release range
@@ -29,7 +27,6 @@ import java.util.Set;
  * @param orderedTicketKeys chronological ticket keys up to this release (TLCC window)
  */
 public record ReleaseToDatasetRequest(
-        ScanResult releaseSources,
         String repo,
         String tag,
         GitReleaseSnapshot commitData,
@@ -35,83 +35,102 @@ public final class SingleReleaseExecution {
     }
 
     /**
-     * Downloads and parses one release's sources into raw class rows (product metrics only).
-     * Flag-independent: cache once, enrich per variant.
+     * Enriches cached raw class rows for one release and variant (no network calls).
+     *
+     * @param rawRows raw parsed class rows
+     * @param request per-release request for the current variant
+     * @return enriched rows
+     */
+    public List<com.mantimetrics.datasetsetting.DatasetClassData> enrich(
+            List<com.mantimetrics.datasetsetting.DatasetClassData> rawRows, ReleaseToDatasetRequest request) {
+        return datasetCollector.enrich(rawRows, request);
+    }
+
+    /**
+     * Downloads the sources of one release (download stage of the dataset pipeline).
      *
      * @param owner repository owner
      * @param repo repository name
      * @param tag release tag
-     * @return raw parsed class rows
-     * @throws JavaParsingException when the release sources cannot be loaded or parsed
+     * @return release sources
+     * @throws JavaParsingException when the release sources cannot be loaded
      */
-    public List<com.mantimetrics.datasetsetting.DatasetClassData> parseRelease(String owner, String repo, String tag)
-            throws JavaParsingException {
-        ScanResult sources = codeParser.loadReleaseSources(owner, repo, tag);
-        return datasetCollector.parse(sources, repo, tag);
+    ScanResult loadSources(String owner, String repo, String tag) throws JavaParsingException {
+        return codeParser.loadReleaseSources(owner, repo, tag);
     }
 
     /**
-     * Enriches cached raw class rows for one release and variant (no network calls).
+     * Parses the sources of one release into raw class rows without Jira keys (parse stage of the
+     * collect-once pipeline, whose rows are enriched later per dataset variant).
      *
-     * @param rawRows raw parsed class rows
-     * @param request per-release request for the current variant
-     * @return enriched rows
+     * @param releaseSources release sources
+     * @param repo repository name
+     * @param tag release tag
+     * @return raw class rows with product metrics only
      */
-    public List<com.mantimetrics.datasetsetting.DatasetClassData> enrich(
-            List<com.mantimetrics.datasetsetting.DatasetClassData> rawRows, ReleaseToDatasetRequest request) {
-        return datasetCollector.enrich(rawRows, request);
+    List<com.mantimetrics.datasetsetting.DatasetClassData> parseSources(ScanResult releaseSources, String repo,
+                                                                        String tag) {
+        return datasetCollector.parse(releaseSources, repo, tag);
+    }
+
+    /**
+     * Parses the sources of one release into raw class rows carrying the Jira keys linked in its commit range
+     * (parse stage of the dataset pipeline).
+     *
+     * @param releaseSources release sources
+     * @param repo repository name
+     * @param snapshot release snapshot carrying the commit-range metadata
+     * @return raw class rows
+     */
+    List<com.mantimetrics.datasetsetting.DatasetClassData> parseSources(
+            ScanResult releaseSources, String repo, ReleaseSnapshot snapshot) {
+        return datasetCollector.parse(releaseSources, repo, snapshot.tag(), snapshot.commitData().fileToIssueKeys());
     }
 
     /**
-     * Processes one release snapshot. The snapshot already carries commit history so the expensive GitHub
-     * history walk is not repeated for each dataset granularity.
+     * Enriches and writes the parsed rows of one release for every granularity (consume stage of the dataset
+     * pipeline). Must be called in release order because each context carries history between releases.
      *
-     * @param snapshot release snapshot to execute
+     * @param snapshot release snapshot to write
+     * @param rawRows raw class rows parsed for the release
      * @param contexts open project contexts, one for each requested granularity
      */
-    void processRelease(@NotNull ReleaseSnapshot snapshot, @NotNull List<SharedStatus> contexts) {
+    void writeRelease(@NotNull ReleaseSnapshot snapshot,
+                      @NotNull List<com.mantimetrics.datasetsetting.DatasetClassData> rawRows,
+                      @NotNull List<SharedStatus> contexts) {
         if (contexts.isEmpty()) {
             return;
         }
-
         SharedStatus baseContext = contexts.get(0);
         String tag = snapshot.tag();
-        String prevTag = snapshot.previousTag();
-        LOG.info("Processing {}@{} (prev={})", baseContext.repo(), tag, prevTag);
+        LOG.info("Processing {}@{} (prev={})", baseContext.repo(), tag, snapshot.previousTag());
+        LOG.info("{}@{} - {} files touched", baseContext.repo(), tag, snapshot.commitData().touchMap().size());
+        LOG.info("{}@{} - {} files linked to bug-fix issue keys in range",
+                baseContext.repo(), tag, snapshot.commitData().fileToIssueKeys().size());
 
-        try {
-            LOG.info("{}@{} - {} files touched", baseContext.repo(), tag, snapshot.commitData().touchMap().size());
-            LOG.info("{}@{} - {} files linked to bug-fix issue keys in range",
-                    baseContext.repo(), tag, snapshot.commitData().fileToIssueKeys().size());
-
-            ScanResult releaseSources = codeParser.loadReleaseSources(baseContext.owner(), baseContext.repo(), tag);
-
-            PreparedRelease prepared = new PreparedRelease(releaseSources, snapshot.commitData());
-            for (SharedStatus context : contexts) {
-                processPreparedRelease(tag, context, prepared);
-            }
-        } catch (JavaParsingException exception) {
-            LOG.error("{}@{} - release skipped: {}", baseContext.repo(), tag, exception.getMessage());
+        for (SharedStatus context : contexts) {
+            writeContext(tag, context, snapshot.commitData(), rawRows);
         }
     }
 
     /**
-     * Delegates row collection to the correct granularity-specific collector while reusing the same prepared release.
+     * Enriches the raw rows for one granularity and appends them to its CSV.
      *
      * @param tag release tag currently being processed
      * @param context output context for the current granularity
-     * @param prepared reusable prepared release state
+     * @param commitData commit-range metadata for the release
+     * @param rawRows raw class rows parsed for the release
      */
-    private void processPreparedRelease(String tag, SharedStatus context, PreparedRelease prepared) {
+    private void writeContext(String tag, SharedStatus context, com.mantimetrics.git.GitReleaseSnapshot commitData,
+                              List<com.mantimetrics.datasetsetting.DatasetClassData> rawRows) {
         LOG.info("Processing {}@{}", context.repo(), tag);
         try {
             Map<String, Integer> sonarSmells =
                     context.sonarSmellsByTag().getOrDefault(tag, Map.of());
             ReleaseToDatasetRequest request = new ReleaseToDatasetRequest(
-                    prepared.releaseSources(),
                     context.repo(),
                     tag,
-                    prepared.commitData(),
+                    commitData,
                     context.prevData(),
                     context.historyStore(),
                     context.labelIndex(),
@@ -122,7 +141,7 @@ public final class SingleReleaseExecution {
                     context.ticketTouchedPaths(),
                     context.orderedTicketsByRelease().getOrDefault(tag, java.util.List.of())
             );
-            List<? extends DatasetRow> rows = datasetCollector.collectClassRows(request);
+            List<? extends DatasetRow> rows = datasetCollector.enrich(rawRows, request);
 
             LOG.info("{}@{} - finalRows={}", context.repo(), tag, rows.size());
 
@@ -151,16 +170,4 @@ public final class SingleReleaseExecution {
                         (left, right) -> right
                 )));
     }
-
-    /**
-     * Prepared release state shared across granularity-specific dataset collectors.
-     *
-     * @param releaseSources extracted source tree for the release
-     * @param commitData commit-range metadata for the release
-     */
-    private record PreparedRelease(
-            ScanResult releaseSources,
-            com.mantimetrics.git.GitReleaseSnapshot commitData
-    ) {
-    }
 }
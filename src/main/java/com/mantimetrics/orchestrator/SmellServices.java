@@ -0,0 +1,22 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.smell.PmdSmellAnalyzer;
+import com.mantimetrics.smell.SonarClient;
+import com.mantimetrics.smell.SonarPreScanOrchestrator;
+import com.mantimetrics.smell.SonarSmellStore;
+
+/**
+ * Groups the services passed to {@link Orchestrator} that produce the per-file NSmells counts.
+ *
+ * @param sonarPreScanService service that runs {@code mvn sonar:sonar} for missing releases
+ * @param sonarCloudClient    authenticated SonarCloud client shared across the pipeline
+ * @param sonarSmellStore     local store of the SonarCloud analysis snapshots already fetched
+ * @param localAnalyzer       offline PMD analyzer run on the release sources, or {@code null} when the
+ *                            counts come from SonarCloud
+ */
+public record SmellServices(
+        SonarPreScanOrchestrator sonarPreScanService,
+        SonarClient sonarCloudClient,
+        SonarSmellStore sonarSmellStore,
+        PmdSmellAnalyzer localAnalyzer
+) {}
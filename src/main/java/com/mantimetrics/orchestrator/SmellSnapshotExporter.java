@@ -88,6 +88,7 @@ public final class SmellSnapshotExporter {
             LOG.info("SmellSnapshotExporter: {} new snapshot(s) written to {}", n, outDir);
         } finally {
             TmpDirCleaner.cleanup(gitService.getTmp());
+            gitService.close();
         }
     }
 
@@ -3,6 +3,7 @@ package com.mantimetrics.orchestrator;
 import com.mantimetrics.releaseselection.ReleaseTimelineJiraGit;
 import com.mantimetrics.datasetoutput.MilestoneAuditWriter;
 import com.mantimetrics.projectselector.OptionsSelector;
+import com.mantimetrics.projectselector.ParallelismOptions;
 import com.mantimetrics.projectselector.ProjectSelection;
 import com.mantimetrics.config.ConfigException;
 import com.mantimetrics.config.GitTokenLoader;
@@ -24,11 +25,16 @@ import com.mantimetrics.jira.JiraFacade;
 import com.mantimetrics.feature.MetricsCalculator;
 import com.mantimetrics.javaparsing.JavaSourceParser;
 import com.mantimetrics.releaseselection.ReleaseSnoringFilter;
+import com.mantimetrics.smell.PmdSmellAnalyzer;
+import com.mantimetrics.smell.SmellEngine;
 import com.mantimetrics.smell.SonarClient;
 import com.mantimetrics.smell.SonarPreScanOrchestrator;
+import com.mantimetrics.smell.SonarSmellStore;
 import com.mantimetrics.utility.TmpDirCleaner;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Application composition root. It wires the concrete services once and then delegates the actual work
@@ -36,24 +42,41 @@ import java.io.IOException;
  */
 @SuppressWarnings("GrazieInspectionRunner")
 public final class StartAnalysis {
+    private static final Path PARSE_CACHE = Paths.get("cache", "parsed-types.seg");
+    private static final Path SMELL_CACHE = Paths.get("cache", "pmd-smells.seg");
+    private static final Path SONAR_SMELL_STORE = Paths.get("cache", "sonar-smells.seg");
     private final GitTokenLoader gitHubTokenLoader = new GitTokenLoader();
     private final SonarTokenLoader sonarTokenLoader = new SonarTokenLoader();
     @SuppressWarnings("java:S106")
     private final ProjectSelection projectSelectionPrompt = new ProjectSelection(System.in, System.out);
 
     /**
-     * Wires the runtime services, resolves the target project and executes the analysis pipeline.
+     * Wires the runtime services, resolves the target project and executes the analysis pipeline. Every
+     * service holding a persistent cache is closed on exit, each one independently, so a failing close never
+     * skips the others nor hides the failure of the analysis itself.
      *
      * @param cliOptions command-line options resolved at startup
      */
     public void run(OptionsSelector cliOptions) throws IOException, ConfigException, JiraClientException, CSVException {
         String githubToken = loadGithubToken();
-        GitFacade gitService = new GitFacade(githubToken);
-        try {
-            Orchestrator processor = createProcessor(gitService, new GitIssueClient(githubToken));
+        GitFacade gitService = new GitFacade(githubToken,
+                cliOptions.parallelism().commitFetchParallelism(), cliOptions.gitBackend(),
+                cliOptions.sourceIngestion());
+        try (gitService;
+             JavaSourceParser codeParser = new JavaSourceParser(gitService, PARSE_CACHE,
+                     cliOptions.parallelism().parseThreads());
+             SonarSmellStore sonarSmellStore = cliOptions.smellEngine() == SmellEngine.SONAR
+                     ? SonarSmellStore.open(SONAR_SMELL_STORE)
+                     : SonarSmellStore.NONE;
+             PmdSmellAnalyzer smellAnalyzer = cliOptions.smellEngine() == SmellEngine.PMD
+                     ? PmdSmellAnalyzer.create(cliOptions.pmdRuleset(), cliOptions.parallelism().parseThreads(),
+                             SMELL_CACHE)
+                     : null) {
+            Orchestrator processor = createProcessor(gitService, new GitIssueClient(githubToken, gitService.rateGovernor()),
+                    codeParser, cliOptions.parallelism(), sonarSmellStore, smellAnalyzer);
             GitConfig[] configs = resolveProjectConfigs(cliOptions);
             for (GitConfig config : configs) {
-                processor.run(config);
+                processor.run(config, cliOptions.parallelism());
             }
         } finally {
             TmpDirCleaner.cleanup(gitService.getTmp());
@@ -64,13 +87,18 @@ public final class StartAnalysis {
      * Builds the concrete processing pipeline while keeping each service narrowly focused.
      *
      * @param gitService Git service shared by the analysis pipeline
+     * @param codeParser release source parser, closed by the caller once every project is processed
+     * @param parallelism worker-pool sizes of the concurrent phases
+     * @param sonarSmellStore local store of the SonarCloud analysis snapshots already fetched
+     * @param smellAnalyzer offline PMD analyzer, or {@code null} when NSmells comes from SonarCloud
      * @return fully wired project processor
      */
-    private Orchestrator createProcessor(GitFacade gitService, GitIssueClient gitIssueClient) {
-        JiraFacade jiraClient = new JiraFacade();
-        JavaSourceParser codeParser = new JavaSourceParser(gitService);
+    private Orchestrator createProcessor(GitFacade gitService, GitIssueClient gitIssueClient,
+                                         JavaSourceParser codeParser, ParallelismOptions parallelism,
+                                         SonarSmellStore sonarSmellStore, PmdSmellAnalyzer smellAnalyzer) {
+        JiraFacade jiraClient = new JiraFacade(parallelism.jiraParallelism());
         String sonarToken = sonarTokenLoader.load(MainApp.class);
-        SonarClient sonarClient = new SonarClient(sonarToken);
+        SonarClient sonarClient = new SonarClient(sonarToken, parallelism.sonarFetchParallelism());
 
         return new Orchestrator(
                 new ReleaseTimelineJiraGit(gitService, new ReleaseSnoringFilter(), jiraClient, gitIssueClient),
@@ -78,8 +106,13 @@ public final class StartAnalysis {
                         new ReleaseToDataset(codeParser, new MetricsCalculator())),
                 gitService,
                 new CSVWriter(),
-                new SonarPreScanOrchestrator(gitService, sonarClient, sonarToken),
-                sonarClient,
+                new SmellServices(
+                        new SonarPreScanOrchestrator(gitService, sonarClient, sonarToken,
+                                parallelism.sonarScanThreads()),
+                        sonarClient,
+                        sonarSmellStore,
+                        smellAnalyzer
+                ),
                 new OutputServices(
                         new DatasetArtifactGenerator(
                                 new CSVReader(),
@@ -0,0 +1,120 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.jira.JiraSnapshot;
+import com.mantimetrics.releaseselection.ReleaseTimeline;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-release ticket statistics of the TLP and TLCC features, computed by sorting the ticket dates once and
+ * locating each release date with a binary search instead of scanning every ticket for every release.
+ */
+final class TicketTimelineIndex {
+
+    private TicketTimelineIndex() {
+    }
+
+    /**
+     * Counts, for each release, the tickets already created but not yet resolved at the release snapshot
+     * date. A ticket is open at date {@code d} when it was created at or before {@code d} and resolved after
+     * {@code d}, so the count is the number of creations up to {@code d} minus the number of resolutions up
+     * to {@code d}; tickets resolved no later than their creation are never open and are left out.
+     *
+     * @param timeline release timeline carrying the tag dates
+     * @param tickets tickets of the selected issue sources
+     * @return open-ticket count keyed by release tag, in timeline order
+     */
+    static Map<String, Integer> openTicketsByRelease(ReleaseTimeline timeline, List<JiraSnapshot> tickets) {
+        List<Instant> created = new ArrayList<>(tickets.size());
+        List<Instant> resolved = new ArrayList<>(tickets.size());
+        for (JiraSnapshot ticket : tickets) {
+            if (ticket.resolvedDate() != null && !ticket.resolvedDate().isAfter(ticket.createdDate())) {
+                continue;
+            }
+            created.add(ticket.createdDate());
+            if (ticket.resolvedDate() != null) {
+                resolved.add(ticket.resolvedDate());
+            }
+        }
+        Instant[] createdSorted = sorted(created);
+        Instant[] resolvedSorted = sorted(resolved);
+
+        Map<String, Integer> open = new LinkedHashMap<>();
+        Map<String, Instant> tagDates = timeline.tagDates();
+        for (String tag : timeline.orderedTags()) {
+            Instant releaseDate = tagDates.get(tag);
+            open.put(tag, releaseDate == null ? 0
+                    : countUpTo(createdSorted, releaseDate) - countUpTo(resolvedSorted, releaseDate));
+        }
+        return open;
+    }
+
+    /**
+     * Builds, per release, the chronological sequence of ticket keys implemented up to the release snapshot
+     * date (oldest first), ordered by resolution date or, when missing, creation date. Tickets are sorted once
+     * and every release receives a read-only prefix view of the same array, so no sequence is copied.
+     *
+     * @param timeline release timeline carrying the tag dates
+     * @param tickets tickets of the selected issue sources
+     * @return ordered ticket keys keyed by release tag, in timeline order
+     */
+    static Map<String, List<String>> orderedTicketsByRelease(ReleaseTimeline timeline, List<JiraSnapshot> tickets) {
+        List<JiraSnapshot> sortedTickets = new ArrayList<>(tickets);
+        sortedTickets.sort(Comparator.comparing(TicketTimelineIndex::effectiveDate));
+        Instant[] dates = new Instant[sortedTickets.size()];
+        String[] keys = new String[sortedTickets.size()];
+        for (int index = 0; index < keys.length; index++) {
+            dates[index] = effectiveDate(sortedTickets.get(index));
+            keys[index] = sortedTickets.get(index).key();
+        }
+        List<String> allKeys = Collections.unmodifiableList(Arrays.asList(keys));
+
+        Map<String, List<String>> byRelease = new LinkedHashMap<>();
+        Map<String, Instant> tagDates = timeline.tagDates();
+        for (String tag : timeline.orderedTags()) {
+            Instant date = tagDates.get(tag);
+            byRelease.put(tag, date == null ? List.of() : allKeys.subList(0, countUpTo(dates, date)));
+        }
+        return byRelease;
+    }
+
+    /**
+     * Returns the effective chronological date of a ticket (resolution date when present, else creation).
+     *
+     * @param ticket resolved ticket
+     * @return effective ordering instant
+     */
+    private static Instant effectiveDate(JiraSnapshot ticket) {
+        return ticket.resolvedDate() != null ? ticket.resolvedDate() : ticket.createdDate();
+    }
+
+    private static Instant[] sorted(List<Instant> instants) {
+        Instant[] array = instants.toArray(new Instant[0]);
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * Counts the entries of a sorted array that are not after {@code date} (upper-bound binary search).
+     */
+    private static int countUpTo(Instant[] sorted, Instant date) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].isAfter(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
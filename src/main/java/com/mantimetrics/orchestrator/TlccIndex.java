@@ -0,0 +1,75 @@
+package com.mantimetrics.orchestrator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index of one release's TLCC window: for each path, the ascending positions of the window tickets
+ * that touched it. Built once per release so the Temporal Locality of a class only visits the tickets that
+ * actually touched its path instead of the whole window.
+ */
+final class TlccIndex {
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final int windowSize;
+    private final Map<String, int[]> positionsByPath;
+
+    private TlccIndex(int windowSize, Map<String, int[]> positionsByPath) {
+        this.windowSize = windowSize;
+        this.positionsByPath = positionsByPath;
+    }
+
+    /**
+     * Builds the index of one release window.
+     *
+     * @param orderedTicketKeys chronological ticket keys up to the release (oldest first)
+     * @param ticketTouchedPaths issue key -> touched paths
+     * @return inverted index of the window
+     */
+    static TlccIndex build(List<String> orderedTicketKeys, Map<String, Set<String>> ticketTouchedPaths) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (String key : orderedTicketKeys) {
+            for (String path : ticketTouchedPaths.getOrDefault(key, Set.of())) {
+                counts.computeIfAbsent(path, ignored -> new int[1])[0]++;
+            }
+        }
+        Map<String, int[]> positions = new HashMap<>(counts.size() * 2);
+        counts.forEach((path, count) -> {
+            positions.put(path, new int[count[0]]);
+            count[0] = 0;
+        });
+        for (int idx = 0; idx < orderedTicketKeys.size(); idx++) {
+            for (String path : ticketTouchedPaths.getOrDefault(orderedTicketKeys.get(idx), Set.of())) {
+                positions.get(path)[counts.get(path)[0]++] = idx;
+            }
+        }
+        return new TlccIndex(orderedTicketKeys.size(), positions);
+    }
+
+    /**
+     * Computes the Temporal Locality of a class over the window. {@code TLCC_Lin} weights the i-th ticket by
+     * 1/(1+N-i) (includes i=N, weight 1); {@code TLCC_Log} weights by 1/ln(1+N-i) (excludes i=N to avoid
+     * ln(1)=0). Both are divided by N. Positions are visited oldest first, as the full-window loop did.
+     *
+     * @param path normalized class path
+     * @return array {@code [tlccLin, tlccLog]}
+     */
+    double[] compute(String path) {
+        int n = windowSize;
+        if (n == 0) {
+            return new double[]{0.0, 0.0};
+        }
+        double lin = 0.0;
+        double log = 0.0;
+        for (int idx : positionsByPath.getOrDefault(path, NO_POSITIONS)) {
+            int i = idx + 1;
+            lin += 1.0 / (1 + n - i);
+            if (i < n) {
+                log += 1.0 / Math.log(1 + (double) n - i);
+            }
+        }
+        return new double[]{lin / n, log / n};
+    }
+}
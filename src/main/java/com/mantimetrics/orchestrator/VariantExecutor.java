@@ -0,0 +1,109 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.datasetoutput.CSVException;
+import com.mantimetrics.releaseselection.ReleaseException;
+import com.mantimetrics.utility.DaemonThreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the same release step for several independent variant groups, either sequentially or on a fixed
+ * worker pool. Each group owns its mutable state and CSV writers, so groups never share anything writable;
+ * the caller moves to the next release only when every group is done with the current one.
+ */
+final class VariantExecutor implements AutoCloseable {
+    private final ExecutorService pool;
+
+    /**
+     * Creates an executor with the requested number of workers.
+     *
+     * @param threads number of groups processed concurrently; {@code 1} runs them on the calling thread
+     */
+    VariantExecutor(int threads) {
+        this.pool = threads > 1 ? Executors.newFixedThreadPool(threads, DaemonThreads.factory("variant-worker")) : null;
+    }
+
+    /**
+     * Runs the step for every group and waits for all of them, even when one fails, so no group is still
+     * writing when the caller closes the writers.
+     *
+     * @param groups variant groups to process
+     * @param step work applied to each group
+     * @param <T> group type
+     * @throws CSVException when a group cannot write its rows
+     * @throws ReleaseException when the thread is interrupted while waiting for the workers
+     */
+    <T> void forEach(List<T> groups, GroupStep<T> step) throws CSVException {
+        if (pool == null || groups.size() < 2) {
+            for (T group : groups) {
+                step.run(group);
+            }
+            return;
+        }
+        List<Future<Void>> futures = new ArrayList<>(groups.size());
+        for (T group : groups) {
+            futures.add(pool.submit(() -> {
+                step.run(group);
+                return null;
+            }));
+        }
+        Throwable failure = null;
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException exception) {
+                if (failure == null) {
+                    failure = exception.getCause();
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new ReleaseException("Interrupted while writing dataset variants", exception);
+            }
+        }
+        rethrow(failure);
+    }
+
+    private static void rethrow(Throwable failure) throws CSVException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof CSVException csvFailure) {
+            throw csvFailure;
+        }
+        if (failure instanceof RuntimeException runtimeFailure) {
+            throw runtimeFailure;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException("Variant worker failed", failure);
+    }
+
+    /**
+     * Stops the worker pool.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Release step applied to one variant group. */
+    @FunctionalInterface
+    interface GroupStep<T> {
+        /**
+         * Processes one group.
+         *
+         * @param group variant group
+         * @throws CSVException when the group cannot write its rows
+         */
+        void run(T group) throws CSVException;
+    }
+}
@@ -1,7 +1,10 @@
 package com.mantimetrics.projectselector;
 
+import com.mantimetrics.git.GitBackend;
 import com.mantimetrics.git.GitConfig;
+import com.mantimetrics.git.SourceIngestion;
 import com.mantimetrics.labeling.Proportion;
+import com.mantimetrics.smell.SmellEngine;
 
 /**
  * Parses the supported command-line options and translates them into {@link OptionsSelector}.
@@ -11,6 +14,14 @@ public final class CliParser {
     private static final int DEFAULT_CLI_PERCENTAGE = 33;
     private static final String S1 = "--jira-key";
     private static final String S2 = "--percentage";
+    private static final String S3 = "--history-parallelism";
+    private static final String S4 = "--commit-fetch-parallelism";
+    private static final String S5 = "--parse-threads";
+    private static final String S6 = "--pipeline-depth";
+    private static final String S7 = "--variant-threads";
+    private static final String S8 = "--jira-parallelism";
+    private static final String S9 = "--sonar-scan-threads";
+    private static final String S10 = "--sonar-fetch-parallelism";
 
     /**
      * Parses the raw JVM arguments.
@@ -29,7 +40,15 @@ public final class CliParser {
                 buildCliProject(state.repoUrl, state.jiraKey, state.percentage, state.sonarKey),
                 state.useGithubIssues,
                 Proportion.Variant.fromCli(state.proportionRaw),
-                state.excludeChurnZero
+                state.excludeChurnZero,
+                new ParallelismOptions(
+                        state.historyParallelism, state.commitFetchParallelism,
+                        state.parseThreads, state.pipelineDepth, state.variantThreads, state.jiraParallelism,
+                        state.sonarScanThreads, state.sonarFetchParallelism),
+                GitBackend.fromCli(state.gitBackendRaw),
+                SourceIngestion.fromCli(state.sourceIngestionRaw),
+                SmellEngine.fromCli(state.smellEngineRaw),
+                state.pmdRuleset
         );
     }
 
@@ -64,6 +83,18 @@ public final class CliParser {
             case "--sonar-key" -> state.sonarKey = value;
             case S2 -> state.percentage = parsePercentage(value);
             case "--proportion" -> state.proportionRaw = value;
+            case "--git-backend" -> state.gitBackendRaw = value;
+            case "--source-ingestion" -> state.sourceIngestionRaw = value;
+            case "--smell-engine" -> state.smellEngineRaw = value;
+            case "--pmd-ruleset" -> state.pmdRuleset = value;
+            case S3 -> state.historyParallelism = parsePositive(value, S3);
+            case S4 -> state.commitFetchParallelism = parsePositive(value, S4);
+            case S5 -> state.parseThreads = parsePositive(value, S5);
+            case S6 -> state.pipelineDepth = parsePositive(value, S6);
+            case S7 -> state.variantThreads = parsePositive(value, S7);
+            case S8 -> state.jiraParallelism = parsePositive(value, S8);
+            case S9 -> state.sonarScanThreads = parsePositive(value, S9);
+            case S10 -> state.sonarFetchParallelism = parsePositive(value, S10);
             default -> throw unknownArgument(arg);
         }
     }
@@ -97,6 +128,54 @@ public final class CliParser {
                 state.proportionRaw = nextValue(args, index + 1, arg);
                 return index + 2;
             }
+            case S3 -> {
+                state.historyParallelism = parsePositive(nextValue(args, index + 1, arg), S3);
+                return index + 2;
+            }
+            case S4 -> {
+                state.commitFetchParallelism = parsePositive(nextValue(args, index + 1, arg), S4);
+                return index + 2;
+            }
+            case S5 -> {
+                state.parseThreads = parsePositive(nextValue(args, index + 1, arg), S5);
+                return index + 2;
+            }
+            case S6 -> {
+                state.pipelineDepth = parsePositive(nextValue(args, index + 1, arg), S6);
+                return index + 2;
+            }
+            case S7 -> {
+                state.variantThreads = parsePositive(nextValue(args, index + 1, arg), S7);
+                return index + 2;
+            }
+            case S8 -> {
+                state.jiraParallelism = parsePositive(nextValue(args, index + 1, arg), S8);
+                return index + 2;
+            }
+            case S9 -> {
+                state.sonarScanThreads = parsePositive(nextValue(args, index + 1, arg), S9);
+                return index + 2;
+            }
+            case S10 -> {
+                state.sonarFetchParallelism = parsePositive(nextValue(args, index + 1, arg), S10);
+                return index + 2;
+            }
+            case "--git-backend" -> {
+                state.gitBackendRaw = nextValue(args, index + 1, arg);
+                return index + 2;
+            }
+            case "--source-ingestion" -> {
+                state.sourceIngestionRaw = nextValue(args, index + 1, arg);
+                return index + 2;
+            }
+            case "--smell-engine" -> {
+                state.smellEngineRaw = nextValue(args, index + 1, arg);
+                return index + 2;
+            }
+            case "--pmd-ruleset" -> {
+                state.pmdRuleset = nextValue(args, index + 1, arg);
+                return index + 2;
+            }
             case "--exclude-churn-zero" -> {
                 state.excludeChurnZero = true;
                 return index + 1;
@@ -120,10 +199,22 @@ public final class CliParser {
         boolean useGithubIssues;
         boolean excludeChurnZero;
         String proportionRaw;
+        String gitBackendRaw;
+        String sourceIngestionRaw;
+        String smellEngineRaw;
+        String pmdRuleset;
         String repoUrl;
         String jiraKey;
         String sonarKey;
         Integer percentage;
+        int historyParallelism = ParallelismOptions.SEQUENTIAL.historyParallelism();
+        int commitFetchParallelism = ParallelismOptions.SEQUENTIAL.commitFetchParallelism();
+        int parseThreads = ParallelismOptions.SEQUENTIAL.parseThreads();
+        int pipelineDepth = ParallelismOptions.SEQUENTIAL.pipelineDepth();
+        int variantThreads = ParallelismOptions.SEQUENTIAL.variantThreads();
+        int jiraParallelism = ParallelismOptions.SEQUENTIAL.jiraParallelism();
+        int sonarScanThreads = ParallelismOptions.SEQUENTIAL.sonarScanThreads();
+        int sonarFetchParallelism = ParallelismOptions.SEQUENTIAL.sonarFetchParallelism();
     }
 
     /**
@@ -198,4 +289,24 @@ public final class CliParser {
             throw new IllegalArgumentException("Valore non valido per --percentage: " + raw, exception);
         }
     }
+
+    /**
+     * Parses and validates a worker-pool size option.
+     *
+     * @param raw raw option value
+     * @param optionName option currently being resolved
+     * @return strictly positive pool size
+     * @throws IllegalArgumentException when the value is not numeric or lower than {@code 1}
+     */
+    private int parsePositive(String raw, String optionName) {
+        try {
+            int parsed = Integer.parseInt(raw.trim());
+            if (parsed < 1) {
+                throw new IllegalArgumentException(optionName + " deve essere almeno 1");
+            }
+            return parsed;
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Valore non valido per " + optionName + ": " + raw, exception);
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package com.mantimetrics.projectselector;
 
+import com.mantimetrics.git.GitBackend;
 import com.mantimetrics.git.GitConfig;
+import com.mantimetrics.git.SourceIngestion;
 import com.mantimetrics.labeling.Proportion;
+import com.mantimetrics.smell.SmellEngine;
 
 /**
  * Immutable command-line configuration resolved before bootstrapping the application.
@@ -11,8 +14,16 @@ import com.mantimetrics.labeling.Proportion;
  * @param useGithubIssues whether GitHub Issues are unioned with Jira tickets (flag --github-issues)
  * @param proportionVariant Proportion variant to estimate injected versions (flag --proportion)
  * @param excludeChurnZero whether to drop rows with zero churn (flag --exclude-churn-zero)
+ * @param parallelism worker-pool sizes of the concurrent pipeline phases
+ * @param gitBackend source of the release commit history (flag --git-backend)
+ * @param sourceIngestion how release archives are turned into sources (flag --source-ingestion)
+ * @param smellEngine source of the NSmells counts (flag --smell-engine)
+ * @param pmdRuleset comma-separated PMD rulesets of the offline smell engine (flag --pmd-ruleset), or
+ *                   {@code null} for the bundled ruleset
  */
-public record OptionsSelector(GitConfig cliProject, boolean useGithubIssues, Proportion.Variant proportionVariant, boolean excludeChurnZero) {
+public record OptionsSelector(GitConfig cliProject, boolean useGithubIssues, Proportion.Variant proportionVariant,
+                              boolean excludeChurnZero, ParallelismOptions parallelism, GitBackend gitBackend,
+                              SourceIngestion sourceIngestion, SmellEngine smellEngine, String pmdRuleset) {
 
     /**
      * Reports whether the user selected a project directly from the command line.
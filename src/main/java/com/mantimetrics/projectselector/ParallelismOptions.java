@@ -0,0 +1,54 @@
+package com.mantimetrics.projectselector;
+
+/**
+ * Worker-pool sizes used by the optional concurrent phases of the pipeline.
+ * A value of {@code 1} keeps the original sequential behaviour of the phase.
+ *
+ * @param historyParallelism release ranges preloaded concurrently from GitHub (flag --history-parallelism)
+ * @param commitFetchParallelism commit-detail requests kept in flight (flag --commit-fetch-parallelism)
+ * @param parseThreads source files of a release parsed concurrently (flag --parse-threads)
+ * @param pipelineDepth releases in flight between source download and dataset write (flag --pipeline-depth)
+ * @param variantThreads dataset variant groups enriched and written concurrently (flag --variant-threads)
+ * @param jiraParallelism Jira search pages requested concurrently (flag --jira-parallelism)
+ * @param sonarScanThreads releases extracted and scanned concurrently by the SonarCloud pre-scan
+ *                         (flag --sonar-scan-threads)
+ * @param sonarFetchParallelism SonarCloud search pages and analysis snapshots fetched concurrently
+ *                              (flag --sonar-fetch-parallelism)
+ */
+public record ParallelismOptions(int historyParallelism, int commitFetchParallelism, int parseThreads,
+                                 int pipelineDepth, int variantThreads, int jiraParallelism,
+                                 int sonarScanThreads, int sonarFetchParallelism) {
+
+    /** Fully sequential configuration used when no parallelism flag is passed. */
+    public static final ParallelismOptions SEQUENTIAL = new ParallelismOptions(1, 1, 1, 1, 1, 1, 1, 1);
+
+    /**
+     * Validates the configured pool sizes.
+     *
+     * @param historyParallelism release ranges preloaded concurrently from GitHub
+     * @param commitFetchParallelism commit-detail requests kept in flight
+     * @param parseThreads source files of a release parsed concurrently
+     * @param pipelineDepth releases in flight between source download and dataset write
+     * @param variantThreads dataset variant groups enriched and written concurrently
+     * @param jiraParallelism Jira search pages requested concurrently
+     * @param sonarScanThreads releases extracted and scanned concurrently by the SonarCloud pre-scan
+     * @param sonarFetchParallelism SonarCloud search pages and analysis snapshots fetched concurrently
+     * @throws IllegalArgumentException when a pool size is not positive
+     */
+    public ParallelismOptions {
+        requirePositive(historyParallelism, "historyParallelism");
+        requirePositive(commitFetchParallelism, "commitFetchParallelism");
+        requirePositive(parseThreads, "parseThreads");
+        requirePositive(pipelineDepth, "pipelineDepth");
+        requirePositive(variantThreads, "variantThreads");
+        requirePositive(jiraParallelism, "jiraParallelism");
+        requirePositive(sonarScanThreads, "sonarScanThreads");
+        requirePositive(sonarFetchParallelism, "sonarFetchParallelism");
+    }
+
+    private static void requirePositive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " deve essere almeno 1");
+        }
+    }
+}
@@ -75,6 +75,10 @@ public final class ReleaseTimelineJiraGit {
         } catch (IOException e) {
             LOG.warn("GitHub Issues unavailable for {}/{}: {}. Variants with --github-issues will match Jira-only.", owner, repo, e.getMessage());
             ghTickets = List.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("GitHub Issues fetch interrupted for {}/{}. Variants with --github-issues will match Jira-only.", owner, repo);
+            ghTickets = List.of();
         }
 
         LOG.info("{} - percentage {}% -> {} release to be processed",
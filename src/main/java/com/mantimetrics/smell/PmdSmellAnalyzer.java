@@ -0,0 +1,367 @@
+package com.mantimetrics.smell;
+
+import com.mantimetrics.javaparsing.ParsedFileRappresentation;
+import com.mantimetrics.javaparsing.ScanResult;
+import com.mantimetrics.utility.AppendOnlySegment;
+import com.mantimetrics.utility.PathUtility;
+import net.sourceforge.pmd.PMDConfiguration;
+import net.sourceforge.pmd.PmdAnalysis;
+import net.sourceforge.pmd.lang.LanguageRegistry;
+import net.sourceforge.pmd.lang.document.FileId;
+import net.sourceforge.pmd.reporting.Report;
+import net.sourceforge.pmd.reporting.RuleViolation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Offline NSmells engine: runs a PMD ruleset in-process over the sources a release was downloaded with and
+ * counts the violations of each file, producing the same path-to-count map that {@link SonarSmellIndex}
+ * reads from SonarCloud.
+ *
+ * <p>Counts are cached by the SHA-256 of the ruleset fingerprint and the file content, so a file unchanged
+ * since an earlier release (or an earlier run, with the persistent tier) is never analysed again. The files
+ * that miss the cache are handed to PMD in batches of bounded total size, each spread over PMD's own worker
+ * threads, so only one batch of sources is held in memory at a time - also when the sources are decoded
+ * lazily from a spooled archive.
+ */
+public final class PmdSmellAnalyzer implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(PmdSmellAnalyzer.class);
+    /** Ruleset bundled with the application, used when no ruleset is configured. */
+    public static final String DEFAULT_RULESET = "pmd/smells.xml";
+    private static final int MAGIC = 0x4D4D534D; // "MMSM"
+    private static final int VERSION = 1;
+    private static final int MEMORY_ENTRIES = 50_000;
+    private static final int BATCH_CHARS = 4_000_000;
+
+    private final List<String> rulesets;
+    private final byte[] fingerprint;
+    private final int threads;
+    private final int batchChars;
+    private final Map<String, Integer> memory = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MEMORY_ENTRIES;
+        }
+    };
+    private final AppendOnlySegment disk;
+
+    private PmdSmellAnalyzer(List<String> rulesets, int threads, int batchChars, AppendOnlySegment disk) {
+        this.rulesets = rulesets;
+        this.fingerprint = fingerprintOf(rulesets);
+        this.threads = threads;
+        this.batchChars = Math.max(1, batchChars);
+        this.disk = disk;
+    }
+
+    /**
+     * Creates an analyzer whose counts are cached in memory and in a persistent segment, falling back to
+     * memory only when the segment is unusable.
+     *
+     * @param rulesets comma-separated PMD ruleset references (files, classpath resources or
+     *                 {@code category/java/...} references), or {@code null} for {@link #DEFAULT_RULESET}
+     * @param threads PMD worker threads analysing the files of a release
+     * @param segment persistent cache segment, or {@code null} to cache in memory only
+     * @return ready analyzer
+     */
+    public static PmdSmellAnalyzer create(String rulesets, int threads, Path segment) {
+        return create(rulesets, threads, segment, BATCH_CHARS);
+    }
+
+    /**
+     * Creates an analyzer that hands the files missing the cache to PMD in batches of the given total size.
+     *
+     * @param rulesets comma-separated PMD ruleset references, or {@code null} for {@link #DEFAULT_RULESET}
+     * @param threads PMD worker threads analysing the files of a batch
+     * @param segment persistent cache segment, or {@code null} to cache in memory only
+     * @param batchChars source characters after which a batch is analysed
+     * @return ready analyzer
+     */
+    static PmdSmellAnalyzer create(String rulesets, int threads, Path segment, int batchChars) {
+        List<String> refs = parseRulesets(rulesets);
+        if (segment == null) {
+            return new PmdSmellAnalyzer(refs, threads, batchChars, null);
+        }
+        try {
+            AppendOnlySegment disk = AppendOnlySegment.open(segment, MAGIC, VERSION);
+            LOG.info("PMD smell cache {} - {} cached files", segment, disk.size());
+            return new PmdSmellAnalyzer(refs, threads, batchChars, disk);
+        } catch (IOException exception) {
+            LOG.warn("PMD smell cache {} unavailable, using in-memory cache only: {}",
+                    segment, exception.getMessage());
+            return new PmdSmellAnalyzer(refs, threads, batchChars, null);
+        }
+    }
+
+    /**
+     * Counts the smells of every source of a release.
+     *
+     * @param sources release sources
+     * @return smell count of each source, keyed by normalized dataset path
+     * @throws IllegalStateException when the PMD analysis of the release fails as a whole
+     */
+    public Map<String, Integer> analyze(ScanResult sources) {
+        Map<String, Integer> smells = new HashMap<>();
+        Batch batch = new Batch();
+        int analysed = 0;
+        for (ParsedFileRappresentation file : sources.includedFiles()) {
+            String path = PathUtility.normalizeDatasetPath(file.relativePath());
+            String text = file.source().toString();
+            String key = keyOf(text);
+            Integer cached = get(key);
+            if (cached != null) {
+                smells.put(path, cached);
+                continue;
+            }
+            batch.add(key, path, text);
+            if (batch.chars >= batchChars) {
+                analysed += analyzeBatch(sources.id(), batch, smells);
+            }
+        }
+        analysed += analyzeBatch(sources.id(), batch, smells);
+        LOG.debug("PMD smells for {}: {} files, {} analysed", sources.id(), smells.size(), analysed);
+        return smells;
+    }
+
+    /**
+     * Analyses the pending contents of a batch, records their counts under every path they were found at and
+     * empties the batch.
+     *
+     * @param releaseId release the contents belong to, used in diagnostics
+     * @param batch pending contents
+     * @param smells smell counts of the release, keyed by normalized dataset path
+     * @return number of distinct contents analysed
+     */
+    private int analyzeBatch(String releaseId, Batch batch, Map<String, Integer> smells) {
+        if (batch.textByKey.isEmpty()) {
+            return 0;
+        }
+        Map<String, Integer> fresh = runPmd(releaseId, batch.pathsByKey, batch.textByKey);
+        fresh.forEach((key, count) -> batch.pathsByKey.get(key).forEach(path -> smells.put(path, count)));
+        int analysed = batch.textByKey.size();
+        batch.clear();
+        return analysed;
+    }
+
+    /**
+     * Returns the cache key of a source content under the configured rulesets.
+     *
+     * @param source raw Java source
+     * @return Base64 (URL-safe) SHA-256 digest of the ruleset fingerprint and the UTF-8 source bytes
+     */
+    String keyOf(String source) {
+        MessageDigest digest = sha256();
+        digest.update(fingerprint);
+        byte[] hash = digest.digest(source.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    /**
+     * Returns the cached count of a source content, looking at the memory tier first.
+     *
+     * @param key content key returned by {@link #keyOf(String)}
+     * @return cached count, or {@code null} when the content was never analysed
+     */
+    synchronized Integer get(String key) {
+        Integer count = memory.get(key);
+        if (count != null || disk == null) {
+            return count;
+        }
+        try {
+            byte[] payload = disk.get(key);
+            if (payload != null) {
+                count = ByteBuffer.wrap(payload).getInt();
+                memory.put(key, count);
+            }
+        } catch (IOException exception) {
+            LOG.warn("PMD smell cache read failed for {}: {}", key, exception.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * Stores the count computed for a source content in both tiers.
+     *
+     * @param key content key returned by {@link #keyOf(String)}
+     * @param count smell count of the content
+     */
+    synchronized void put(String key, int count) {
+        memory.put(key, count);
+        if (disk == null) {
+            return;
+        }
+        try {
+            disk.put(key, ByteBuffer.allocate(Integer.BYTES).putInt(count).array());
+        } catch (IOException exception) {
+            LOG.warn("PMD smell cache write failed for {}: {}", key, exception.getMessage());
+        }
+    }
+
+    /**
+     * Closes the persistent tier, if any.
+     *
+     * @throws IOException when the segment cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    /**
+     * Runs one PMD analysis over a batch of contents that missed the cache and caches their counts. Each content is
+     * analysed once, under the first dataset path it was found at; contents PMD could not process are
+     * reported with no smells and left out of the cache. A failure of the whole analysis is rethrown, so the
+     * release is never recorded as free of smells.
+     *
+     * @param releaseId release the contents belong to, used in diagnostics
+     * @param pathsByKey dataset paths of each pending content
+     * @param textByKey pending contents
+     * @return smell count of each pending content, keyed by content key
+     * @throws IllegalStateException when PMD cannot run the analysis
+     */
+    private Map<String, Integer> runPmd(String releaseId, Map<String, List<String>> pathsByKey,
+                                        Map<String, String> textByKey) {
+        PMDConfiguration configuration = new PMDConfiguration();
+        configuration.setDefaultLanguageVersion(LanguageRegistry.PMD.getLanguageById("java").getDefaultVersion());
+        rulesets.forEach(configuration::addRuleSet);
+        configuration.setThreads(threads);
+        configuration.setIgnoreIncrementalAnalysis(true);
+
+        Map<String, String> keyById = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        Set<String> failed = new HashSet<>();
+        try (PmdAnalysis analysis = PmdAnalysis.create(configuration)) {
+            textByKey.forEach((key, text) -> {
+                String id = pathsByKey.get(key).get(0);
+                keyById.put(id, key);
+                counts.put(key, 0);
+                analysis.files().addSourceFile(FileId.fromPathLikeString(id), text);
+            });
+            Report report = analysis.performAnalysisAndCollectReport();
+            for (RuleViolation violation : report.getViolations()) {
+                String key = keyById.get(violation.getFileId().getOriginalPath());
+                if (key != null) {
+                    counts.merge(key, 1, Integer::sum);
+                }
+            }
+            for (Report.ProcessingError error : report.getProcessingErrors()) {
+                String key = keyById.get(error.getFileId().getOriginalPath());
+                if (key != null) {
+                    failed.add(key);
+                    counts.put(key, 0);
+                    LOG.debug("PMD could not analyse {}: {}", error.getFileId().getOriginalPath(), error.getMsg());
+                }
+            }
+        } catch (RuntimeException exception) {
+            LOG.warn("PMD analysis failed for {} ({} files): {}", releaseId, textByKey.size(),
+                    exception.getMessage());
+            throw new IllegalStateException("PMD analysis failed for " + releaseId, exception);
+        }
+        counts.forEach((key, count) -> {
+            if (!failed.contains(key)) {
+                put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    /** Contents that missed the cache, waiting for the next PMD run. */
+    private static final class Batch {
+        private final Map<String, List<String>> pathsByKey = new LinkedHashMap<>();
+        private final Map<String, String> textByKey = new HashMap<>();
+        private long chars;
+
+        /**
+         * Adds a content found at a path; a content already pending only records the extra path.
+         */
+        void add(String key, String path, String text) {
+            pathsByKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(path);
+            if (textByKey.putIfAbsent(key, text) == null) {
+                chars += text.length();
+            }
+        }
+
+        void clear() {
+            pathsByKey.clear();
+            textByKey.clear();
+            chars = 0;
+        }
+    }
+
+    /**
+     * Splits a comma-separated ruleset list, falling back to the bundled ruleset when it is empty.
+     *
+     * @param raw comma-separated ruleset references, or {@code null}
+     * @return ruleset references
+     */
+    static List<String> parseRulesets(String raw) {
+        List<String> refs = raw == null ? List.of() : Arrays.stream(raw.split(","))
+                .map(String::trim)
+                .filter(ref -> !ref.isEmpty())
+                .toList();
+        return refs.isEmpty() ? List.of(DEFAULT_RULESET) : refs;
+    }
+
+    /**
+     * Digests the ruleset references together with the content of those that resolve to a file or a
+     * classpath resource, so editing a ruleset (or upgrading PMD's bundled categories) invalidates the cache.
+     *
+     * @param rulesets ruleset references
+     * @return ruleset fingerprint
+     */
+    private static byte[] fingerprintOf(List<String> rulesets) {
+        MessageDigest digest = sha256();
+        for (String ref : rulesets) {
+            digest.update(ref.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(contentOf(ref));
+            digest.update((byte) 0);
+        }
+        return digest.digest();
+    }
+
+    private static byte[] contentOf(String ref) {
+        try {
+            Path file = Path.of(ref);
+            if (Files.isRegularFile(file)) {
+                return Files.readAllBytes(file);
+            }
+        } catch (IOException | RuntimeException exception) {
+            LOG.debug("Ruleset {} not readable as a file: {}", ref, exception.getMessage());
+        }
+        String resource = ref.replaceFirst("/[A-Za-z]+$", "");
+        try (InputStream in = PmdSmellAnalyzer.class.getClassLoader().getResourceAsStream(resource)) {
+            return in != null ? in.readAllBytes() : new byte[0];
+        } catch (IOException exception) {
+            return new byte[0];
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 not available", exception);
+        }
+    }
+}
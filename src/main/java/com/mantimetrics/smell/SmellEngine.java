@@ -0,0 +1,21 @@
+package com.mantimetrics.smell;
+
+/**
+ * Source of the per-file NSmells counts (flag --smell-engine).
+ */
+public enum SmellEngine {
+    /** Counts are read from the SonarCloud analyses, running the scanner for releases not yet analysed. */
+    SONAR,
+    /** Counts are computed in-process by running a PMD ruleset over the downloaded release sources. */
+    PMD;
+
+    /**
+     * Parses a CLI token into a smell engine (defaults to SONAR).
+     *
+     * @param raw raw value provided by the user
+     * @return matching smell engine
+     */
+    public static SmellEngine fromCli(String raw) {
+        return raw != null && raw.trim().equalsIgnoreCase("pmd") ? PMD : SONAR;
+    }
+}
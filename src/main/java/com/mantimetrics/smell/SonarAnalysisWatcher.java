@@ -0,0 +1,108 @@
+package com.mantimetrics.smell;
+
+import com.mantimetrics.utility.DaemonThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for versioned analyses of one SonarCloud project to appear, sharing a single poll loop among every
+ * release being scanned. Each poll lists the project analyses once and completes the future of every
+ * awaited version found in it, so each release resumes as soon as its analysis shows up and concurrent
+ * scans cost one API call per poll instead of one each. Futures of versions that never appear complete
+ * with {@code false} after the timeout.
+ */
+final class SonarAnalysisWatcher implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SonarAnalysisWatcher.class);
+
+    private final AnalysisSource source;
+    private final long timeoutMillis;
+    private final Map<String, Waiter> waiters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService poller;
+
+    /**
+     * Creates a watcher and starts its poll loop.
+     *
+     * @param source lister of the project analyses
+     * @param pollIntervalMillis delay between two polls
+     * @param timeoutMillis maximum wait for one version, counted from {@link #await(String)}
+     */
+    SonarAnalysisWatcher(AnalysisSource source, long pollIntervalMillis, long timeoutMillis) {
+        this.source = source;
+        this.timeoutMillis = timeoutMillis;
+        this.poller = Executors.newSingleThreadScheduledExecutor(DaemonThreads.factory("sonar-poll"));
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts waiting for the analysis tagged with a version. Waiting again for a version that is still
+     * pending returns the same future.
+     *
+     * @param version expected {@code sonar.projectVersion}
+     * @return future completed with {@code true} when the analysis appears, {@code false} on timeout
+     */
+    CompletableFuture<Boolean> await(String version) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        return waiters.computeIfAbsent(version, key -> new Waiter(deadline, new CompletableFuture<>())).result();
+    }
+
+    /**
+     * Runs one poll: completes the futures of the versions that appeared and expires the overdue ones.
+     * Failures of the listing are logged and retried on the next poll.
+     */
+    void poll() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        try {
+            for (SonarAnalysis analysis : source.list()) {
+                Waiter waiter = analysis.projectVersion() != null ? waiters.remove(analysis.projectVersion()) : null;
+                if (waiter != null) {
+                    waiter.result().complete(true);
+                }
+            }
+        } catch (SonarException | RuntimeException exception) {
+            LOG.debug("SonarCloud analysis poll failed: {}", exception.getMessage());
+        }
+        long now = System.currentTimeMillis();
+        waiters.entrySet().removeIf(entry -> {
+            if (now < entry.getValue().deadline()) {
+                return false;
+            }
+            entry.getValue().result().complete(false);
+            return true;
+        });
+    }
+
+    /**
+     * Stops polling and completes every pending future with {@code false}.
+     */
+    @Override
+    public void close() {
+        poller.shutdownNow();
+        waiters.values().forEach(waiter -> waiter.result().complete(false));
+        waiters.clear();
+    }
+
+    /** Lists the analyses of the watched project. */
+    @FunctionalInterface
+    interface AnalysisSource {
+        /**
+         * Lists the analyses of the project.
+         *
+         * @return current analyses
+         * @throws SonarException when the analyses cannot be fetched
+         */
+        List<SonarAnalysis> list() throws SonarException;
+    }
+
+    private record Waiter(long deadline, CompletableFuture<Boolean> result) {
+    }
+}
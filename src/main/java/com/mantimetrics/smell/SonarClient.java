@@ -45,12 +45,13 @@ public final class SonarClient implements AutoCloseable {
 
     private final CloseableHttpClient httpClient;
     private final String authHeader;
+    private final SonarPager pager;
 
     /**
      * Creates a client that reads the token from the {@code SONAR_TOKEN} environment variable.
      */
     public SonarClient() {
-        this(buildHttpClient(), System.getenv("SONAR_TOKEN"));
+        this(buildHttpClient(1), System.getenv("SONAR_TOKEN"), 1);
     }
 
     /**
@@ -59,7 +60,18 @@ public final class SonarClient implements AutoCloseable {
      * @param token optional Bearer token; may be {@code null} for public projects
      */
     public SonarClient(String token) {
-        this(buildHttpClient(), token);
+        this(buildHttpClient(1), token, 1);
+    }
+
+    /**
+     * Creates a client using the supplied token that requests up to {@code pageParallelism} pages of a
+     * search concurrently.
+     *
+     * @param token optional Bearer token; may be {@code null} for public projects
+     * @param pageParallelism maximum number of search pages requested concurrently
+     */
+    public SonarClient(String token, int pageParallelism) {
+        this(buildHttpClient(pageParallelism), token, pageParallelism);
     }
 
     /**
@@ -69,8 +81,20 @@ public final class SonarClient implements AutoCloseable {
      * @param token optional Bearer token; may be {@code null} for public projects
      */
     SonarClient(CloseableHttpClient httpClient, String token) {
+        this(httpClient, token, 1);
+    }
+
+    /**
+     * Creates a client with injectable collaborators and a search page parallelism.
+     *
+     * @param httpClient HTTP client to use
+     * @param token optional Bearer token; may be {@code null} for public projects
+     * @param pageParallelism maximum number of search pages requested concurrently
+     */
+    SonarClient(CloseableHttpClient httpClient, String token, int pageParallelism) {
         this.httpClient = httpClient;
         this.authHeader = (token != null && !token.isBlank()) ? "Bearer " + token : null;
+        this.pager = new SonarPager(PAGE_SIZE, pageParallelism);
     }
 
     /**
@@ -83,27 +107,14 @@ public final class SonarClient implements AutoCloseable {
     public List<SonarAnalysis> fetchAnalyses(String projectKey) throws SonarException {
         List<SonarAnalysis> analyses = new ArrayList<>();
         try {
-            int page = 1;
-            boolean hasMore = true;
-            while (hasMore) {
-                URI uri = new URIBuilder(BASE_URL + "/api/project_analyses/search")
-                        .addParameter("project", projectKey)
-                        .addParameter("ps", String.valueOf(PAGE_SIZE))
-                        .addParameter("p", String.valueOf(page))
-                        .build();
-                JsonNode response = get(uri);
-                JsonNode analysesNode = response.path("analyses");
-                if (!analysesNode.isArray() || analysesNode.isEmpty()) {
-                    hasMore = false;
-                } else {
-                    parseAnalysesPage(analysesNode, analyses);
-                    int total = response.path("paging").path("total").asInt(0);
-                    if (page * PAGE_SIZE >= total) {
-                        hasMore = false;
-                    } else {
-                        page++;
-                    }
-                }
+            List<JsonNode> pages = pager.fetchAll(this::get,
+                    page -> new URIBuilder(BASE_URL + "/api/project_analyses/search")
+                            .addParameter("project", projectKey)
+                            .addParameter("ps", String.valueOf(PAGE_SIZE))
+                            .addParameter("p", String.valueOf(page))
+                            .build(), "analyses");
+            for (JsonNode response : pages) {
+                parseAnalysesPage(response.path("analyses"), analyses);
             }
         } catch (IOException | URISyntaxException e) {
             throw new SonarException("Failed to fetch analyses for " + projectKey, e);
@@ -131,7 +142,9 @@ public final class SonarClient implements AutoCloseable {
     }
 
     /**
-     * Fetches file-level {@code code_smells} counts for a specific analysis snapshot.
+     * Fetches file-level {@code code_smells} counts for a specific analysis snapshot. Once the first page
+     * has reported {@code paging.total}, the remaining pages are requested concurrently up to the page
+     * parallelism of the client and merged in page order.
      * Paths are normalized to match the dataset path format (no leading or trailing slashes;
      * the repository-relative path segments are kept verbatim).
      *
@@ -144,23 +157,10 @@ public final class SonarClient implements AutoCloseable {
             throws SonarException {
         Map<String, Integer> result = new LinkedHashMap<>();
         try {
-            int page = 1;
-            boolean hasMore = true;
-            while (hasMore) {
-                URI uri = buildComponentTreeUri(projectKey, analysisKey, page);
-                JsonNode response = get(uri);
-                JsonNode components = response.path("components");
-                if (!components.isArray() || components.isEmpty()) {
-                    hasMore = false;
-                } else {
-                    parseComponents(components, projectKey, result);
-                    int total = response.path("paging").path("total").asInt(0);
-                    if (page * PAGE_SIZE >= total) {
-                        hasMore = false;
-                    } else {
-                        page++;
-                    }
-                }
+            List<JsonNode> pages = pager.fetchAll(this::get,
+                    page -> buildComponentTreeUri(projectKey, analysisKey, page), "components");
+            for (JsonNode response : pages) {
+                parseComponents(response.path("components"), projectKey, result);
             }
         } catch (IOException | URISyntaxException e) {
             throw new SonarException("Failed to fetch file smells for " + projectKey
@@ -287,7 +287,14 @@ public final class SonarClient implements AutoCloseable {
         httpClient.close();
     }
 
-    private static CloseableHttpClient buildHttpClient() {
+    /**
+     * Builds the default HTTP client. Every SonarCloud request shares one route, so the per-route connection
+     * cap is raised to the page parallelism instead of the pool default of two.
+     *
+     * @param pageParallelism maximum number of search pages requested concurrently
+     * @return configured SonarCloud HTTP client
+     */
+    private static CloseableHttpClient buildHttpClient(int pageParallelism) {
         RequestConfig config = RequestConfig.custom()
                 .setConnectTimeout(30_000)
                 .setSocketTimeout(60_000)
@@ -295,6 +302,7 @@ public final class SonarClient implements AutoCloseable {
         return HttpClients.custom()
                 .setDefaultRequestConfig(config)
                 .setMaxConnTotal(20)
+                .setMaxConnPerRoute(Math.max(2, Math.min(pageParallelism, 20)))
                 .build();
     }
 }
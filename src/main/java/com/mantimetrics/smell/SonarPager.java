@@ -0,0 +1,141 @@
+package com.mantimetrics.smell;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mantimetrics.utility.DaemonThreads;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Pages through a SonarCloud web-API search that reports {@code paging.total}.
+ *
+ * <p>The first page is requested alone to learn the total. With a parallelism of {@code 1} the remaining
+ * pages are requested one after another until a page comes back empty or the total is reached. Otherwise
+ * every remaining page number is requested concurrently on a bounded pool and the responses are returned
+ * in page order, so callers merge them exactly as in the sequential mode.
+ */
+final class SonarPager {
+    private final int pageSize;
+    private final int parallelism;
+
+    /**
+     * Creates a pager.
+     *
+     * @param pageSize number of items requested per page
+     * @param parallelism maximum number of pages requested concurrently
+     */
+    SonarPager(int pageSize, int parallelism) {
+        this.pageSize = pageSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Requests every non-empty page of a search.
+     *
+     * @param source executes one page request
+     * @param pageUri builds the URI of a page
+     * @param items name of the array holding the items of a page (e.g. {@code components})
+     * @return non-empty page responses in page order
+     * @throws IOException when a page cannot be fetched
+     * @throws SonarException when SonarCloud rejects a page request
+     * @throws URISyntaxException when a page URI cannot be built
+     */
+    List<JsonNode> fetchAll(PageSource source, PageUri pageUri, String items)
+            throws IOException, SonarException, URISyntaxException {
+        List<JsonNode> pages = new ArrayList<>();
+        JsonNode first = source.get(pageUri.build(1));
+        if (isEmpty(first, items)) {
+            return pages;
+        }
+        pages.add(first);
+        if (parallelism == 1) {
+            fetchSequentially(source, pageUri, items, pages, totalOf(first));
+        } else {
+            fetchConcurrently(source, pageUri, items, pages, totalOf(first));
+        }
+        return pages;
+    }
+
+    private void fetchSequentially(PageSource source, PageUri pageUri, String items, List<JsonNode> pages,
+                                   int firstTotal)
+            throws IOException, SonarException, URISyntaxException {
+        int total = firstTotal;
+        for (int page = 2; (page - 1) * pageSize < total; page++) {
+            JsonNode response = source.get(pageUri.build(page));
+            if (isEmpty(response, items)) {
+                return;
+            }
+            pages.add(response);
+            total = totalOf(response);
+        }
+    }
+
+    private void fetchConcurrently(PageSource source, PageUri pageUri, String items, List<JsonNode> pages,
+                                   int total)
+            throws IOException, SonarException, URISyntaxException {
+        int last = (total + pageSize - 1) / pageSize;
+        if (last < 2) {
+            return;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, last - 1),
+                DaemonThreads.factory("sonar-page"));
+        try {
+            List<Future<JsonNode>> pending = new ArrayList<>();
+            for (int page = 2; page <= last; page++) {
+                URI uri = pageUri.build(page);
+                pending.add(pool.submit(() -> source.get(uri)));
+            }
+            for (Future<JsonNode> page : pending) {
+                JsonNode response = DaemonThreads.await(page, "paging SonarCloud search", SonarException.class,
+                        SonarException::new);
+                if (!isEmpty(response, items)) {
+                    pages.add(response);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static boolean isEmpty(JsonNode response, String items) {
+        JsonNode array = response.path(items);
+        return !array.isArray() || array.isEmpty();
+    }
+
+    private static int totalOf(JsonNode response) {
+        return response.path("paging").path("total").asInt(0);
+    }
+
+    /** Executes one page request. */
+    @FunctionalInterface
+    interface PageSource {
+        /**
+         * Requests one page.
+         *
+         * @param uri page URI
+         * @return decoded response
+         * @throws IOException when the HTTP call fails
+         * @throws SonarException when SonarCloud rejects the request
+         */
+        JsonNode get(URI uri) throws IOException, SonarException;
+    }
+
+    /** Builds the URI of one page. */
+    @FunctionalInterface
+    interface PageUri {
+        /**
+         * Builds the URI of a page.
+         *
+         * @param page 1-based page number
+         * @return page URI
+         * @throws URISyntaxException when the URI cannot be built
+         */
+        URI build(int page) throws URISyntaxException;
+    }
+}
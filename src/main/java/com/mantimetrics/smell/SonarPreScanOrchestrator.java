@@ -1,6 +1,7 @@
 package com.mantimetrics.smell;
 
 import com.mantimetrics.git.GitFacade;
+import com.mantimetrics.utility.DaemonThreads;
 import com.mantimetrics.utility.ProgressBar;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +18,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 /**
@@ -33,6 +40,12 @@ import java.util.stream.Stream;
  *       {@code MAVEN_HOME}, {@code M2_HOME} or {@code PATH}.</li>
  * </ul>
  * In both cases a warning is logged and the caller continues with whatever analyses already exist.
+ *
+ * <p>With more than one scan thread, {@link #scanMissingReleases} extracts and scans several releases at once
+ * and waits for their analyses through one shared {@link SonarAnalysisWatcher}, so extraction, scanner runs
+ * and the server-side processing of different releases overlap. SonarCloud already queues the reports of a
+ * project and processes them one at a time. The snapshot export stays sequential because it reads
+ * the live project state right after each scan.
  */
 @SuppressWarnings({"ResultOfMethodCallIgnored", "resource", "BusyWait"})
 public final class SonarPreScanOrchestrator {
@@ -47,10 +60,13 @@ public final class SonarPreScanOrchestrator {
     private static final int POLL_TIMEOUT_SEC  = 300;
     /** Maximum minutes allowed for one {@code mvn sonar:sonar} process. */
     private static final int MVN_TIMEOUT_MIN   = 20;
+    /** Seconds between polls of the shared watcher used by concurrent scans (one API call serves all). */
+    private static final int POOL_POLL_INTERVAL_SEC = 5;
 
     private final GitFacade        gitService;
     private final SonarClient  sonarClient;
     private final String            sonarToken;
+    private final int               scanThreads;
 
     /**
      * Creates the service.
@@ -60,9 +76,23 @@ public final class SonarPreScanOrchestrator {
      * @param sonarToken   SonarCloud authentication token (maybe {@code null} - pre-scan is skipped)
      */
     public SonarPreScanOrchestrator(GitFacade gitService, SonarClient sonarClient, String sonarToken) {
+        this(gitService, sonarClient, sonarToken, 1);
+    }
+
+    /**
+     * Creates the service with a bounded pool of concurrent release scans.
+     *
+     * @param gitService   Git service used to download and fully extract release ZIPs
+     * @param sonarClient  SonarCloud REST client used to check existing analyses
+     * @param sonarToken   SonarCloud authentication token (maybe {@code null} - pre-scan is skipped)
+     * @param scanThreads  releases extracted and scanned concurrently; {@code 1} scans them one at a time
+     */
+    public SonarPreScanOrchestrator(GitFacade gitService, SonarClient sonarClient, String sonarToken,
+                                    int scanThreads) {
         this.gitService  = gitService;
         this.sonarClient = sonarClient;
         this.sonarToken  = sonarToken;
+        this.scanThreads = Math.max(1, scanThreads);
     }
 
     private void printLog(String projectKey){
@@ -117,6 +147,10 @@ public final class SonarPreScanOrchestrator {
         LOG.info("SonarCloud {}: {}/{} releases already scanned",
                 projectKey, alreadyScanned.size(), tags.size());
 
+        if (scanThreads > 1) {
+            return scanConcurrently(owner, repo, tags, alreadyScanned,
+                    new ScanTarget(projectKey, organization, scanner), bar);
+        }
         int newScans = 0;
         boolean autoAnalysisBlocked = false;
         for (String tag : tags) {
@@ -218,6 +252,82 @@ public final class SonarPreScanOrchestrator {
         return exported;
     }
 
+    /**
+     * Scans the missing releases on a pool of {@code scanThreads} workers. A worker is freed as soon as the
+     * scanner exits, while the shared watcher waits for the server-side analysis; the tags are stepped on
+     * the progress bar in their original order.
+     */
+    private int scanConcurrently(
+            String owner, String repo, List<String> tags, Set<String> alreadyScanned,
+            ScanTarget target, ProgressBar bar
+    ) {
+        AtomicBoolean autoAnalysisBlocked = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(scanThreads, DaemonThreads.factory("sonar-scan"));
+        try (SonarAnalysisWatcher watcher = new SonarAnalysisWatcher(
+                () -> sonarClient.fetchAnalyses(target.projectKey()),
+                POOL_POLL_INTERVAL_SEC * 1_000L, POLL_TIMEOUT_SEC * 1_000L)) {
+            List<String> pending = new ArrayList<>();
+            List<Future<CompletableFuture<Boolean>>> scans = new ArrayList<>();
+            for (String tag : tags) {
+                if (alreadyScanned.contains(tag)) {
+                    bar.step(tag);
+                    continue;
+                }
+                pending.add(tag);
+                scans.add(pool.submit(() -> {
+                    if (autoAnalysisBlocked.get()) {
+                        return null;
+                    }
+                    try {
+                        extractAndScan(owner, repo, tag, target);
+                    } catch (AutomaticAnalysisEnabledException e) {
+                        autoAnalysisBlocked.set(true);
+                        throw e;
+                    }
+                    return watcher.await(tag);
+                }));
+            }
+
+            int newScans = 0;
+            boolean reported = false;
+            for (int index = 0; index < pending.size(); index++) {
+                String tag = pending.get(index);
+                try {
+                    CompletableFuture<Boolean> indexed = scans.get(index).get();
+                    if (indexed != null) {
+                        reportIndexed(tag, indexed.get());
+                        newScans++;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.debug("SonarCloud pre-scan interrupted at {} - {}", tag, e.getMessage());
+                    return newScans;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof AutomaticAnalysisEnabledException) {
+                        if (!reported) {
+                            printLog(target.projectKey());
+                            reported = true;
+                        }
+                    } else {
+                        LOG.debug("SonarCloud pre-scan skipped for {} - {}", tag, e.getCause().getMessage());
+                    }
+                }
+                bar.step(tag);
+            }
+            return newScans;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void reportIndexed(String tag, boolean indexed) {
+        if (!indexed) {
+            LOG.warn("SonarCloud: analysis for version '{}' did not appear within {}s - continuing anyway",
+                    tag, POLL_TIMEOUT_SEC);
+        }
+        LOG.info("SonarCloud pre-scan: {} [OK]", tag);
+    }
+
     /** Writes a {@code path\tcount} snapshot file (UTF-8, one file per line). */
     private static void writeSnapshot(Path tsv, java.util.Map<String, Integer> smells) throws IOException {
         List<String> lines = new ArrayList<>(smells.size());
@@ -254,6 +364,17 @@ public final class SonarPreScanOrchestrator {
             String owner, String repo, String tag,
             String projectKey, String organization, String scanner
     ) throws IOException, InterruptedException, SonarException {
+        extractAndScan(owner, repo, tag, new ScanTarget(projectKey, organization, scanner));
+        waitForAnalysis(projectKey, tag);
+        LOG.info("SonarCloud pre-scan: {} [OK]", tag);
+    }
+
+    /**
+     * Fully extracts the release ZIP into a temporary directory, runs the scanner on it and deletes the
+     * directory once the scanner exits. The analysis may still be processed server-side afterwards.
+     */
+    private void extractAndScan(String owner, String repo, String tag, ScanTarget target)
+            throws IOException, InterruptedException {
 
         LOG.info("SonarCloud pre-scan: scanning {}...", tag);
 
@@ -275,9 +396,7 @@ public final class SonarPreScanOrchestrator {
             Path repoRoot = resolveRepoRoot(tempDir);
             LOG.debug("SonarCloud pre-scan: scanning sources under {}", repoRoot.getFileName());
 
-            runSonarScanner(scanner, repoRoot, projectKey, organization, tag);
-            waitForAnalysis(projectKey, tag);
-            LOG.info("SonarCloud pre-scan: {} [OK]", tag);
+            runSonarScanner(target.scanner(), repoRoot, target.projectKey(), target.organization(), tag);
         } finally {
             deleteTree(tempDir);
         }
@@ -491,6 +610,16 @@ public final class SonarPreScanOrchestrator {
         }
     }
 
+    /**
+     * SonarCloud coordinates and scanner executable shared by every release scan of a project.
+     *
+     * @param projectKey SonarCloud project key
+     * @param organization SonarCloud organization
+     * @param scanner scanner executable
+     */
+    private record ScanTarget(String projectKey, String organization, String scanner) {
+    }
+
     /**
      * Resolves the repository root inside the extracted ZIP (GitHub archives wrap everything in a
      * single top-level folder). Component paths are relative to this root, matching dataset paths.
@@ -1,16 +1,28 @@
 package com.mantimetrics.smell;
 
+import com.mantimetrics.utility.DaemonThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Indexed snapshot of per-file code-smell counts across all SonarCloud analyses for a project.
- * Smells for each analysis are fetched lazily and cached on first access.
+ * Smells for each analysis are fetched lazily and cached on first access; with a {@link SonarSmellStore}
+ * they are also read from and written through to disk, so an analysis seen by an earlier run costs no
+ * {@code component_tree} call. The index is thread-safe, and {@link #prefetch(List, Map, int)} fetches the
+ * distinct analyses a release timeline resolves to concurrently.
  *
  * <p>Lookup strategy (the best accuracy first):
  * <ol>
@@ -24,18 +36,21 @@ public final class SonarSmellIndex {
     private static final Logger LOG = LoggerFactory.getLogger(SonarSmellIndex.class);
 
     /** Sentinel index that always returns an empty smell map. */
-    public static final SonarSmellIndex EMPTY = new SonarSmellIndex(List.of(), null, null);
+    public static final SonarSmellIndex EMPTY = new SonarSmellIndex(List.of(), null, null, SonarSmellStore.NONE);
 
     private final List<SonarAnalysis>           analyses;
     private final Map<String, SonarAnalysis>    byVersion;   // projectVersion -> analysis
     private final SonarClient              client;
     private final String                        projectKey;
-    private final Map<String, Map<String, Integer>> cache = new LinkedHashMap<>();
+    private final SonarSmellStore               store;
+    private final Map<String, Map<String, Integer>> cache = new ConcurrentHashMap<>();
 
-    private SonarSmellIndex(List<SonarAnalysis> analyses, SonarClient client, String projectKey) {
+    private SonarSmellIndex(List<SonarAnalysis> analyses, SonarClient client, String projectKey,
+                            SonarSmellStore store) {
         this.analyses   = analyses;
         this.client     = client;
         this.projectKey = projectKey;
+        this.store      = store;
 
         Map<String, SonarAnalysis> versionMap = new LinkedHashMap<>();
         for (SonarAnalysis a : analyses) {
@@ -56,13 +71,27 @@ public final class SonarSmellIndex {
      */
     public static SonarSmellIndex build(SonarClient client, String projectKey)
             throws SonarException {
+        return build(client, projectKey, SonarSmellStore.NONE);
+    }
+
+    /**
+     * Fetches the full analysis list for a project and returns an index backed by a local snapshot store.
+     *
+     * @param client     SonarCloud client used for REST calls
+     * @param projectKey SonarCloud project key
+     * @param store      local store of the analysis snapshots already fetched
+     * @return populated smell index
+     * @throws SonarException when the analyses cannot be fetched
+     */
+    public static SonarSmellIndex build(SonarClient client, String projectKey, SonarSmellStore store)
+            throws SonarException {
         List<SonarAnalysis> analyses = client.fetchAnalyses(projectKey);
         long withVersion = analyses.stream()
                 .filter(a -> a.projectVersion() != null && !a.projectVersion().isBlank())
                 .count();
         LOG.info("SonarCloud {} - {} analyses ({} with version tag)", projectKey,
                 analyses.size(), withVersion);
-        return new SonarSmellIndex(analyses, client, projectKey);
+        return new SonarSmellIndex(analyses, client, projectKey, store);
     }
 
     /**
@@ -95,7 +124,71 @@ public final class SonarSmellIndex {
      */
     public Map<String, Integer> getSmellsForDate(Instant releaseDate) {
         if (analyses.isEmpty() || client == null) return Map.of();
+        return fetchOrCached(bestForDate(releaseDate).key());
+    }
+
+    /**
+     * Fetches, concurrently, the smells of every distinct analysis the given releases resolve to, so the
+     * later {@link #getSmellsForTag(String)} and {@link #getSmellsForDate(Instant)} calls are served from
+     * the cache. Each release resolves to its exact version match or, without one, to its nearest analysis
+     * by date; most releases share the same analysis, so the keys are de-duplicated before fetching.
+     *
+     * @param tags release tags
+     * @param tagDates release dates keyed by tag
+     * @param parallelism maximum number of analyses fetched concurrently
+     * @return number of distinct analyses the releases resolve to
+     */
+    public int prefetch(List<String> tags, Map<String, Instant> tagDates, int parallelism) {
+        if (analyses.isEmpty() || client == null) return 0;
+        Set<String> keys = new LinkedHashSet<>();
+        for (String tag : tags) {
+            SonarAnalysis analysis = byVersion.get(tag);
+            Instant tagDate = tagDates.get(tag);
+            if (analysis == null && tagDate != null) {
+                analysis = bestForDate(tagDate);
+            }
+            if (analysis != null) {
+                keys.add(analysis.key());
+            }
+        }
+        List<String> missing = keys.stream().filter(key -> !cache.containsKey(key)).toList();
+        LOG.info("SonarCloud {} - {} releases resolve to {} analyses ({} to load)", projectKey,
+                tags.size(), keys.size(), missing.size());
+        if (missing.size() <= 1 || parallelism <= 1) {
+            missing.forEach(this::fetchOrCached);
+            return keys.size();
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, missing.size()),
+                DaemonThreads.factory("sonar-prefetch"));
+        try {
+            List<Future<Map<String, Integer>>> fetches = new ArrayList<>();
+            for (String key : missing) {
+                fetches.add(pool.submit(() -> fetchOrCached(key)));
+            }
+            for (Future<Map<String, Integer>> fetch : fetches) {
+                fetch.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("SonarCloud {} prefetch interrupted", projectKey);
+        } catch (ExecutionException e) {
+            LOG.warn("SonarCloud {} prefetch failed: {}", projectKey, e.getCause().getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+        return keys.size();
+    }
+
+    // -- private --------------------------------------------------------------
 
+    /**
+     * Picks the analysis matching a release date (analyses are sorted oldest -> newest): the latest one
+     * whose date is <= {@code releaseDate}, or the earliest available one as a proxy.
+     *
+     * @param releaseDate release tag date
+     * @return best matching analysis; the index must not be empty
+     */
+    private SonarAnalysis bestForDate(Instant releaseDate) {
         SonarAnalysis best = null;
         for (SonarAnalysis a : analyses) {
             if (!a.date().isAfter(releaseDate)) {
@@ -109,21 +202,51 @@ public final class SonarSmellIndex {
             LOG.debug("SonarCloud {}: no analysis predates {} - using earliest ({}) as proxy",
                     projectKey, releaseDate, best.date());
         }
-        return fetchOrCached(best.key());
+        return best;
     }
 
-    // -- private --------------------------------------------------------------
-
+    /**
+     * Returns the smells of an analysis from the cache, the local store or the API, in that order. The
+     * fetch runs outside any lock, so concurrent callers loading different analyses never wait for each
+     * other; the first result cached for a key wins.
+     *
+     * @param analysisKey analysis snapshot key
+     * @return smell map, empty when the fetch failed
+     */
     private Map<String, Integer> fetchOrCached(String analysisKey) {
-        return cache.computeIfAbsent(analysisKey, key -> {
-            try {
-                Map<String, Integer> smells = client.fetchFileSmells(projectKey, key);
-                LOG.debug("SonarCloud {} analysis {} - {} files", projectKey, key, smells.size());
-                return smells;
-            } catch (SonarException e) {
-                LOG.warn("SonarCloud smell fetch failed for {}/{}: {}", projectKey, key, e.getMessage());
-                return Map.of();
+        Map<String, Integer> cached = cache.get(analysisKey);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, Integer> loaded = load(analysisKey);
+        Map<String, Integer> previous = cache.putIfAbsent(analysisKey, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * Loads the smells of an analysis from the local store or, failing that, from the API. Only non-empty
+     * snapshots are stored: the store keeps the first snapshot of a key, and an empty answer may come from an
+     * analysis whose measures SonarCloud has not computed yet, so it is fetched again by the next run.
+     *
+     * @param key analysis snapshot key
+     * @return smell map, empty when the analysis has no smells or the fetch failed
+     */
+    private Map<String, Integer> load(String key) {
+        Map<String, Integer> stored = store.get(projectKey, key);
+        if (stored != null) {
+            LOG.debug("SonarCloud {} analysis {} - {} files (local store)", projectKey, key, stored.size());
+            return stored;
+        }
+        try {
+            Map<String, Integer> smells = client.fetchFileSmells(projectKey, key);
+            LOG.debug("SonarCloud {} analysis {} - {} files", projectKey, key, smells.size());
+            if (!smells.isEmpty()) {
+                store.put(projectKey, key, smells);
             }
-        });
+            return smells;
+        } catch (SonarException e) {
+            LOG.warn("SonarCloud smell fetch failed for {}/{}: {}", projectKey, key, e.getMessage());
+            return Map.of();
+        }
     }
 }
@@ -0,0 +1,135 @@
+package com.mantimetrics.smell;
+
+import com.mantimetrics.utility.AppendOnlySegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Local store of the per-file smell counts of SonarCloud analyses, keyed by {@code projectKey@analysisKey}.
+ *
+ * <p>The measures of a finished analysis never change, so each snapshot is fetched from the
+ * {@code component_tree} API once and appended to an {@link AppendOnlySegment}; later runs read it back
+ * from disk. The live project state (no analysis key) is never stored.
+ */
+public final class SonarSmellStore implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(SonarSmellStore.class);
+    private static final int MAGIC = 0x4D4D5353; // "MMSS"
+    private static final int VERSION = 1;
+
+    /** Store that keeps nothing, used when no persistent tier is configured. */
+    public static final SonarSmellStore NONE = new SonarSmellStore(null);
+
+    private final AppendOnlySegment disk;
+
+    private SonarSmellStore(AppendOnlySegment disk) {
+        this.disk = disk;
+    }
+
+    /**
+     * Opens the store backed by a persistent segment, falling back to {@link #NONE} when it is unusable.
+     *
+     * @param segment segment file path
+     * @return store with a persistent tier when the segment could be opened
+     */
+    public static SonarSmellStore open(Path segment) {
+        try {
+            AppendOnlySegment disk = AppendOnlySegment.open(segment, MAGIC, VERSION);
+            LOG.info("SonarCloud smell store {} - {} stored analyses", segment, disk.size());
+            return new SonarSmellStore(disk);
+        } catch (IOException exception) {
+            LOG.warn("SonarCloud smell store {} unavailable, fetching every analysis: {}",
+                    segment, exception.getMessage());
+            return NONE;
+        }
+    }
+
+    /**
+     * Returns the stored smell counts of an analysis.
+     *
+     * @param projectKey SonarCloud project key
+     * @param analysisKey analysis snapshot key
+     * @return stored smell map, or {@code null} when the analysis was never stored
+     */
+    public Map<String, Integer> get(String projectKey, String analysisKey) {
+        if (disk == null) {
+            return null;
+        }
+        try {
+            byte[] payload = disk.get(keyOf(projectKey, analysisKey));
+            return payload != null ? decode(payload) : null;
+        } catch (IOException exception) {
+            LOG.warn("SonarCloud smell store read failed for {}/{}: {}", projectKey, analysisKey,
+                    exception.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores the smell counts of an analysis; an analysis already stored keeps its first snapshot.
+     *
+     * @param projectKey SonarCloud project key
+     * @param analysisKey analysis snapshot key
+     * @param smells smell counts keyed by normalized dataset path
+     */
+    public void put(String projectKey, String analysisKey, Map<String, Integer> smells) {
+        if (disk == null) {
+            return;
+        }
+        try {
+            disk.put(keyOf(projectKey, analysisKey), encode(smells));
+        } catch (IOException exception) {
+            LOG.warn("SonarCloud smell store write failed for {}/{}: {}", projectKey, analysisKey,
+                    exception.getMessage());
+        }
+    }
+
+    /**
+     * Closes the persistent tier, if any.
+     *
+     * @throws IOException when the segment cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    private static String keyOf(String projectKey, String analysisKey) {
+        return projectKey + "@" + analysisKey;
+    }
+
+    private static byte[] encode(Map<String, Integer> smells) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(smells.size());
+            for (Map.Entry<String, Integer> entry : smells.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Map<String, Integer> decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int count = in.readInt();
+            Map<String, Integer> smells = new LinkedHashMap<>(Math.max(16, count * 2));
+            for (int index = 0; index < count; index++) {
+                String path = in.readUTF();
+                smells.put(path, in.readInt());
+            }
+            return smells;
+        }
+    }
+}
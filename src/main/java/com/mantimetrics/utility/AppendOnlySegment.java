@@ -0,0 +1,184 @@
+package com.mantimetrics.utility;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-file, append-only key/value segment used by the persistent caches.
+ *
+ * <p>The file starts with an 8-byte header ({@code magic}, {@code version}) followed by records of the form
+ * {@code [int keyLength][key][int payloadLength][payload]}. Values are never overwritten: the first payload
+ * stored for a key wins. The key-to-offset index is rebuilt by scanning only the keys when the segment is
+ * opened, and a record left truncated by an interrupted run is cut off.
+ */
+public final class AppendOnlySegment implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(AppendOnlySegment.class);
+    private static final int HEADER_BYTES = 8;
+
+    private final FileChannel channel;
+    private final Map<String, Long> payloadOffsets = new HashMap<>();
+
+    private AppendOnlySegment(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens (or creates) a segment file and indexes the records already stored in it.
+     *
+     * @param file segment file path
+     * @param magic format identifier written in the header
+     * @param version format version written in the header
+     * @return opened segment
+     * @throws IOException when the file cannot be created, read or has a different magic or version
+     */
+    public static AppendOnlySegment open(Path file, int magic, int version) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            AppendOnlySegment segment = new AppendOnlySegment(channel);
+            segment.loadIndex(file, magic, version);
+            return segment;
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the number of records currently stored.
+     *
+     * @return stored record count
+     */
+    public synchronized int size() {
+        return payloadOffsets.size();
+    }
+
+    /**
+     * Reads the payload stored for a key.
+     *
+     * @param key record key
+     * @return stored payload, or {@code null} when the key was never stored
+     * @throws IOException when the segment cannot be read
+     */
+    public synchronized byte[] get(String key) throws IOException {
+        Long offset = payloadOffsets.get(key);
+        if (offset == null) {
+            return null;
+        }
+        int length = readFully(offset, Integer.BYTES).getInt();
+        return readFully(offset + Integer.BYTES, length).array();
+    }
+
+    /**
+     * Appends a record unless the key is already stored.
+     *
+     * @param key record key
+     * @param payload record payload
+     * @throws IOException when the segment cannot be written
+     */
+    public synchronized void put(String key, byte[] payload) throws IOException {
+        if (payloadOffsets.containsKey(key)) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + keyBytes.length + Integer.BYTES + payload.length);
+        record.putInt(keyBytes.length).put(keyBytes).putInt(payload.length).put(payload).flip();
+        long start = channel.size();
+        writeFully(record, start);
+        payloadOffsets.put(key, start + Integer.BYTES + keyBytes.length);
+    }
+
+    /**
+     * Closes the segment file.
+     *
+     * @throws IOException when the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Validates the header and scans the record keys, truncating an incomplete trailing record.
+     */
+    private void loadIndex(Path file, int magic, int version) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            writeFully(ByteBuffer.allocate(HEADER_BYTES).putInt(magic).putInt(version).flip(), 0);
+            return;
+        }
+        ByteBuffer header = readFully(0, HEADER_BYTES);
+        if (header.getInt() != magic || header.getInt() != version) {
+            throw new IOException("Unsupported segment format in " + file);
+        }
+        long position = HEADER_BYTES;
+        while (position < size) {
+            long next = indexRecord(position, size);
+            if (next < 0) {
+                LOG.warn("Segment {}: dropping truncated record at offset {}", file, position);
+                channel.truncate(position);
+                return;
+            }
+            position = next;
+        }
+    }
+
+    /**
+     * Indexes the record starting at {@code position}.
+     *
+     * @return offset of the next record, or {@code -1} when the record is incomplete
+     */
+    private long indexRecord(long position, long size) throws IOException {
+        if (position + Integer.BYTES > size) {
+            return -1;
+        }
+        int keyLength = readFully(position, Integer.BYTES).getInt();
+        long payloadLengthAt = position + Integer.BYTES + keyLength;
+        if (keyLength < 0 || payloadLengthAt + Integer.BYTES > size) {
+            return -1;
+        }
+        String key = new String(readFully(position + Integer.BYTES, keyLength).array(), StandardCharsets.UTF_8);
+        int payloadLength = readFully(payloadLengthAt, Integer.BYTES).getInt();
+        long next = payloadLengthAt + Integer.BYTES + payloadLength;
+        if (payloadLength < 0 || next > size) {
+            return -1;
+        }
+        payloadOffsets.put(key, payloadLengthAt);
+        return next;
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of segment");
+            }
+            offset += read;
+        }
+        return buffer.flip();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+}
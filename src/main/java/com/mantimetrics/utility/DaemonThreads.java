@@ -0,0 +1,83 @@
+package com.mantimetrics.utility;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Thread factory and future handling shared by the worker pools of the pipeline. Every pool runs on daemon
+ * threads, so an aborted run never keeps the JVM alive.
+ */
+public final class DaemonThreads {
+
+    /**
+     * Prevents instantiation of the static utility class.
+     */
+    private DaemonThreads() {
+        throw new AssertionError("Do not instantiate DaemonThreads");
+    }
+
+    /**
+     * Creates a factory of daemon threads named {@code <prefix>-1}, {@code <prefix>-2}, and so on.
+     *
+     * @param prefix thread name prefix
+     * @return daemon thread factory
+     */
+    public static ThreadFactory factory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Waits for a task and rethrows its failure unchanged when it is an {@link IOException}, a
+     * {@code failureType}, a runtime exception or an error. An interruption of the wait or of the task, which
+     * is re-asserted on the current thread, and any other checked failure are wrapped into a new
+     * {@code failureType}. The {@code failureType} may be unchecked for callers that report failures that way.
+     *
+     * @param future task to wait for
+     * @param task description of the task, used in the failure messages (e.g. {@code paging JIRA search})
+     * @param failureType failure type of the caller
+     * @param failure builds a {@code failureType} from a message and a cause
+     * @param <T> task result type
+     * @param <E> failure type of the caller
+     * @return task result
+     * @throws IOException when the task failed with an I/O error
+     * @throws E when the task failed with a {@code failureType} or another checked failure, or was interrupted
+     */
+    public static <T, E extends Exception> T await(Future<T> future, String task, Class<E> failureType,
+                                                   BiFunction<String, Throwable, E> failure)
+            throws IOException, E {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw failure.apply("Interrupted while " + task, exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (failureType.isInstance(cause)) {
+                throw failureType.cast(cause);
+            }
+            if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw failure.apply("Interrupted while " + task, cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw failure.apply("Failed while " + task, cause);
+        }
+    }
+}
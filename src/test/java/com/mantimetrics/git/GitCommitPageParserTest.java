@@ -0,0 +1,57 @@
+package com.mantimetrics.git;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link GitCommitPageParser}.
+ */
+class GitCommitPageParserTest {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * Verifies that message, author and file counts are decoded while patches and other members are skipped.
+     */
+    @Test
+    void decodesCommitAndFilesSkippingPatches() throws Exception {
+        String page = """
+                {"sha":"abc","commit":{"author":{"name":"Alice","date":"2024-01-01"},
+                  "committer":{"name":"Bob"},"message":"PROJ-1 fix","tree":{"sha":"t"}},
+                 "parents":[{"sha":"p"}],
+                 "files":[
+                   {"filename":"src/A.java","status":"modified","additions":3,"deletions":1,
+                    "patch":"@@ -1 +1 @@\\n-old\\n+new"},
+                   {"filename":"src/B.java","additions":0,"deletions":7,"blob_url":"u"}
+                 ]}
+                """;
+
+        GitCommitPageParser.CommitPage decoded = parse(page);
+
+        assertEquals("PROJ-1 fix", decoded.message());
+        assertEquals("Alice", decoded.author());
+        assertEquals(List.of(
+                new GitPrevReleaseBuilder.ReleaseCommitFile("src/A.java", 3, 1),
+                new GitPrevReleaseBuilder.ReleaseCommitFile("src/B.java", 0, 7)), decoded.files());
+    }
+
+    /**
+     * Verifies that a changed file without a name is rejected.
+     */
+    @Test
+    void rejectsFileWithoutName() {
+        assertThrows(IOException.class, () -> parse("{\"files\":[{\"additions\":1}]}"));
+    }
+
+    private static GitCommitPageParser.CommitPage parse(String json) throws IOException {
+        try (JsonParser parser = JSON.createParser(json)) {
+            return GitCommitPageParser.read(parser);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mantimetrics.git;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link GitCommitSnapshotStore}.
+ */
+class GitCommitSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that stored commits survive a reopen of the segment file.
+     */
+    @Test
+    void reopensStoredSnapshots() throws Exception {
+        Path segment = tempDir.resolve("commits.seg");
+        GitPrevReleaseBuilder.ReleaseCommitSnapshot snapshot = snapshot("sha-1", "PROJ-1 fix");
+
+        try (GitCommitSnapshotStore store = GitCommitSnapshotStore.open(segment)) {
+            store.put("apache/demo@sha-1", snapshot);
+            assertEquals(snapshot, store.get("apache/demo@sha-1"));
+        }
+
+        try (GitCommitSnapshotStore reopened = GitCommitSnapshotStore.open(segment)) {
+            assertEquals(1, reopened.size());
+            assertEquals(snapshot, reopened.get("apache/demo@sha-1"));
+            assertNull(reopened.get("apache/demo@sha-2"));
+        }
+    }
+
+    /**
+     * Verifies that a truncated trailing record is dropped while earlier records stay readable.
+     */
+    @Test
+    void dropsTruncatedTrailingRecord() throws Exception {
+        Path segment = tempDir.resolve("commits.seg");
+        long intact;
+        try (GitCommitSnapshotStore store = GitCommitSnapshotStore.open(segment)) {
+            store.put("apache/demo@sha-1", snapshot("sha-1", "first"));
+            intact = Files.size(segment);
+            store.put("apache/demo@sha-2", snapshot("sha-2", "second"));
+        }
+        try (var channel = Files.newByteChannel(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 3);
+        }
+
+        try (GitCommitSnapshotStore reopened = GitCommitSnapshotStore.open(segment)) {
+            assertEquals(1, reopened.size());
+            assertEquals(intact, Files.size(segment));
+            assertEquals(snapshot("sha-1", "first"), reopened.get("apache/demo@sha-1"));
+        }
+    }
+
+    /**
+     * Verifies that commit details already stored on disk are not fetched again from GitHub.
+     */
+    @Test
+    void servesCommitDetailsFromStoreWithoutNetwork() throws Exception {
+        TestGitApiClient apiClient = new TestGitApiClient();
+        try (GitCommitSnapshotStore store = GitCommitSnapshotStore.open(tempDir.resolve("commits.seg"))) {
+            store.put("apache/demo@sha-1", snapshot("sha-1", "PROJ-1 fix"));
+
+            GitPrevReleaseBuilder.ReleaseCommitSnapshot fetched =
+                    new GitCommitDetails(apiClient, store).fetch("apache", "demo", "sha-1");
+
+            assertEquals("PROJ-1 fix", fetched.message());
+        }
+        assertEquals(0, apiClient.calls("https://api.github.com/repos/apache/demo/commits/sha-1?per_page=100&page=1"));
+    }
+
+    private static GitPrevReleaseBuilder.ReleaseCommitSnapshot snapshot(String sha, String message) {
+        return new GitPrevReleaseBuilder.ReleaseCommitSnapshot(sha, message, "Alice", new LinkedHashSet<>(List.of(
+                new GitPrevReleaseBuilder.ReleaseCommitFile("src/main/java/com/acme/Sample.java", 10, 2),
+                new GitPrevReleaseBuilder.ReleaseCommitFile("README.md", 1, 0))));
+    }
+}
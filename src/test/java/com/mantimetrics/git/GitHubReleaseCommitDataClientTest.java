@@ -114,4 +114,44 @@ class GitHubReleaseCommitDataClientTest {
         assertEquals(List.of("Alice", "Bob"), data.authorMap().get("src/main/java/com/acme/Sample.java"));
         assertEquals(12, data.additionsFor("src/main/java/com/acme/Sample.java"));
     }
+
+    /**
+     * Verifies that commit details fetched through the pipelined pool keep the range order.
+     */
+    @Test
+    void keepsRangeOrderWhenFetchingCommitDetailsConcurrently() throws Exception {
+        TestGitApiClient apiClient = new TestGitApiClient();
+        apiClient.when(
+                "https://api.github.com/repos/apache/demo/compare/v1.0...v1.1?per_page=100&page=1",
+                """
+                {"commits":[{"sha":"sha-1"},{"sha":"sha-2"},{"sha":"sha-3"},{"sha":"sha-4"}]}
+                """);
+        apiClient.when(
+                "https://api.github.com/repos/apache/demo/compare/v1.0...v1.1?per_page=100&page=2",
+                """
+                {"commits":[]}
+                """);
+        for (int index = 1; index <= 4; index++) {
+            apiClient.when(
+                    "https://api.github.com/repos/apache/demo/commits/sha-" + index + "?per_page=100&page=1",
+                    """
+                    {
+                      "commit":{"message":"PROJ-%d change","author":{"name":"Dev%d"}},
+                      "files":[{"filename":"src/main/java/com/acme/Sample.java","additions":1,"deletions":0}]
+                    }
+                    """.formatted(index, index));
+        }
+
+        GitReleaseSnapshot data;
+        try (GitCommitWriter writer = new GitCommitWriter(apiClient, 3, null)) {
+            data = writer.build("apache", "demo", "v1.0", "v1.1");
+        }
+
+        assertEquals(
+                List.of("sha-1", "sha-2", "sha-3", "sha-4"),
+                data.touchMap().get("src/main/java/com/acme/Sample.java"));
+        assertEquals(
+                List.of("Dev1", "Dev2", "Dev3", "Dev4"),
+                data.authorMap().get("src/main/java/com/acme/Sample.java"));
+    }
 }
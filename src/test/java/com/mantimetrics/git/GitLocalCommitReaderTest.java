@@ -0,0 +1,67 @@
+package com.mantimetrics.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests for {@link GitLocalCommitReader}.
+ */
+class GitLocalCommitReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that release ranges and line counts computed from a local mirror match the API-based aggregate.
+     */
+    @Test
+    void buildsReleaseRangesFromLocalMirror() throws Exception {
+        Path remote = tempDir.resolve("remotes").resolve("apache").resolve("demo.git");
+        Files.createDirectories(remote);
+        try (Git git = Git.init().setDirectory(remote.toFile()).call()) {
+            commit(git, remote, "src/main/java/com/acme/Sample.java", "a\nb\n", "Initial import", "Alice");
+            git.tag().setName("v1.0").call();
+            commit(git, remote, "src/main/java/com/acme/Sample.java", "a\nc\nd\n", "PROJ-1 Fix parser", "Bob");
+            commit(git, remote, "README.md", "docs\n", "Add docs", "Carol");
+            git.tag().setName("v1.1").setAnnotated(true).setMessage("release").call();
+        }
+
+        GitReleaseSnapshot first;
+        GitReleaseSnapshot second;
+        try (GitLocalMirror mirror = new GitLocalMirror(
+                tempDir.resolve("mirrors"), "", tempDir.resolve("remotes").toUri().toString())) {
+            GitLocalCommitReader reader = new GitLocalCommitReader(mirror);
+            first = GitCommitWriter.aggregate(reader.fetchRaw("apache", "demo", null, "v1.0"), false);
+            second = GitCommitWriter.aggregate(reader.fetchRaw("apache", "demo", "v1.0", "v1.1"), false);
+        }
+
+        assertEquals(2, first.additionsFor("src/main/java/com/acme/Sample.java"));
+        assertEquals(List.of("Alice"), first.authorsFor("src/main/java/com/acme/Sample.java"));
+        assertEquals(2, second.additionsFor("src/main/java/com/acme/Sample.java"));
+        assertEquals(1, second.deletionsFor("src/main/java/com/acme/Sample.java"));
+        assertEquals(List.of("Bob"), second.authorsFor("src/main/java/com/acme/Sample.java"));
+        assertEquals(List.of("PROJ-1"), second.issueKeysFor("src/main/java/com/acme/Sample.java"));
+        assertFalse(second.touchMap().containsKey("README.md"));
+        assertEquals(1, second.totalJavaCommits());
+    }
+
+    private static void commit(Git git, Path root, String path, String content, String message, String author)
+            throws Exception {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        git.add().addFilepattern(path).call();
+        PersonIdent ident = new PersonIdent(author, author.toLowerCase() + "@example.org");
+        git.commit().setMessage(message).setAuthor(ident).setCommitter(ident).call();
+    }
+}
@@ -0,0 +1,81 @@
+package com.mantimetrics.git;
+
+import com.mantimetrics.javaparsing.ParsedFileRappresentation;
+import com.mantimetrics.javaparsing.ScanResult;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link GitLocalSourceReader}.
+ */
+class GitLocalSourceReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that only production sources are materialized and unchanged blobs are shared across releases.
+     */
+    @Test
+    void readsProductionSourcesFromTagTrees() throws Exception {
+        Path remote = tempDir.resolve("remotes").resolve("apache").resolve("demo.git");
+        Files.createDirectories(remote);
+        try (Git git = Git.init().setDirectory(remote.toFile()).call()) {
+            write(remote, "src/main/java/com/acme/Stable.java", "class Stable {}\n");
+            write(remote, "src/main/java/com/acme/Changing.java", "class Changing {}\n");
+            write(remote, "src/test/java/com/acme/StableTest.java", "class StableTest {}\n");
+            write(remote, "README.md", "docs\n");
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial import").call();
+            git.tag().setName("v1.0").call();
+            write(remote, "src/main/java/com/acme/Changing.java", "class Changing { int x; }\n");
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Change one file").call();
+            git.tag().setName("v1.1").setAnnotated(true).setMessage("release").call();
+        }
+
+        ScanResult first;
+        ScanResult second;
+        try (GitLocalMirror mirror = new GitLocalMirror(
+                tempDir.resolve("mirrors"), "", tempDir.resolve("remotes").toUri().toString())) {
+            GitLocalSourceReader reader = new GitLocalSourceReader(mirror);
+            first = reader.downloadSources("apache", "demo", "v1.0");
+            second = reader.downloadSources("apache", "demo", "v1.1");
+        }
+
+        Map<String, CharSequence> firstByPath = byPath(first);
+        Map<String, CharSequence> secondByPath = byPath(second);
+        assertEquals("apache/demo@v1.0", first.id());
+        assertEquals(2, first.totalJavaFiles());
+        assertEquals(List.of("src/main/java/com/acme/Changing.java", "src/main/java/com/acme/Stable.java"),
+                first.includedFiles().stream().map(ParsedFileRappresentation::relativePath).toList());
+        assertEquals("class Changing { int x; }\n", secondByPath.get("src/main/java/com/acme/Changing.java"));
+        assertSame(firstByPath.get("src/main/java/com/acme/Stable.java"),
+                secondByPath.get("src/main/java/com/acme/Stable.java"));
+        assertNotSame(firstByPath.get("src/main/java/com/acme/Changing.java"),
+                secondByPath.get("src/main/java/com/acme/Changing.java"));
+    }
+
+    private static Map<String, CharSequence> byPath(ScanResult result) {
+        return result.includedFiles().stream().collect(Collectors.toMap(
+                ParsedFileRappresentation::relativePath, ParsedFileRappresentation::source, (a, b) -> a));
+    }
+
+    private static void write(Path root, String path, String content) throws Exception {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
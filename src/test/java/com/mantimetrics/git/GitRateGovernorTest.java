@@ -0,0 +1,101 @@
+package com.mantimetrics.git;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link GitRateGovernor}.
+ */
+class GitRateGovernorTest {
+    private static final long NOW = 1_700_000_000_000L;
+
+    /**
+     * Verifies that requests are not delayed while the budget is unknown or above the low-water mark.
+     */
+    @Test
+    void doesNotThrottleWithAmpleBudget() {
+        AtomicLong clock = new AtomicLong(NOW);
+        GitRateGovernor governor = new GitRateGovernor(clock::get);
+
+        assertEquals(0L, governor.reserve());
+        governor.observe("4000", "5000", String.valueOf(NOW / 1_000 + 3_600));
+
+        for (int request = 0; request < 100; request++) {
+            assertEquals(0L, governor.reserve());
+        }
+    }
+
+    /**
+     * Verifies that a low budget is spread evenly over the time left until the reset.
+     */
+    @Test
+    void spreadsLowBudgetUntilReset() {
+        AtomicLong clock = new AtomicLong(NOW);
+        GitRateGovernor governor = new GitRateGovernor(clock::get);
+        governor.observe("100", "5000", String.valueOf(NOW / 1_000 + 1_000));
+
+        assertEquals(0L, governor.reserve());
+        assertEquals(10_000L, governor.reserve());
+        assertEquals(20_000L, governor.reserve());
+    }
+
+    /**
+     * Verifies that an exhausted budget holds every request until the reset instant.
+     */
+    @Test
+    void waitsForResetWhenExhausted() {
+        AtomicLong clock = new AtomicLong(NOW);
+        GitRateGovernor governor = new GitRateGovernor(clock::get);
+        governor.observe("0", "5000", String.valueOf(NOW / 1_000 + 60));
+
+        assertEquals(61_000L, governor.reserve());
+
+        clock.set(NOW + 62_000);
+        assertEquals(0L, governor.reserve());
+    }
+
+    /**
+     * Verifies that an out-of-order response from the same window cannot raise the remaining budget.
+     */
+    @Test
+    void keepsLowestRemainingWithinWindow() {
+        AtomicLong clock = new AtomicLong(NOW);
+        GitRateGovernor governor = new GitRateGovernor(clock::get);
+        String reset = String.valueOf(NOW / 1_000 + 60);
+        governor.observe("0", "5000", reset);
+        governor.observe("4000", "5000", reset);
+
+        assertEquals(61_000L, governor.reserve());
+    }
+
+    /**
+     * Verifies that uncharged {@code 304} answers give their slot back, so revalidated requests never push
+     * the estimate below the budget reported by the server.
+     */
+    @Test
+    void notModifiedAnswersDoNotDrainBudget() {
+        AtomicLong clock = new AtomicLong(NOW);
+        GitRateGovernor governor = new GitRateGovernor(clock::get);
+        String reset = String.valueOf(NOW / 1_000 + 3_600);
+        governor.observe("100", "100", reset);
+
+        for (int request = 0; request < 500; request++) {
+            assertEquals(0L, governor.reserve());
+            governor.observe("100", "100", reset);
+            governor.refund();
+        }
+    }
+
+    /**
+     * Verifies that retries wait for the reset with a five-second floor and otherwise back off exponentially.
+     */
+    @Test
+    void backoffUsesResetHeaderWithFloor() {
+        assertEquals(30_000L, GitRateGovernor.backoff(String.valueOf(NOW / 1_000 + 30), 0, NOW));
+        assertEquals(5_000L, GitRateGovernor.backoff(String.valueOf(NOW / 1_000), 0, NOW));
+        assertEquals(12_000L, GitRateGovernor.backoff(null, 2, NOW));
+    }
+}
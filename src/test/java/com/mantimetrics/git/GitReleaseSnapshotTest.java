@@ -0,0 +1,77 @@
+package com.mantimetrics.git;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the compact {@link GitReleaseSnapshot} representation.
+ */
+class GitReleaseSnapshotTest {
+    private static final String SAMPLE = "src/main/java/com/acme/Sample.java";
+    private static final String OTHER = "src/main/java/com/acme/Other.java";
+
+    /**
+     * Verifies that the per-file accessors and the map views expose the aggregated values.
+     */
+    @Test
+    void exposesAggregatesPerFile() {
+        GitReleaseSnapshot data = GitPrevReleaseBuilder.aggregate(List.of(
+                commit("a1", "PROJ-1 fix", "Alice", file(SAMPLE, 3, 1), file(OTHER, 2, 0)),
+                commit("b2", "refactor", "", file(SAMPLE, 5, 4)),
+                commit("c3", "PROJ-1 PROJ-2 follow-up", "Bob", file(SAMPLE, 1, 1), file("README.md", 9, 9))
+        ), false, new StringDictionary());
+
+        assertEquals(List.of("a1", "b2", "c3"), data.touchesFor(SAMPLE));
+        assertEquals(List.of("a1", "c3"), data.issueTouchesFor(SAMPLE));
+        assertEquals(List.of("PROJ-1", "PROJ-2"), data.issueKeysFor(SAMPLE));
+        assertEquals(List.of("Alice", "Bob"), data.authorsFor(SAMPLE));
+        assertEquals(9, data.additionsFor(SAMPLE));
+        assertEquals(15, data.churnFor(SAMPLE));
+        assertEquals(0, data.churnFor("README.md"));
+        assertTrue(data.touchesFor("src/Missing.java").isEmpty());
+        assertEquals(3, data.totalJavaCommits());
+        assertEquals(2, data.issueLinkedJavaCommits());
+
+        assertEquals(Set.of(SAMPLE, OTHER), data.touchMap().keySet());
+        assertEquals(Map.of(SAMPLE, 9, OTHER, 2), data.additionsMap());
+        assertEquals(List.of("PROJ-1"), data.fileToIssueKeys().get(OTHER));
+        assertNull(data.fileToIssueKeys().get("README.md"));
+        assertFalse(data.touchMap().containsKey("README.md"));
+    }
+
+    /**
+     * Verifies that releases aggregated with the same dictionary share a single copy of each string.
+     */
+    @Test
+    void sharesInternedStringsAcrossReleases() {
+        StringDictionary dictionary = new StringDictionary();
+        GitReleaseSnapshot first = GitPrevReleaseBuilder.aggregate(
+                List.of(commit(new String("a1"), "PROJ-1", new String("Alice"), file(SAMPLE, 1, 0))),
+                false, dictionary);
+        GitReleaseSnapshot second = GitPrevReleaseBuilder.aggregate(
+                List.of(commit("d4", "PROJ-3", new String("Alice"), file(SAMPLE, 0, 1))),
+                false, dictionary);
+
+        assertSame(first.authorsFor(SAMPLE).get(0), second.authorsFor(SAMPLE).get(0));
+        assertEquals(List.of("d4"), second.touchesFor(SAMPLE));
+    }
+
+    private static GitPrevReleaseBuilder.ReleaseCommitSnapshot commit(
+            String sha, String message, String author, GitPrevReleaseBuilder.ReleaseCommitFile... files) {
+        return new GitPrevReleaseBuilder.ReleaseCommitSnapshot(sha, message, author, new LinkedHashSet<>(List.of(files)));
+    }
+
+    private static GitPrevReleaseBuilder.ReleaseCommitFile file(String path, int additions, int deletions) {
+        return new GitPrevReleaseBuilder.ReleaseCommitFile(path, additions, deletions);
+    }
+}
@@ -0,0 +1,71 @@
+package com.mantimetrics.git;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link GitResponseCache}.
+ */
+class GitResponseCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that cached responses survive a save and reopen.
+     */
+    @Test
+    void reopensSavedResponses() throws Exception {
+        Path file = tempDir.resolve("cache").resolve("responses.bin");
+        GitResponseCache cache = GitResponseCache.open(file, 1024);
+        cache.put("https://api.github.com/repos/a/b/tags", "\"e1\"", bytes("[{\"name\":\"v1\"}]"));
+        cache.save();
+
+        GitResponseCache reopened = GitResponseCache.open(file, 1024);
+
+        GitResponseCache.Entry entry = reopened.get("https://api.github.com/repos/a/b/tags");
+        assertEquals("\"e1\"", entry.etag());
+        assertArrayEquals(bytes("[{\"name\":\"v1\"}]"), entry.body());
+    }
+
+    /**
+     * Verifies that the least recently used responses are evicted beyond the byte budget.
+     */
+    @Test
+    void evictsLeastRecentlyUsedBeyondBudget() {
+        GitResponseCache cache = GitResponseCache.open(tempDir.resolve("responses.bin"), 10);
+        cache.put("a", "ea", new byte[4]);
+        cache.put("b", "eb", new byte[4]);
+        cache.get("a");
+        cache.put("c", "ec", new byte[4]);
+        cache.put("huge", "eh", new byte[11]);
+
+        assertEquals("ea", cache.get("a").etag());
+        assertNull(cache.get("b"));
+        assertEquals("ec", cache.get("c").etag());
+        assertNull(cache.get("huge"));
+    }
+
+    /**
+     * Verifies that an unreadable file is ignored instead of failing the run.
+     */
+    @Test
+    void startsEmptyWhenFileIsUnreadable() throws Exception {
+        Path file = tempDir.resolve("responses.bin");
+        Files.write(file, new byte[] { 9, 9 });
+
+        assertEquals(0, GitResponseCache.open(file, 1024).size());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
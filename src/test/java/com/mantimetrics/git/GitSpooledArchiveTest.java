@@ -0,0 +1,91 @@
+package com.mantimetrics.git;
+
+import com.mantimetrics.javaparsing.ParsedFileRappresentation;
+import com.mantimetrics.javaparsing.ScanResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GitSpooledArchive}.
+ */
+class GitSpooledArchiveTest {
+
+    /**
+     * Verifies that only production sources are listed and that each one decodes to the archived text.
+     */
+    @Test
+    void listsProductionSourcesAndDecodesThemOnRead() throws IOException {
+        byte[] archive = zip(
+                "repo-1.0/src/main/java/com/acme/App.java", "package com.acme;\nclass App {}\n",
+                "repo-1.0/src/test/java/com/acme/AppTest.java", "class AppTest {}\n",
+                "repo-1.0/README.md", "readme");
+
+        ScanResult result = GitSpooledArchive.spool(new ByteArrayInputStream(archive), "acme/repo@1.0");
+
+        assertEquals("acme/repo@1.0", result.id());
+        assertEquals(1, result.includedFiles().size());
+        ParsedFileRappresentation source = result.includedFiles().get(0);
+        assertEquals("src/main/java/com/acme/App.java", source.relativePath());
+        assertEquals("package com.acme;\nclass App {}\n", source.source().toString());
+        assertEquals(31, source.source().length());
+        assertEquals('p', source.source().charAt(0));
+    }
+
+    /**
+     * Verifies that closing the scan deletes the spooled file and that undecoded sources then fail clearly.
+     */
+    @Test
+    void closingScanReleasesArchive(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("release.zip");
+        java.nio.file.Files.write(file, zip(
+                "repo-1.0/src/main/java/com/acme/A.java", "class A {}\n",
+                "repo-1.0/src/main/java/com/acme/B.java", "class B {}\n"));
+
+        ScanResult result = GitSpooledArchive.open(file, "acme/repo@1.0");
+        assertEquals("class A {}\n", result.includedFiles().get(0).source().toString());
+        result.close();
+
+        assertFalse(java.nio.file.Files.exists(file));
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> result.includedFiles().get(1).source().toString());
+        assertTrue(failure.getMessage().contains("already closed"));
+    }
+
+    /**
+     * Verifies that an archive without production sources yields an empty scan.
+     */
+    @Test
+    void opensArchiveWithoutSources(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("empty.zip");
+        java.nio.file.Files.write(file, zip("repo-1.0/README.md", "readme"));
+
+        ScanResult result = GitSpooledArchive.open(file, "acme/repo@1.0");
+
+        assertTrue(result.includedFiles().isEmpty());
+    }
+
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (int index = 0; index < namesAndContents.length; index += 2) {
+                out.putNextEntry(new ZipEntry(namesAndContents[index]));
+                out.write(namesAndContents[index + 1].getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
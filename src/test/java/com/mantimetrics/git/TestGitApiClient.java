@@ -1,19 +1,21 @@
 package com.mantimetrics.git;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Test double for {@link GitClient} that returns preconfigured JSON payloads.
  */
 final class TestGitApiClient extends GitClient {
     private final ObjectMapper mapper = new ObjectMapper();
-    private final Map<String, JsonNode> responses = new HashMap<>();
-    private final Map<String, Integer> calls = new HashMap<>();
+    private final JsonFactory factory = mapper.getFactory();
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final Map<String, Integer> calls = new ConcurrentHashMap<>();
 
     /**
      * Creates the fake client using a dummy token.
@@ -30,7 +32,8 @@ final class TestGitApiClient extends GitClient {
      * @throws IOException when the fake payload cannot be parsed
      */
     void when(String url, String json) throws IOException {
-        responses.put(url, mapper.readTree(json));
+        mapper.readTree(json);
+        responses.put(url, json);
     }
 
     /**
@@ -44,19 +47,23 @@ final class TestGitApiClient extends GitClient {
     }
 
     /**
-     * Returns the configured fake response for the requested path.
+     * Decodes the configured fake response for the requested path.
      *
      * @param path requested URL
-     * @return configured JSON response
+     * @param reader decoder of the response body
+     * @param conditional ignored, the fake has no response cache
+     * @return decoded JSON response
      * @throws IOException when no fake response was configured
      */
     @Override
-    JsonNode getApi(String path) throws IOException {
+    <T> T execute(String path, JsonBodyReader<T> reader, boolean conditional) throws IOException {
         calls.merge(path, 1, Integer::sum);
-        JsonNode node = responses.get(path);
-        if (node == null) {
+        String json = responses.get(path);
+        if (json == null) {
             throw new IOException("No fake response configured for " + path);
         }
-        return node;
+        try (JsonParser parser = factory.createParser(json)) {
+            return reader.read(parser);
+        }
     }
 }
@@ -0,0 +1,90 @@
+package com.mantimetrics.javaparsing;
+
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.mantimetrics.datasetsetting.DatasetClassData;
+import com.mantimetrics.feature.ClassMetrics;
+import com.mantimetrics.feature.MetricsCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link ParsedTypeCache} and its use by {@link JavaClassDataASTBuilder}.
+ */
+class ParsedTypeCacheTest {
+    private static final String SOURCE = """
+            package sample;
+
+            public class Outer {
+                void run() {
+                    if (true) {
+                        int x = 1;
+                    }
+                }
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that unchanged content is analysed once and re-emitted with the release-specific fields.
+     */
+    @Test
+    void reusesResultsForUnchangedContentAcrossReleases() {
+        CountingCalculator calculator = new CountingCalculator();
+        JavaClassDataASTBuilder builder = new JavaClassDataASTBuilder();
+
+        List<DatasetClassData> first = builder.collect(
+                new ParsedFileRappresentation("src/main/java/sample/Outer.java", SOURCE, List.of()),
+                "demo", "v1", calculator);
+        List<DatasetClassData> second = builder.collect(
+                new ParsedFileRappresentation("src/main/java/sample/Outer.java", SOURCE, List.of("PROJ-1")),
+                "demo", "v2", calculator);
+
+        assertEquals(1, calculator.calls);
+        assertEquals("sample.Outer", second.get(0).getClassName());
+        assertEquals("v2", second.get(0).getReleaseId());
+        assertEquals(first.get(0).getMetrics(), second.get(0).getMetrics());
+        assertEquals(first.get(0).getStartLine(), second.get(0).getStartLine());
+    }
+
+    /**
+     * Verifies that results stored in the persistent tier are served after reopening the cache.
+     */
+    @Test
+    void servesResultsFromPersistentTierAfterReopen() throws Exception {
+        Path segment = tempDir.resolve("parsed-types.seg");
+        ParsedTypeCache.CachedType type = new ParsedTypeCache.CachedType("sample.Outer", 3, 9, new ClassMetrics(7, 2, 1));
+        String key = ParsedTypeCache.keyOf(SOURCE);
+
+        try (ParsedTypeCache cache = ParsedTypeCache.persistent(segment)) {
+            cache.put(key, List.of(type));
+        }
+        CountingCalculator calculator = new CountingCalculator();
+        List<DatasetClassData> rows;
+        try (ParsedTypeCache reopened = ParsedTypeCache.persistent(segment)) {
+            rows = new JavaClassDataASTBuilder(reopened).collect(
+                    new ParsedFileRappresentation("src/main/java/sample/Outer.java", SOURCE, List.of()),
+                    "demo", "v3", calculator);
+        }
+
+        assertEquals(0, calculator.calls);
+        assertEquals(new ClassMetrics(7, 2, 1), rows.get(0).getMetrics());
+        assertEquals(9, rows.get(0).getEndLine());
+    }
+
+    private static final class CountingCalculator extends MetricsCalculator {
+        private int calls;
+
+        @Override
+        public ClassMetrics computeAll(TypeDeclaration<?> type) {
+            calls++;
+            return super.computeAll(type);
+        }
+    }
+}
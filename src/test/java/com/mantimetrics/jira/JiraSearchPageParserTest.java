@@ -0,0 +1,72 @@
+package com.mantimetrics.jira;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link JiraSearchPageParser}.
+ */
+class JiraSearchPageParserTest {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * Verifies that the used issue fields are decoded and every other member is skipped.
+     */
+    @Test
+    void decodesIssueFieldsAndSkipsTheRest() throws Exception {
+        String page = """
+                {"expand":"names","startAt":0,"maxResults":50,"total":2,
+                 "issues":[
+                   {"id":"1","key":"BOOK-1","self":"x","fields":{
+                      "created":"2024-01-01T10:00:00.000+0000",
+                      "resolutiondate":"2024-02-01T10:00:00.000+0000",
+                      "versions":[{"name":"1.0","archived":false},{"id":"7"},{"name":"1.1"}],
+                      "priority":{"name":"Major","iconUrl":"y"},
+                      "issuetype":{"name":"Bug","subtask":false},
+                      "components":[{"name":"core"},{"name":"io"}],
+                      "description":{"nested":[1,2,{"deep":true}]}}},
+                   {"id":"2","fields":{"created":null,"versions":null,"components":[]}}
+                 ]}
+                """;
+
+        JiraSearchPager.SearchPage<JiraSearchPageParser.Issue> decoded = parse(page);
+
+        assertEquals(2, decoded.total());
+        assertEquals(50, decoded.maxResults());
+        JiraSearchPageParser.Issue first = decoded.values().get(0);
+        assertEquals("BOOK-1", first.key());
+        assertEquals("2024-01-01T10:00:00.000+0000", first.created());
+        assertEquals("2024-02-01T10:00:00.000+0000", first.resolutionDate());
+        assertEquals(List.of("1.0", "1.1"), first.versionNames());
+        assertEquals("Major", first.priority());
+        assertEquals("Bug", first.issueType());
+        assertEquals(2, first.componentCount());
+        JiraSearchPageParser.Issue second = decoded.values().get(1);
+        assertNull(second.key());
+        assertNull(second.created());
+        assertEquals(List.of(), second.versionNames());
+        assertEquals(0, second.componentCount());
+    }
+
+    /**
+     * Verifies that a non-object response is rejected.
+     */
+    @Test
+    void rejectsNonObjectResponse() {
+        assertThrows(IOException.class, () -> parse("[1,2]"));
+    }
+
+    private static JiraSearchPager.SearchPage<JiraSearchPageParser.Issue> parse(String json) throws IOException {
+        try (JsonParser parser = JSON.createParser(json)) {
+            return JiraSearchPageParser.read(parser, issue -> issue);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.mantimetrics.jira;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link JiraSearchPager}.
+ */
+class JiraSearchPagerTest {
+
+    /**
+     * Verifies that concurrent paging returns the issues in the same order as sequential paging, even when
+     * later pages complete first.
+     */
+    @Test
+    void mergesConcurrentPagesInOffsetOrder() throws Exception {
+        FakeSearch search = new FakeSearch(1_234, 100);
+
+        List<String> sequential = fetch(1, search);
+        List<String> concurrent = fetch(6, search);
+
+        assertEquals(1_234, sequential.size());
+        assertEquals(sequential, concurrent);
+        assertEquals("K-0", concurrent.get(0));
+        assertEquals("K-1233", concurrent.get(1_233));
+    }
+
+    /**
+     * Verifies that offsets follow the page size granted by the server instead of the requested one.
+     */
+    @Test
+    void stepsByServerGrantedPageSize() throws Exception {
+        FakeSearch search = new FakeSearch(120, 50);
+
+        List<String> keys = fetch(4, search);
+
+        assertEquals(120, keys.size());
+        assertEquals("K-119", keys.get(119));
+        assertEquals(keys, fetch(1, search));
+        assertTrue(search.requestedOffsets.containsKey(50));
+        assertTrue(search.requestedOffsets.containsKey(100));
+    }
+
+    /**
+     * Verifies that a failing page aborts the search with the original Jira exception.
+     */
+    @Test
+    void rethrowsPageFailure() {
+        FakeSearch search = new FakeSearch(500, 100);
+        search.failingOffset = 300;
+
+        JiraClientException failure = assertThrows(JiraClientException.class, () -> fetch(3, search));
+
+        assertEquals("JIRA HTTP 500 -> boom", failure.getMessage());
+    }
+
+    private static List<String> fetch(int parallelism, FakeSearch search) throws Exception {
+        return new JiraSearchPager(100, parallelism).fetchAll(search, FakeSearch::uri);
+    }
+
+    /** In-memory search endpoint whose later pages answer faster than earlier ones. */
+    private static final class FakeSearch implements JiraSearchPager.PageSource<String> {
+        private final int total;
+        private final int maxGranted;
+        private final ConcurrentHashMap<Integer, Boolean> requestedOffsets = new ConcurrentHashMap<>();
+        private volatile int failingOffset = -1;
+
+        FakeSearch(int total, int maxGranted) {
+            this.total = total;
+            this.maxGranted = maxGranted;
+        }
+
+        static URI uri(int startAt, int maxResults) {
+            return URI.create("https://jira.example.com/search?startAt=" + startAt + "&maxResults=" + maxResults);
+        }
+
+        @Override
+        public JiraSearchPager.SearchPage<String> get(URI uri) throws JiraClientException {
+            String[] query = uri.getQuery().split("&");
+            int startAt = Integer.parseInt(query[0].substring("startAt=".length()));
+            int granted = Math.min(maxGranted, Integer.parseInt(query[1].substring("maxResults=".length())));
+            requestedOffsets.put(startAt, Boolean.TRUE);
+            if (startAt == failingOffset) {
+                throw new JiraClientException("JIRA HTTP 500 -> boom");
+            }
+            pause(Math.max(0, 20 - startAt / 100));
+
+            List<String> keys = new ArrayList<>();
+            for (int index = startAt; index < Math.min(total, startAt + granted); index++) {
+                keys.add("K-" + index);
+            }
+            return new JiraSearchPager.SearchPage<>(total, granted, keys);
+        }
+
+        private static void pause(long millis) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(millis);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.mantimetrics.jira;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URIBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link JiraTicketReader}.
+ */
+class JiraTicketReaderTest {
+
+    /**
+     * Verifies that the delta search wraps the configured JQL and adds a relative update window.
+     */
+    @Test
+    void restrictsSearchToRecentlyUpdatedIssues() throws Exception {
+        String base = searchBase("project = BOOK AND issuetype = Bug");
+
+        assertEquals("(project = BOOK AND issuetype = Bug) AND updated >= -70m",
+                jql(JiraTicketReader.updatedSince(base, 70)));
+    }
+
+    /**
+     * Verifies that an ORDER BY clause stays at the end of the delta search.
+     */
+    @Test
+    void keepsOrderByClauseLast() throws Exception {
+        String base = searchBase("project = BOOK order by key ASC");
+
+        assertEquals("(project = BOOK) AND updated >= -5m order by key ASC",
+                jql(JiraTicketReader.updatedSince(base, 5)));
+    }
+
+    private static String searchBase(String jql) throws Exception {
+        return new URIBuilder("https://jira.example.com/rest/api/2/search")
+                .addParameter("jql", jql)
+                .build()
+                .toString();
+    }
+
+    private static String jql(String searchUrl) throws Exception {
+        return new URIBuilder(searchUrl).getQueryParams().stream()
+                .filter(parameter -> "jql".equals(parameter.getName()))
+                .map(NameValuePair::getValue)
+                .findFirst()
+                .orElseThrow();
+    }
+}
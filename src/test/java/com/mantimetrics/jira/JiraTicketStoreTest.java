@@ -0,0 +1,73 @@
+package com.mantimetrics.jira;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link JiraTicketStore}.
+ */
+class JiraTicketStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that synced searches, including unresolved tickets, survive a reopen of the store file.
+     */
+    @Test
+    void reopensSavedSearches() throws Exception {
+        Path file = tempDir.resolve("jira").resolve("PROJ.tickets");
+        List<JiraSnapshot> tickets = List.of(
+                new JiraSnapshot("PROJ-1", Instant.parse("2024-01-01T10:00:00Z"), List.of("1.0", "1.1"),
+                        4, 2, 3, Instant.parse("2024-02-01T10:00:00Z")),
+                new JiraSnapshot("PROJ-2", Instant.parse("2024-01-05T10:00:00Z"), List.of()));
+        Instant syncedAt = Instant.parse("2024-03-01T00:00:00Z");
+
+        JiraTicketStore store = JiraTicketStore.open(file);
+        store.put("bugs#key,versions,created", syncedAt, tickets);
+        store.save();
+
+        JiraTicketStore.SyncedSearch reopened = JiraTicketStore.open(file).get("bugs#key,versions,created");
+        assertEquals(syncedAt, reopened.syncedAt());
+        assertEquals(tickets, reopened.tickets());
+        assertNull(JiraTicketStore.open(file).get("all#key"));
+    }
+
+    /**
+     * Verifies that a file written by another format is ignored instead of failing the run.
+     */
+    @Test
+    void startsEmptyWhenFileIsUnreadable() throws Exception {
+        Path file = tempDir.resolve("PROJ.tickets");
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        assertNull(JiraTicketStore.open(file).get("bugs#key"));
+    }
+
+    /**
+     * Verifies that updated tickets replace their stored version and the result is in issue-number order.
+     */
+    @Test
+    void mergesUpdatedTicketsInKeyOrder() {
+        Instant created = Instant.parse("2024-01-01T00:00:00Z");
+        List<JiraSnapshot> stored = List.of(
+                new JiraSnapshot("PROJ-10", created, List.of("1.0")),
+                new JiraSnapshot("PROJ-9", created, List.of("1.0")));
+        List<JiraSnapshot> updated = List.of(
+                new JiraSnapshot("PROJ-10", created, List.of("1.0", "2.0")),
+                new JiraSnapshot("PROJ-100", created, List.of()));
+
+        List<JiraSnapshot> merged = JiraTicketStore.merge(stored, updated);
+
+        assertEquals(List.of("PROJ-9", "PROJ-10", "PROJ-100"), merged.stream().map(JiraSnapshot::key).toList());
+        assertEquals(List.of("1.0", "2.0"), merged.get(1).affectedVersions());
+    }
+}
@@ -0,0 +1,51 @@
+package com.mantimetrics.labeling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BuggyPathIndex}.
+ */
+class BuggyPathIndexTest {
+
+    /**
+     * Verifies that a ticket range marks its paths in every release from IV inclusive to FV exclusive.
+     */
+    @Test
+    void marksPathsOverInjectedRanges() {
+        BuggyPathIndex.Builder builder = new BuggyPathIndex.Builder(List.of("v1", "v2", "v3", "v4"));
+        builder.markBuggy(1, 3, Set.of("A.java", "B.java"));
+        builder.markBuggy(0, 1, Set.of("B.java"));
+        BuggyPathIndex index = builder.build();
+
+        assertFalse(index.isBuggy("v1", "A.java"));
+        assertTrue(index.isBuggy("v1", "B.java"));
+        assertTrue(index.isBuggy("v2", "A.java"));
+        assertTrue(index.isBuggy("v3", "B.java"));
+        assertFalse(index.isBuggy("v4", "A.java"));
+        assertFalse(index.isBuggy("v2", "C.java"));
+        assertFalse(index.isBuggy("v9", "A.java"));
+        assertEquals(3, index.releasesWithBuggyPaths());
+    }
+
+    /**
+     * Verifies that the map-based constructor of {@link ReleaseLabeling} answers through the index.
+     */
+    @Test
+    void buildsFromPathsGroupedByRelease() {
+        ReleaseLabeling labeling = new ReleaseLabeling(
+                Map.of("v1", Set.of("A.java"), "v2", Set.of()),
+                new ReleaseLabeling.Summary("test", 0, 0, 0, 0, 2, 2, ""));
+
+        assertTrue(labeling.isBuggy("v1", "A.java"));
+        assertFalse(labeling.isBuggy("v2", "A.java"));
+        assertTrue(labeling.withDatasetReleaseCount(1).isBuggy("v1", "A.java"));
+    }
+}
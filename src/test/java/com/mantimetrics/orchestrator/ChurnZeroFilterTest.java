@@ -0,0 +1,66 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.datasetsetting.DatasetClassData;
+import com.mantimetrics.datasetsetting.DatasetRow;
+import com.mantimetrics.feature.ClassMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ChurnZeroFilter}.
+ */
+class ChurnZeroFilterTest {
+
+    /**
+     * Verifies that zero-churn rows are dropped and that rows whose previous row was dropped lose the
+     * previous-release fields, as they would in a variant filtered release by release.
+     */
+    @Test
+    void replaysTheFilteredPreviousRelease() {
+        DatasetClassData previousUnchanged = row("sample.A", 0, 4, true);
+        DatasetClassData previousChanged = row("sample.B", 5, 2, true);
+        Map<String, DatasetRow> previousRows = Map.of(
+                previousUnchanged.getUniqueKey(), previousUnchanged,
+                previousChanged.getUniqueKey(), previousChanged);
+
+        DatasetClassData afterUnchanged = row("sample.A", 3, 1, false).toBuilder()
+                .prevCodeSmells(4).prevBuggy(true).build();
+        DatasetClassData afterChanged = row("sample.B", 7, 1, false).toBuilder()
+                .prevCodeSmells(2).prevBuggy(true).build();
+        DatasetClassData untouched = row("sample.C", 0, 0, false);
+
+        List<DatasetClassData> kept = ChurnZeroFilter.apply(
+                List.of(afterUnchanged, afterChanged, untouched), previousRows);
+
+        assertEquals(2, kept.size());
+        assertEquals("sample.A", kept.get(0).getClassName());
+        assertEquals(0, kept.get(0).getPrevCodeSmells());
+        assertFalse(kept.get(0).isPrevBuggy());
+        assertSame(afterChanged, kept.get(1));
+        assertEquals(2, kept.get(1).getPrevCodeSmells());
+        assertTrue(kept.get(1).isPrevBuggy());
+    }
+
+    private static DatasetClassData row(String className, int churn, int codeSmells, boolean buggy) {
+        return new DatasetClassData.Builder()
+                .projectName("demo")
+                .path("/src/main/java/" + className.replace('.', '/') + ".java/")
+                .className(className)
+                .releaseId("v1")
+                .metrics(new ClassMetrics(10, 2, 1))
+                .commitHashes(List.of())
+                .churn(churn)
+                .codeSmells(codeSmells)
+                .buggy(buggy)
+                .startLine(1)
+                .endLine(10)
+                .build();
+    }
+}
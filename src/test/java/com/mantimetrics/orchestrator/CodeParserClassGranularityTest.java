@@ -1,6 +1,8 @@
 package com.mantimetrics.orchestrator;
 
 import com.mantimetrics.javaparsing.JavaSourceParser;
+import com.mantimetrics.javaparsing.ParsedFileRappresentation;
+import com.mantimetrics.javaparsing.ScanResult;
 
 import com.mantimetrics.feature.MetricsCalculator;
 import com.mantimetrics.datasetsetting.DatasetClassData;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -78,6 +81,32 @@ class CodeParserClassGranularityTest {
         assertTrue(outer.getMetrics().getLoc() > 0);
     }
 
+    /**
+     * Verifies that parsing on a worker pool returns the same rows, in the same order, as sequential parsing.
+     */
+    @Test
+    void parseClassesKeepsSourceOrderWhenParsingConcurrently() {
+        List<ParsedFileRappresentation> files = new ArrayList<>();
+        for (int index = 0; index < 40; index++) {
+            files.add(new ParsedFileRappresentation(
+                    "src/main/java/sample/Type" + index + ".java",
+                    "package sample; class Type" + index + " { void run() { if (true) { } } }",
+                    List.of()));
+        }
+        ScanResult sources = new ScanResult("sample-repo@v1", files.size(), files);
+
+        List<String> sequential = new JavaSourceParser(null)
+                .parseClasses(sources, sources, "sample-repo", "v1", new MetricsCalculator(), Map.of())
+                .stream().map(DatasetClassData::getClassName).toList();
+        List<String> concurrent = new JavaSourceParser(null, null, 4)
+                .parseClasses(sources, sources, "sample-repo", "v1", new MetricsCalculator(), Map.of())
+                .stream().map(DatasetClassData::getClassName).toList();
+
+        assertEquals(40, concurrent.size());
+        assertEquals("sample.Type0", concurrent.get(0));
+        assertEquals(sequential, concurrent);
+    }
+
     /**
      * Creates a temporary source tree used by the class-granularity parser tests.
      *
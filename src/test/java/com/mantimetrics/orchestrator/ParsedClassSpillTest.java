@@ -0,0 +1,62 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.datasetsetting.DatasetClassData;
+import com.mantimetrics.feature.ClassMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ParsedClassSpill}.
+ */
+class ParsedClassSpillTest {
+
+    /**
+     * Verifies that spilled rows are read back with every parser-owned field intact and in the same order.
+     */
+    @Test
+    void readsBackSpilledRowsPerRelease() throws Exception {
+        List<DatasetClassData> v1 = List.of(
+                row("/src/main/java/sample/Outer.java/", "sample.Outer", "v1", 3, 20, List.of()),
+                row("/src/main/java/sample/Outer.java/", "sample.Outer.Inner", "v1", 8, 12, List.of()),
+                row("/src/main/java/sample/Other.java/", "sample.Other", "v1", 1, 5, List.of("PROJ-7")));
+
+        try (ParsedClassSpill spill = ParsedClassSpill.create()) {
+            spill.write("v1", v1);
+            spill.write("v2", List.of());
+
+            List<DatasetClassData> read = spill.read("v1");
+
+            assertEquals(3, read.size());
+            for (int index = 0; index < v1.size(); index++) {
+                assertEquals(v1.get(index).getUniqueKey(), read.get(index).getUniqueKey());
+                assertEquals(v1.get(index).getReleaseId(), read.get(index).getReleaseId());
+                assertEquals(v1.get(index).getProjectName(), read.get(index).getProjectName());
+                assertEquals(v1.get(index).getMetrics(), read.get(index).getMetrics());
+                assertEquals(v1.get(index).getStartLine(), read.get(index).getStartLine());
+                assertEquals(v1.get(index).getEndLine(), read.get(index).getEndLine());
+                assertEquals(v1.get(index).getCommitHashes(), read.get(index).getCommitHashes());
+            }
+            assertTrue(spill.read("v2").isEmpty());
+            assertTrue(spill.read("v3").isEmpty());
+        }
+    }
+
+    private static DatasetClassData row(String path, String className, String tag, int start, int end,
+                                        List<String> keys) {
+        return new DatasetClassData.Builder()
+                .projectName("demo")
+                .path(path)
+                .className(className)
+                .releaseId(tag)
+                .metrics(new ClassMetrics(end - start + 1, 2, 1))
+                .commitHashes(keys)
+                .buggy(false)
+                .startLine(start)
+                .endLine(end)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.javaparsing.JavaParsingException;
+import com.mantimetrics.javaparsing.ScanResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ReleasePipeline}.
+ */
+class ReleasePipelineTest {
+
+    /**
+     * Verifies that releases reach the consumer in timeline order while never exceeding the in-flight bound.
+     */
+    @Test
+    void consumesInOrderWithBoundedReleasesInFlight() {
+        List<String> tags = new ArrayList<>();
+        for (int index = 0; index < 12; index++) {
+            tags.add("v" + index);
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<String> consumed = new ArrayList<>();
+
+        new ReleasePipeline(3).run(tags,
+                tag -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return new ScanResult(tag, 0, List.of());
+                },
+                (tag, sources) -> {
+                    sleep(5);
+                    return List.of();
+                },
+                release -> {
+                    sleep(10);
+                    consumed.add(release.tag());
+                    inFlight.decrementAndGet();
+                });
+
+        assertEquals(tags, consumed);
+        assertTrue(maxInFlight.get() <= 3, "in flight: " + maxInFlight.get());
+    }
+
+    /**
+     * Verifies that a release whose sources cannot be loaded is handed to the consumer with its failure.
+     */
+    @Test
+    void deliversLoadFailuresToTheConsumer() {
+        List<ReleasePipeline.ParsedRelease> consumed = new ArrayList<>();
+
+        new ReleasePipeline(2).run(List.of("a", "b", "c"),
+                tag -> {
+                    if ("b".equals(tag)) {
+                        throw new JavaParsingException("Download failed for " + tag, new IOException("boom"));
+                    }
+                    return new ScanResult(tag, 0, List.of());
+                },
+                (tag, sources) -> List.of(),
+                consumed::add);
+
+        assertEquals(3, consumed.size());
+        assertNotNull(consumed.get(1).failure());
+        assertEquals("c", consumed.get(2).tag());
+    }
+
+    /**
+     * Verifies that an unexpected parse failure aborts the pipeline on the calling thread.
+     */
+    @Test
+    void propagatesStageFailures() {
+        ReleasePipeline pipeline = new ReleasePipeline(2);
+        assertThrows(IllegalStateException.class, () -> pipeline.run(List.of("a", "b"),
+                tag -> new ScanResult(tag, 0, List.of()),
+                (tag, sources) -> {
+                    throw new IllegalStateException("parser crashed");
+                },
+                release -> { }));
+    }
+
+    /**
+     * Verifies that an aborted run closes the sources of every release downloaded but never parsed.
+     */
+    @Test
+    void closesQueuedSourcesWhenTheRunAborts() {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        ReleasePipeline pipeline = new ReleasePipeline(4);
+
+        assertThrows(IllegalStateException.class, () -> pipeline.run(List.of("a", "b", "c", "d", "e"),
+                tag -> {
+                    opened.incrementAndGet();
+                    return new ScanResult(tag, 0, List.of(), closed::incrementAndGet);
+                },
+                (tag, sources) -> {
+                    sleep(20);
+                    return List.of();
+                },
+                release -> {
+                    throw new IllegalStateException("writer crashed");
+                }));
+
+        assertTrue(opened.get() > 1, "opened: " + opened.get());
+        assertEquals(opened.get(), closed.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.releaseselection.ReleaseException;
+import com.mantimetrics.utility.ProgressBar;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link ReleaseRangeLoader}.
+ */
+class ReleaseRangeLoaderTest {
+
+    /**
+     * Verifies that concurrently loaded ranges are returned in timeline order with the right previous tag.
+     */
+    @Test
+    void preservesTimelineOrderWhenLoadingConcurrently() {
+        List<String> tags = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            tags.add("v" + index);
+        }
+
+        Map<String, String> ranges;
+        try (ProgressBar bar = new ProgressBar("Test", tags.size())) {
+            ranges = new ReleaseRangeLoader(4).load(tags, bar, "loading", (previousTag, tag) -> {
+                Thread.sleep(20L - Integer.parseInt(tag.substring(1)));
+                return previousTag + ".." + tag;
+            });
+        }
+
+        assertEquals(tags, List.copyOf(ranges.keySet()));
+        assertEquals("null..v0", ranges.get("v0"));
+        assertEquals("v18..v19", ranges.get("v19"));
+    }
+
+    /**
+     * Verifies that a failing range surfaces as a release exception.
+     */
+    @Test
+    void wrapsRangeFailures() {
+        ReleaseRangeLoader loader = new ReleaseRangeLoader(3);
+        try (ProgressBar bar = new ProgressBar("Test", 3)) {
+            assertThrows(ReleaseException.class, () -> loader.load(List.of("a", "b", "c"), bar, "loading",
+                    (previousTag, tag) -> {
+                        if ("b".equals(tag)) {
+                            throw new IOException("boom");
+                        }
+                        return tag;
+                    }));
+        }
+    }
+
+    /**
+     * Verifies that an error thrown by a range propagates unchanged instead of being reported as I/O.
+     */
+    @Test
+    void propagatesErrorsUnchanged() {
+        ReleaseRangeLoader loader = new ReleaseRangeLoader(3);
+        AssertionError fatal = new AssertionError("fatal");
+        try (ProgressBar bar = new ProgressBar("Test", 3)) {
+            assertSame(fatal, assertThrows(AssertionError.class, () -> loader.load(List.of("a", "b", "c"), bar,
+                    "loading", (previousTag, tag) -> {
+                        if ("b".equals(tag)) {
+                            throw fatal;
+                        }
+                        return tag;
+                    })));
+        }
+    }
+}
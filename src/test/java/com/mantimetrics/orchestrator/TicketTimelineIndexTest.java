@@ -0,0 +1,93 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.jira.JiraSnapshot;
+import com.mantimetrics.releaseselection.ReleaseTimeline;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TicketTimelineIndex}.
+ */
+class TicketTimelineIndexTest {
+    private static final Instant EPOCH = Instant.parse("2020-01-01T00:00:00Z");
+
+    /**
+     * Verifies that the per-release counts and sequences match the per-release scan over every ticket,
+     * including releases without a date and tickets resolved before they were created.
+     */
+    @Test
+    void matchesThePerReleaseScan() {
+        Random random = new Random(7);
+        List<JiraSnapshot> tickets = new ArrayList<>();
+        for (int index = 0; index < 300; index++) {
+            Instant created = day(random.nextInt(100));
+            Instant resolved = random.nextInt(4) == 0 ? null : day(random.nextInt(120));
+            tickets.add(new JiraSnapshot("T-" + index, created, List.of(), 0, 0, 0, resolved));
+        }
+        List<String> tags = new ArrayList<>();
+        Map<String, Instant> tagDates = new LinkedHashMap<>();
+        for (int index = 0; index < 15; index++) {
+            tags.add("v" + index);
+            if (index != 4) {
+                tagDates.put("v" + index, day(index * 8));
+            }
+        }
+        ReleaseTimeline timeline = new ReleaseTimeline(tags, tagDates);
+
+        Map<String, Integer> open = TicketTimelineIndex.openTicketsByRelease(timeline, tickets);
+        Map<String, List<String>> ordered = TicketTimelineIndex.orderedTicketsByRelease(timeline, tickets);
+
+        for (String tag : tags) {
+            Instant date = tagDates.get(tag);
+            assertEquals(scanOpen(tickets, date), (int) open.get(tag), tag);
+            assertEquals(scanOrdered(tickets, date), ordered.get(tag), tag);
+        }
+        assertTrue(ordered.get("v4").isEmpty());
+    }
+
+    private static int scanOpen(List<JiraSnapshot> tickets, Instant date) {
+        int count = 0;
+        if (date != null) {
+            for (JiraSnapshot ticket : tickets) {
+                boolean createdByNow = !ticket.createdDate().isAfter(date);
+                boolean stillOpen = ticket.resolvedDate() == null || ticket.resolvedDate().isAfter(date);
+                if (createdByNow && stillOpen) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static List<String> scanOrdered(List<JiraSnapshot> tickets, Instant date) {
+        List<JiraSnapshot> sorted = new ArrayList<>(tickets);
+        sorted.sort(Comparator.comparing(TicketTimelineIndexTest::effectiveDate));
+        List<String> keys = new ArrayList<>();
+        if (date != null) {
+            for (JiraSnapshot ticket : sorted) {
+                if (!effectiveDate(ticket).isAfter(date)) {
+                    keys.add(ticket.key());
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static Instant effectiveDate(JiraSnapshot ticket) {
+        return ticket.resolvedDate() != null ? ticket.resolvedDate() : ticket.createdDate();
+    }
+
+    private static Instant day(int offset) {
+        return EPOCH.plusSeconds(offset * 86_400L);
+    }
+}
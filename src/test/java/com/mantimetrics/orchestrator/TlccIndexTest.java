@@ -0,0 +1,83 @@
+package com.mantimetrics.orchestrator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link TlccIndex}.
+ */
+class TlccIndexTest {
+
+    /**
+     * Verifies the TLCC weights on a small window where the last ticket only counts towards TLCC_Lin.
+     */
+    @Test
+    void weightsTicketsByRecency() {
+        TlccIndex index = TlccIndex.build(List.of("T-1", "T-2", "T-3"),
+                Map.of("T-1", Set.of("A.java"), "T-3", Set.of("A.java", "B.java")));
+
+        double[] tlcc = index.compute("A.java");
+
+        assertEquals((1.0 / 3 + 1.0) / 3, tlcc[0], 1e-12);
+        assertEquals((1.0 / Math.log(3)) / 3, tlcc[1], 1e-12);
+        assertArrayEquals(new double[]{0.0, 0.0}, index.compute("C.java"));
+    }
+
+    /**
+     * Verifies that the index gives exactly the values of the full-window loop it replaces, including
+     * tickets listed twice and tickets without touched paths.
+     */
+    @Test
+    void matchesTheFullWindowLoop() {
+        Random random = new Random(42);
+        List<String> paths = new ArrayList<>();
+        for (int p = 0; p < 40; p++) {
+            paths.add("src/P" + p + ".java");
+        }
+        Map<String, Set<String>> touched = new HashMap<>();
+        List<String> window = new ArrayList<>();
+        for (int t = 0; t < 500; t++) {
+            String key = "T-" + random.nextInt(400);
+            window.add(key);
+            if (random.nextInt(5) > 0) {
+                Set<String> set = touched.computeIfAbsent(key, ignored -> new HashSet<>());
+                for (int k = random.nextInt(4); k >= 0; k--) {
+                    set.add(paths.get(random.nextInt(paths.size())));
+                }
+            }
+        }
+
+        TlccIndex index = TlccIndex.build(window, touched);
+
+        for (String path : paths) {
+            assertArrayEquals(fullWindowLoop(path, window, touched), index.compute(path), path);
+        }
+    }
+
+    private static double[] fullWindowLoop(String path, List<String> keys, Map<String, Set<String>> touched) {
+        int n = keys.size();
+        double lin = 0.0;
+        double log = 0.0;
+        for (int idx = 0; idx < n; idx++) {
+            int i = idx + 1;
+            if (!touched.getOrDefault(keys.get(idx), Set.of()).contains(path)) {
+                continue;
+            }
+            lin += 1.0 / (1 + n - i);
+            if (i < n) {
+                log += 1.0 / Math.log(1 + (double) n - i);
+            }
+        }
+        return new double[]{lin / n, log / n};
+    }
+}
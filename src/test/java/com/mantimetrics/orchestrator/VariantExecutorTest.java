@@ -0,0 +1,67 @@
+package com.mantimetrics.orchestrator;
+
+import com.mantimetrics.datasetoutput.CSVException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link VariantExecutor}.
+ */
+class VariantExecutorTest {
+
+    /**
+     * Verifies that every group is processed on the worker pool before the call returns.
+     */
+    @Test
+    void runsEveryGroupOnTheWorkers() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger done = new AtomicInteger();
+
+        try (VariantExecutor executor = new VariantExecutor(4)) {
+            executor.forEach(List.of("a", "b", "c", "d"), group -> {
+                threads.add(Thread.currentThread().getName());
+                done.incrementAndGet();
+            });
+        }
+
+        assertEquals(4, done.get());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("variant-worker-")), threads.toString());
+    }
+
+    /**
+     * Verifies that a write failure of one group surfaces after the other groups have completed.
+     */
+    @Test
+    void reportsWriteFailuresAfterAllGroupsFinish() {
+        AtomicInteger done = new AtomicInteger();
+
+        try (VariantExecutor executor = new VariantExecutor(2)) {
+            assertThrows(CSVException.class, () -> executor.forEach(List.of(1, 2, 3), group -> {
+                if (group == 1) {
+                    throw new CSVException("write failed", new IOException("disk full"));
+                }
+                sleep(20);
+                done.incrementAndGet();
+            }));
+        }
+
+        assertEquals(2, done.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
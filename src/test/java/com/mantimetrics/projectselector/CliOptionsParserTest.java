@@ -1,9 +1,12 @@
 package com.mantimetrics.projectselector;
 
+import com.mantimetrics.git.SourceIngestion;
+import com.mantimetrics.smell.SmellEngine;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -59,4 +62,102 @@ class CliOptionsParserTest {
                 () -> parser.parse(new String[] { "--percentage=33" }));
         assertTrue(exception.getMessage().contains("--repo-url"));
     }
+
+    /**
+     * Verifies that the history parallelism defaults to sequential and accepts an explicit pool size.
+     */
+    @Test
+    void parsesHistoryParallelism() {
+        assertEquals(1, parser.parse(new String[0]).parallelism().historyParallelism());
+        assertEquals(8, parser.parse(new String[] { "--history-parallelism=8" })
+                .parallelism().historyParallelism());
+        assertThrows(IllegalArgumentException.class,
+                () -> parser.parse(new String[] { "--history-parallelism", "0" }));
+    }
+
+    /**
+     * Verifies that the parse thread count defaults to sequential and accepts both option forms.
+     */
+    @Test
+    void parsesParseThreads() {
+        assertEquals(1, parser.parse(new String[0]).parallelism().parseThreads());
+        assertEquals(16, parser.parse(new String[] { "--parse-threads", "16" }).parallelism().parseThreads());
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(new String[] { "--parse-threads=x" }));
+    }
+
+    /**
+     * Verifies that the variant worker count defaults to one and accepts both option forms.
+     */
+    @Test
+    void parsesVariantThreads() {
+        assertEquals(1, parser.parse(new String[0]).parallelism().variantThreads());
+        assertEquals(4, parser.parse(new String[] { "--variant-threads=4" }).parallelism().variantThreads());
+        assertEquals(2, parser.parse(new String[] { "--variant-threads", "2" }).parallelism().variantThreads());
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(new String[] { "--variant-threads=0" }));
+    }
+
+    /**
+     * Verifies that the Jira page worker count defaults to one and accepts both option forms.
+     */
+    @Test
+    void parsesJiraParallelism() {
+        assertEquals(1, parser.parse(new String[0]).parallelism().jiraParallelism());
+        assertEquals(8, parser.parse(new String[] { "--jira-parallelism=8" }).parallelism().jiraParallelism());
+        assertEquals(3, parser.parse(new String[] { "--jira-parallelism", "3" }).parallelism().jiraParallelism());
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(new String[] { "--jira-parallelism=0" }));
+    }
+
+    /**
+     * Verifies that archive ingestion defaults to memory and accepts both option forms.
+     */
+    @Test
+    void parsesSourceIngestion() {
+        assertEquals(SourceIngestion.MEMORY, parser.parse(new String[0]).sourceIngestion());
+        assertEquals(SourceIngestion.SPOOL,
+                parser.parse(new String[] { "--source-ingestion=spool" }).sourceIngestion());
+        assertEquals(SourceIngestion.SPOOL,
+                parser.parse(new String[] { "--source-ingestion", "SPOOL" }).sourceIngestion());
+    }
+
+    /**
+     * Verifies that the Sonar pre-scan worker count defaults to one and accepts both option forms.
+     */
+    @Test
+    void parsesSonarScanThreads() {
+        assertEquals(1, parser.parse(new String[0]).parallelism().sonarScanThreads());
+        assertEquals(4, parser.parse(new String[] { "--sonar-scan-threads=4" }).parallelism().sonarScanThreads());
+        assertEquals(2, parser.parse(new String[] { "--sonar-scan-threads", "2" }).parallelism().sonarScanThreads());
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(new String[] { "--sonar-scan-threads=0" }));
+    }
+
+    /**
+     * Verifies that the SonarCloud fetch parallelism defaults to one and accepts both option forms.
+     */
+    @Test
+    void parsesSonarFetchParallelism() {
+        assertEquals(1, parser.parse(new String[0]).parallelism().sonarFetchParallelism());
+        assertEquals(6, parser.parse(new String[] { "--sonar-fetch-parallelism=6" })
+                .parallelism().sonarFetchParallelism());
+        assertEquals(3, parser.parse(new String[] { "--sonar-fetch-parallelism", "3" })
+                .parallelism().sonarFetchParallelism());
+        assertThrows(IllegalArgumentException.class,
+                () -> parser.parse(new String[] { "--sonar-fetch-parallelism=0" }));
+    }
+
+    /**
+     * Verifies that the smell engine defaults to SonarCloud and that the PMD ruleset is passed through.
+     */
+    @Test
+    void parsesSmellEngine() {
+        OptionsSelector defaults = parser.parse(new String[0]);
+        assertEquals(SmellEngine.SONAR, defaults.smellEngine());
+        assertNull(defaults.pmdRuleset());
+
+        OptionsSelector inline = parser.parse(new String[] {
+                "--smell-engine=pmd", "--pmd-ruleset=category/java/design.xml" });
+        assertEquals(SmellEngine.PMD, inline.smellEngine());
+        assertEquals("category/java/design.xml", inline.pmdRuleset());
+
+        assertEquals(SmellEngine.PMD, parser.parse(new String[] { "--smell-engine", "PMD" }).smellEngine());
+    }
 }
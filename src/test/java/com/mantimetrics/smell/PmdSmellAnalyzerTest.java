@@ -0,0 +1,127 @@
+package com.mantimetrics.smell;
+
+import com.mantimetrics.javaparsing.ParsedFileRappresentation;
+import com.mantimetrics.javaparsing.ScanResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PmdSmellAnalyzer}.
+ */
+class PmdSmellAnalyzerTest {
+    private static final String SMELLY = """
+            package sample;
+
+            public class Smelly {
+                private int unused;
+            }
+            """;
+    private static final String CLEAN = """
+            package sample;
+
+            public class Clean {
+            }
+            """;
+
+    /**
+     * Verifies that an empty ruleset list falls back to the bundled ruleset and that entries are trimmed.
+     */
+    @Test
+    void parsesRulesetList() {
+        assertEquals(List.of(PmdSmellAnalyzer.DEFAULT_RULESET), PmdSmellAnalyzer.parseRulesets(null));
+        assertEquals(List.of(PmdSmellAnalyzer.DEFAULT_RULESET), PmdSmellAnalyzer.parseRulesets(" , "));
+        assertEquals(List.of("category/java/design.xml", "rules.xml"),
+                PmdSmellAnalyzer.parseRulesets(" category/java/design.xml ,rules.xml"));
+    }
+
+    /**
+     * Verifies that the same content gets a different cache key under a different ruleset.
+     */
+    @Test
+    void keysDependOnRuleset() throws Exception {
+        try (PmdSmellAnalyzer defaults = PmdSmellAnalyzer.create(null, 1, null);
+             PmdSmellAnalyzer design = PmdSmellAnalyzer.create("category/java/design.xml", 1, null)) {
+            String source = "class A {}";
+            assertEquals(defaults.keyOf(source), defaults.keyOf(source));
+            assertNotEquals(defaults.keyOf(source), design.keyOf(source));
+            assertNotEquals(defaults.keyOf(source), defaults.keyOf("class B {}"));
+        }
+    }
+
+    /**
+     * Verifies that counts stored by one run are served by the persistent tier of the next one.
+     */
+    @Test
+    void persistsCountsAcrossRuns(@TempDir Path tempDir) throws Exception {
+        Path segment = tempDir.resolve("pmd-smells.seg");
+        String key;
+        try (PmdSmellAnalyzer first = PmdSmellAnalyzer.create(null, 1, segment)) {
+            key = first.keyOf("class A {}");
+            assertNull(first.get(key));
+            first.put(key, 7);
+        }
+        try (PmdSmellAnalyzer second = PmdSmellAnalyzer.create(null, 1, segment)) {
+            assertEquals(Integer.valueOf(7), second.get(key));
+        }
+    }
+
+    /**
+     * Verifies that the bundled ruleset counts the smells of each path, analyses duplicated contents once and
+     * serves a second analysis of the same contents from the cache.
+     */
+    @Test
+    void countsSmellsPerPathAndCachesThem() throws Exception {
+        ScanResult release = new ScanResult("sample@v1", 3, List.of(
+                new ParsedFileRappresentation("src/main/java/sample/Smelly.java", SMELLY, List.of()),
+                new ParsedFileRappresentation("src/main/java/copy/Smelly.java", SMELLY, List.of()),
+                new ParsedFileRappresentation("src/main/java/sample/Clean.java", CLEAN, List.of())));
+        try (PmdSmellAnalyzer analyzer = PmdSmellAnalyzer.create(null, 1, null)) {
+            Map<String, Integer> smells = analyzer.analyze(release);
+
+            assertEquals(3, smells.size());
+            int smelly = smells.get("src/main/java/sample/Smelly.java");
+            assertTrue(smelly > 0, "the unused private field must be reported");
+            assertEquals(smelly, smells.get("src/main/java/copy/Smelly.java"));
+            assertEquals(Integer.valueOf(0), smells.get("src/main/java/sample/Clean.java"));
+            assertEquals(Integer.valueOf(smelly), analyzer.get(analyzer.keyOf(SMELLY)));
+
+            String cleanKey = analyzer.keyOf(CLEAN);
+            analyzer.put(cleanKey, 42);
+            Map<String, Integer> cached = analyzer.analyze(release);
+            assertEquals(Integer.valueOf(42), cached.get("src/main/java/sample/Clean.java"));
+            assertEquals(Integer.valueOf(smelly), cached.get("src/main/java/copy/Smelly.java"));
+        }
+    }
+
+    /**
+     * Verifies that a release analysed in one-file batches gets the same counts as one analysed in a single
+     * batch, and that a content already analysed by an earlier batch is served from the cache.
+     */
+    @Test
+    void analysesCacheMissesInBoundedBatches() throws Exception {
+        ScanResult release = new ScanResult("sample@v1", 4, List.of(
+                new ParsedFileRappresentation("src/main/java/sample/Smelly.java", SMELLY, List.of()),
+                new ParsedFileRappresentation("src/main/java/sample/Clean.java", CLEAN, List.of()),
+                new ParsedFileRappresentation("src/main/java/copy/Smelly.java", SMELLY, List.of()),
+                new ParsedFileRappresentation("src/main/java/copy/Clean.java", CLEAN, List.of())));
+        try (PmdSmellAnalyzer whole = PmdSmellAnalyzer.create(null, 1, null);
+             PmdSmellAnalyzer batched = PmdSmellAnalyzer.create(null, 1, null, 1)) {
+            Map<String, Integer> expected = whole.analyze(release);
+            Map<String, Integer> smells = batched.analyze(release);
+
+            assertEquals(4, smells.size());
+            assertEquals(expected, smells);
+            assertEquals(smells.get("src/main/java/sample/Smelly.java"), batched.get(batched.keyOf(SMELLY)));
+            assertEquals(Integer.valueOf(0), batched.get(batched.keyOf(CLEAN)));
+        }
+    }
+}
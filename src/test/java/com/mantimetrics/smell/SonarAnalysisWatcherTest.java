@@ -0,0 +1,83 @@
+package com.mantimetrics.smell;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link SonarAnalysisWatcher}.
+ */
+class SonarAnalysisWatcherTest {
+
+    /**
+     * Verifies that one listing completes every awaited version it contains and leaves the others pending.
+     */
+    @Test
+    void completesAwaitedVersionsFromOneListing() throws Exception {
+        List<SonarAnalysis> analyses = new CopyOnWriteArrayList<>();
+        AtomicInteger listings = new AtomicInteger();
+        try (SonarAnalysisWatcher watcher = new SonarAnalysisWatcher(() -> {
+            listings.incrementAndGet();
+            return List.copyOf(analyses);
+        }, 3_600_000L, 3_600_000L)) {
+            CompletableFuture<Boolean> first = watcher.await("1.0");
+            CompletableFuture<Boolean> second = watcher.await("1.1");
+            CompletableFuture<Boolean> third = watcher.await("1.2");
+            assertSame(first, watcher.await("1.0"));
+
+            analyses.add(analysis("1.0"));
+            analyses.add(analysis("1.1"));
+            watcher.poll();
+
+            assertEquals(1, listings.get());
+            assertTrue(first.get(1, TimeUnit.SECONDS));
+            assertTrue(second.get(1, TimeUnit.SECONDS));
+            assertFalse(third.isDone());
+        }
+    }
+
+    /**
+     * Verifies that a version that never appears completes with {@code false} after the timeout.
+     */
+    @Test
+    void expiresVersionsThatNeverAppear() throws Exception {
+        try (SonarAnalysisWatcher watcher = new SonarAnalysisWatcher(List::of, 10L, 50L)) {
+            assertFalse(watcher.await("2.0").get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Verifies that a failing listing is retried on the next poll instead of failing the waiters.
+     */
+    @Test
+    void retriesAfterListingFailure() throws Exception {
+        AtomicInteger listings = new AtomicInteger();
+        try (SonarAnalysisWatcher watcher = new SonarAnalysisWatcher(() -> {
+            if (listings.incrementAndGet() == 1) {
+                throw new SonarException("SonarCloud HTTP 503");
+            }
+            return List.of(analysis("3.0"));
+        }, 3_600_000L, 3_600_000L)) {
+            CompletableFuture<Boolean> waiting = watcher.await("3.0");
+
+            watcher.poll();
+            assertFalse(waiting.isDone());
+            watcher.poll();
+            assertTrue(waiting.get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    private static SonarAnalysis analysis(String version) {
+        return new SonarAnalysis("AX-" + version, Instant.parse("2024-01-01T00:00:00Z"), version);
+    }
+}
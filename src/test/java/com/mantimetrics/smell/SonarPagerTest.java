@@ -0,0 +1,107 @@
+package com.mantimetrics.smell;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link SonarPager}.
+ */
+class SonarPagerTest {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /**
+     * Verifies that concurrent paging returns the pages in the same order as sequential paging, even when
+     * later pages complete first.
+     */
+    @Test
+    void mergesConcurrentPagesInPageOrder() throws Exception {
+        FakeTree tree = new FakeTree(1_234);
+
+        List<String> sequential = fetch(1, tree);
+        List<String> concurrent = fetch(5, tree);
+
+        assertEquals(1_234, sequential.size());
+        assertEquals(sequential, concurrent);
+        assertEquals("F-0", concurrent.get(0));
+        assertEquals("F-1233", concurrent.get(1_233));
+    }
+
+    /**
+     * Verifies that an empty first page stops the search without further requests.
+     */
+    @Test
+    void stopsOnEmptyFirstPage() throws Exception {
+        FakeTree tree = new FakeTree(0);
+
+        assertEquals(List.of(), fetch(4, tree));
+        assertEquals(1, tree.requests);
+    }
+
+    /**
+     * Verifies that a failing page aborts the search with the original SonarCloud exception.
+     */
+    @Test
+    void rethrowsPageFailure() {
+        FakeTree tree = new FakeTree(500);
+        tree.failingPage = 4;
+
+        SonarException failure = assertThrows(SonarException.class, () -> fetch(3, tree));
+
+        assertEquals("SonarCloud HTTP 500 for page 4", failure.getMessage());
+    }
+
+    private static List<String> fetch(int parallelism, FakeTree tree) throws Exception {
+        List<String> keys = new ArrayList<>();
+        for (JsonNode page : new SonarPager(100, parallelism).fetchAll(tree, FakeTree::uri, "components")) {
+            page.path("components").forEach(component -> keys.add(component.path("key").asText()));
+        }
+        return keys;
+    }
+
+    /** In-memory component tree whose later pages answer faster than earlier ones. */
+    private static final class FakeTree implements SonarPager.PageSource {
+        private final int total;
+        private volatile int failingPage = -1;
+        private volatile int requests;
+
+        FakeTree(int total) {
+            this.total = total;
+        }
+
+        static URI uri(int page) {
+            return URI.create("https://sonar.test/api/measures/component_tree?p=" + page);
+        }
+
+        @Override
+        public JsonNode get(URI uri) throws SonarException {
+            requests++;
+            int page = Integer.parseInt(uri.getQuery().substring("p=".length()));
+            if (page == failingPage) {
+                throw new SonarException("SonarCloud HTTP 500 for page " + page);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(Math.max(0, 20 - page * 2L));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            ObjectNode response = JSON.createObjectNode();
+            response.putObject("paging").put("total", total);
+            ArrayNode components = response.putArray("components");
+            for (int index = (page - 1) * 100; index < Math.min(total, page * 100); index++) {
+                components.addObject().put("key", "F-" + index);
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.mantimetrics.smell;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link SonarSmellIndex}.
+ */
+class SonarSmellIndexTest {
+    private static final String PROJECT = "org_repo";
+
+    /**
+     * Verifies that an analysis already in the local store is served without a {@code component_tree} call.
+     */
+    @Test
+    void servesStoredAnalysisWithoutApiCall(@TempDir Path tempDir) throws Exception {
+        FakeSonar sonar = new FakeSonar();
+        try (SonarSmellStore store = SonarSmellStore.open(tempDir.resolve("sonar-smells.seg"));
+             SonarClient client = new SonarClient(sonar, null)) {
+            store.put(PROJECT, "A1", Map.of("src/main/java/a/A.java", 5));
+            SonarSmellIndex index = SonarSmellIndex.build(client, PROJECT, store);
+
+            assertEquals(Map.of("src/main/java/a/A.java", 5), index.getSmellsForTag("v1"));
+            assertEquals(0, sonar.treeCalls("A1"));
+        }
+    }
+
+    /**
+     * Verifies that fetched analyses are written through to the store, except empty ones, which the next
+     * run fetches again.
+     */
+    @Test
+    void storesOnlyNonEmptyAnalyses(@TempDir Path tempDir) throws Exception {
+        FakeSonar sonar = new FakeSonar();
+        try (SonarSmellStore store = SonarSmellStore.open(tempDir.resolve("sonar-smells.seg"));
+             SonarClient client = new SonarClient(sonar, null)) {
+            SonarSmellIndex first = SonarSmellIndex.build(client, PROJECT, store);
+            assertEquals(Map.of("src/main/java/a/B.java", 1),
+                    first.getSmellsForDate(Instant.parse("2024-02-15T00:00:00Z")));
+            assertEquals(Map.of(), first.getSmellsForDate(Instant.parse("2024-03-15T00:00:00Z")));
+            assertEquals(Map.of("src/main/java/a/B.java", 1), store.get(PROJECT, "A2"));
+            assertNull(store.get(PROJECT, "A3"));
+
+            SonarSmellIndex second = SonarSmellIndex.build(client, PROJECT, store);
+            second.getSmellsForDate(Instant.parse("2024-02-15T00:00:00Z"));
+            second.getSmellsForDate(Instant.parse("2024-03-15T00:00:00Z"));
+            assertEquals(1, sonar.treeCalls("A2"));
+            assertEquals(2, sonar.treeCalls("A3"));
+        }
+    }
+
+    /**
+     * Verifies that releases sharing an analysis cost one fetch per distinct analysis and that the later
+     * lookups are served from the prefetched cache.
+     */
+    @Test
+    void prefetchesEachDistinctAnalysisOnce() throws Exception {
+        FakeSonar sonar = new FakeSonar();
+        Map<String, Instant> dates = Map.of(
+                "r0", Instant.parse("2023-12-01T00:00:00Z"),
+                "v1", Instant.parse("2024-01-10T00:00:00Z"),
+                "r2", Instant.parse("2024-02-05T00:00:00Z"),
+                "r3", Instant.parse("2024-02-20T00:00:00Z"),
+                "r4", Instant.parse("2024-03-05T00:00:00Z"));
+        try (SonarClient client = new SonarClient(sonar, null)) {
+            SonarSmellIndex index = SonarSmellIndex.build(client, PROJECT);
+
+            assertEquals(3, index.prefetch(List.of("r0", "v1", "r2", "r3", "r4"), dates, 4));
+            assertEquals(1, sonar.treeCalls("A1"));
+            assertEquals(1, sonar.treeCalls("A2"));
+            assertEquals(1, sonar.treeCalls("A3"));
+
+            assertEquals(Map.of("src/main/java/a/A.java", 3), index.getSmellsForTag("v1"));
+            assertEquals(Map.of("src/main/java/a/A.java", 3), index.getSmellsForDate(dates.get("r0")));
+            assertEquals(Map.of("src/main/java/a/B.java", 1), index.getSmellsForDate(dates.get("r2")));
+            assertEquals(Map.of("src/main/java/a/B.java", 1), index.getSmellsForDate(dates.get("r3")));
+            assertEquals(Map.of(), index.getSmellsForDate(dates.get("r4")));
+            assertEquals(Map.of(), index.getSmellsForTag("r2"));
+            assertEquals(1, sonar.treeCalls("A1"));
+            assertEquals(1, sonar.treeCalls("A2"));
+            assertEquals(1, sonar.treeCalls("A3"));
+        }
+    }
+
+    /**
+     * In-memory SonarCloud answering the analyses search and the {@code component_tree} of three analyses:
+     * {@code A1} (version {@code v1}), {@code A2} and {@code A3}, the last one without measures.
+     */
+    @SuppressWarnings("deprecation")
+    static final class FakeSonar extends CloseableHttpClient {
+        private static final String ANALYSES = """
+                {"paging": {"total": 3}, "analyses": [
+                  {"key": "A1", "date": "2024-01-01T00:00:00+0000", "projectVersion": "v1"},
+                  {"key": "A2", "date": "2024-02-01T00:00:00+0000"},
+                  {"key": "A3", "date": "2024-03-01T00:00:00+0000"}
+                ]}
+                """;
+        private static final Map<String, String> TREES = Map.of(
+                "A1", tree("src/main/java/a/A.java", 3),
+                "A2", tree("src/main/java/a/B.java", 1),
+                "A3", "{\"paging\": {\"total\": 0}, \"components\": []}");
+
+        private final Map<String, AtomicInteger> treeCalls = new ConcurrentHashMap<>();
+
+        int treeCalls(String analysisKey) {
+            AtomicInteger calls = treeCalls.get(analysisKey);
+            return calls != null ? calls.get() : 0;
+        }
+
+        @Override
+        protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) {
+            URI uri = ((HttpUriRequest) request).getURI();
+            if (uri.getPath().endsWith("/api/project_analyses/search")) {
+                return ok(ANALYSES);
+            }
+            String analysis = URLEncodedUtils.parse(uri, StandardCharsets.UTF_8).stream()
+                    .filter(parameter -> parameter.getName().equals("analysisId"))
+                    .map(NameValuePair::getValue)
+                    .findFirst()
+                    .orElseThrow();
+            treeCalls.computeIfAbsent(analysis, ignored -> new AtomicInteger()).incrementAndGet();
+            return ok(TREES.get(analysis));
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public HttpParams getParams() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ClientConnectionManager getConnectionManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        private static String tree(String path, int smells) {
+            return "{\"paging\": {\"total\": 1}, \"components\": [{\"key\": \"" + PROJECT + ":" + path
+                    + "\", \"measures\": [{\"metric\": \"code_smells\", \"value\": \"" + smells + "\"}]}]}";
+        }
+
+        private static CloseableHttpResponse ok(String body) {
+            Response response = new Response();
+            response.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+            return response;
+        }
+    }
+
+    /** Canned HTTP 200 response. */
+    private static final class Response extends BasicHttpResponse implements CloseableHttpResponse {
+        Response() {
+            super(HttpVersion.HTTP_1_1, 200, "OK");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mantimetrics.smell;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link SonarSmellStore}.
+ */
+class SonarSmellStoreTest {
+
+    /**
+     * Verifies that a stored analysis is read back by a later run and that other analyses stay unknown.
+     */
+    @Test
+    void readsBackStoredAnalyses(@TempDir Path tempDir) throws Exception {
+        Path segment = tempDir.resolve("sonar-smells.seg");
+        Map<String, Integer> smells = new LinkedHashMap<>();
+        smells.put("src/main/java/a/A.java", 3);
+        smells.put("src/main/java/a/B.java", 0);
+        try (SonarSmellStore store = SonarSmellStore.open(segment)) {
+            assertNull(store.get("org_repo", "AX1"));
+            store.put("org_repo", "AX1", smells);
+            store.put("org_repo", "AX1", Map.of());
+        }
+        try (SonarSmellStore store = SonarSmellStore.open(segment)) {
+            assertEquals(smells, store.get("org_repo", "AX1"));
+            assertNull(store.get("org_repo", "AX2"));
+            assertNull(store.get("other_repo", "AX1"));
+        }
+    }
+
+    /**
+     * Verifies that the no-op store never returns a snapshot.
+     */
+    @Test
+    void noneStoresNothing() {
+        SonarSmellStore.NONE.put("org_repo", "AX1", Map.of("A.java", 1));
+        assertNull(SonarSmellStore.NONE.get("org_repo", "AX1"));
+    }
+}
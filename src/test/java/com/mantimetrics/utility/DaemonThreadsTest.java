@@ -0,0 +1,60 @@
+package com.mantimetrics.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link DaemonThreads}.
+ */
+class DaemonThreadsTest {
+
+    /**
+     * Verifies that the factory numbers its daemon threads after the prefix.
+     */
+    @Test
+    void namesDaemonThreadsAfterPrefix() {
+        ThreadFactory factory = DaemonThreads.factory("worker");
+        Thread first = factory.newThread(() -> { });
+        Thread second = factory.newThread(() -> { });
+
+        assertEquals("worker-1", first.getName());
+        assertEquals("worker-2", second.getName());
+        assertTrue(first.isDaemon());
+    }
+
+    /**
+     * Verifies that I/O and caller failures are rethrown unchanged and other checked failures are wrapped.
+     */
+    @Test
+    void unwrapsTaskFailures() throws Exception {
+        IOException io = new IOException("io");
+        TaskException task = new TaskException("task", null);
+
+        assertEquals("done", DaemonThreads.await(CompletableFuture.completedFuture("done"), "testing",
+                TaskException.class, TaskException::new));
+        assertSame(io, assertThrows(IOException.class, () -> DaemonThreads.await(
+                CompletableFuture.failedFuture(io), "testing", TaskException.class, TaskException::new)));
+        assertSame(task, assertThrows(TaskException.class, () -> DaemonThreads.await(
+                CompletableFuture.failedFuture(task), "testing", TaskException.class, TaskException::new)));
+        TaskException wrapped = assertThrows(TaskException.class, () -> DaemonThreads.await(
+                CompletableFuture.failedFuture(new Exception("other")), "testing", TaskException.class,
+                TaskException::new));
+        assertEquals("Failed while testing", wrapped.getMessage());
+        assertEquals("other", wrapped.getCause().getMessage());
+    }
+
+    /** Checked failure of the calling component. */
+    private static final class TaskException extends Exception {
+        TaskException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}